@@ -2,7 +2,10 @@ package org.infra.genc.apigateway.filter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.infra.genc.apigateway.util.JwtUtil;
+import org.infra.genc.apigateway.util.JwtPrincipal;
+import org.infra.genc.apigateway.util.LogRateLimiter;
+import org.infra.genc.apigateway.util.VerifiedTokenCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.http.HttpStatus;
@@ -11,15 +14,29 @@ import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+
 @Component
 @Slf4j
 public class AuthenticationFilter extends AbstractGatewayFilterFactory<AuthenticationFilter.Config> {
 
-    private final JwtUtil jwtUtil;
+    // Exchange attribute read by AuditLoggingFilter for the access log line
+    public static final String AUTH_USER_ID_ATTR = "auth.userId";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // This runs on the Netty event loop for every request: success lines are sampled and
+    // failure lines capped, instead of several INFO lines per request
+    private final LogRateLimiter successLog;
+    private final LogRateLimiter failureLog;
 
-    public AuthenticationFilter(JwtUtil jwtUtil) {
+    public AuthenticationFilter(VerifiedTokenCache verifiedTokenCache,
+                                @Value("${gateway.logging.auth-success-per-second:1}") int successPerSecond,
+                                @Value("${gateway.logging.auth-failure-per-second:10}") int failurePerSecond) {
         super(Config.class);
-        this.jwtUtil = jwtUtil;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.successLog = new LogRateLimiter(successPerSecond);
+        this.failureLog = new LogRateLimiter(failurePerSecond);
     }
 
     @Override
@@ -39,31 +56,30 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
                 String token = authHeader.substring(7);
 
                 try {
-                    if (!jwtUtil.validateToken(token)) {
+                    // One verification per distinct token; repeats are served from the cache until "exp"
+                    JwtPrincipal principal = verifiedTokenCache.verify(token);
+                    if (principal.isExpired(Instant.now())
+                            || principal.userName() == null || principal.userName().isEmpty()) {
                         return setUnauthorizedResponse(response, "Invalid or expired token");
                     }
 
-                    Integer userId = jwtUtil.extractUserId(token);           // "userId": 8
-                    String userName = jwtUtil.extractUsername(token);        // "sub": "@Allen"
-                    String roles = jwtUtil.extractRolesFromToken(token);     // "roles": "ROLE_BUYER,ROLE_ADMIN"
-
-                    log.info("Token validation passed for user: {} (ID: {})", userName, userId);
+                    Integer userId = principal.userId();           // "userId": 8
+                    String userName = principal.userName();        // "sub": "@Allen"
+                    String roles = principal.roles();              // "roles": "ROLE_BUYER,ROLE_ADMIN"
 
                     // ✅ CRITICAL: Check if user has roles (authorization requirement)
                     if (roles == null || roles.trim().isEmpty()) {
-                        log.warn("UNAUTHORIZED: User {} (ID: {}) has NO ROLES assigned", userName, userId);
-                        return setUnauthorizedResponse(response, "User has no roles assigned - authorization required");
+                        return setUnauthorizedResponse(response, "User " + userName + " has no roles assigned - authorization required");
                     }
 
                     if (userId == null || userId <= 0) {
-                        log.warn("UNAUTHORIZED: Invalid userId for user: {}", userName);
-                        return setUnauthorizedResponse(response, "Invalid user ID in token");
+                        return setUnauthorizedResponse(response, "Invalid user ID in token for user " + userName);
                     }
 
-                    log.info("✓ Authorization successful");
-                    log.info("  - Username: {} (sub claim)", userName);
-                    log.info("  - User ID: {}", userId);
-                    log.info("  - Roles: {}", roles);
+                    if (successLog.tryAcquire()) {
+                        log.info("✓ Authorized user: {} (ID: {}) roles={} [{} similar not logged]",
+                                userName, userId, roles, successLog.drainSuppressed());
+                    }
 
                     ServerHttpRequest modifiedRequest = request.mutate()
                             .header("X-Auth-User-Id", userId.toString())
@@ -71,14 +87,12 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
                             .header("X-Auth-User-Roles", roles)
                             .build();
 
-                    log.debug("✓ Authorization headers injected: userId={}, userName={}, roles={}",
-                            userId, userName, roles);
-
+                    exchange.getAttributes().put(AUTH_USER_ID_ATTR, userId);
                     exchange = exchange.mutate().request(modifiedRequest).build();
 
                 } catch (Exception e) {
-                    log.error("Token validation failed: {}", e.getMessage(), e);
-                    return setUnauthorizedResponse(response, "Token validation failed");
+                    // Expired or forged tokens are routine; no stack trace
+                    return setUnauthorizedResponse(response, "Token validation failed: " + e.getMessage());
                 }
             }
 
@@ -97,7 +111,9 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
 
     private Mono<Void> setUnauthorizedResponse(ServerHttpResponse response, String message) {
         response.setStatusCode(HttpStatus.UNAUTHORIZED);
-        log.warn("❌ Unauthorized: {}", message);
+        if (failureLog.tryAcquire()) {
+            log.warn("❌ Unauthorized: {} [{} similar not logged]", message, failureLog.drainSuppressed());
+        }
         return response.setComplete();
     }
 
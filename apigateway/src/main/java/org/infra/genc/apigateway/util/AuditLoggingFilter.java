@@ -1,71 +1,75 @@
 package org.infra.genc.apigateway.util;
 
+import org.infra.genc.apigateway.filter.AuthenticationFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.net.InetSocketAddress;
 
 /**
- * A single Global Filter to handle comprehensive audit logging for
- * both incoming API requests and outgoing API responses, including latency.
- * * This filter runs at a high precedence to wrap the entire execution chain.
+ * A single Global Filter that writes one access log line per request once it completes,
+ * including latency:
+ * <pre>
+ * method=GET path=/api/v1/product-service/products status=200 latency_ms=12.4 route=product-service user=8 client=10.0.0.5 id=3f2a1c
+ * </pre>
+ * Lines go to the "gateway.access" logger, which logback-spring.xml sends through its own
+ * non-blocking async appender. Errors and cancelled requests are logged too, with outcome set.
+ * This filter runs at the highest precedence to wrap the entire execution chain.
  */
 @Component
 public class AuditLoggingFilter implements GlobalFilter, Ordered {
 
-    private static final Logger log = LoggerFactory.getLogger(AuditLoggingFilter.class);
-
-    // Key used to store the request start time in the ServerWebExchange attributes.
-    private static final String START_TIME = "startTime";
+    private static final Logger accessLog = LoggerFactory.getLogger("gateway.access");
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-
-        // --- 1. PRE-ROUTE LOGGING (Request Phase) ---
-
-        // Store the start time to calculate latency later
-        exchange.getAttributes().put(START_TIME, System.currentTimeMillis());
-
-        final String requestId = exchange.getRequest().getId();
-        final String method = exchange.getRequest().getMethod().name();
-        final String uri = exchange.getRequest().getURI().getPath();
-        final String target = exchange.getRequest().getHeaders().getFirst("Host");
-
-        // Log the incoming request
-        log.info(" REQUEST [ID: {}] | {} {} | Target: {}",
-                requestId, method, uri, target);
-
-
-        // --- 2. CHAIN EXECUTION AND POST-ROUTE LOGGING (Response Phase) ---
-
-        // Proceed with the rest of the filter chain (which calls the downstream service)
+        if (!accessLog.isInfoEnabled()) {
+            return chain.filter(exchange);
+        }
+        final long start = System.nanoTime();
         return chain.filter(exchange)
-                // .then() executes the code AFTER the downstream service has returned
-                // and the filter chain is completing.
-                .then(Mono.fromRunnable(() -> {
-
-                    // Retrieve the execution time and status from the exchange
-                    Long startTime = exchange.getAttribute(START_TIME);
-                    long duration = startTime != null ? (System.currentTimeMillis() - startTime) : -1;
-
-                    // Safely get the status code, defaulting to 500 if null (e.g., error before response was set)
-                    int status = exchange.getResponse().getStatusCode() != null ?
-                            exchange.getResponse().getStatusCode().value() : 500;
-
-                    // Log the outgoing response
-                    log.info(" RESPONSE [ID: {}] | Status: {} | Latency: {}ms",
-                            requestId, status, duration);
+                .doFinally(signal -> accessLog.info(formatLine(exchange, signal, System.nanoTime() - start)));
+    }
 
-                }));
+    private static String formatLine(ServerWebExchange exchange, SignalType signal, long elapsedNanos) {
+        ServerHttpRequest request = exchange.getRequest();
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        // No status after an error means the error handler has not written one yet
+        int status = statusCode != null ? statusCode.value() : (signal == SignalType.ON_ERROR ? 500 : 0);
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        Object userId = exchange.getAttribute(AuthenticationFilter.AUTH_USER_ID_ATTR);
+        InetSocketAddress remote = request.getRemoteAddress();
+
+        StringBuilder line = new StringBuilder(192)
+                .append("method=").append(request.getMethod().name())
+                .append(" path=").append(request.getURI().getRawPath())
+                .append(" status=").append(status)
+                .append(" latency_ms=").append(elapsedNanos / 1_000_000).append('.')
+                .append((elapsedNanos / 100_000) % 10)
+                .append(" route=").append(route != null ? route.getId() : "-")
+                .append(" user=").append(userId != null ? userId : "-")
+                .append(" client=").append(remote != null && remote.getAddress() != null
+                        ? remote.getAddress().getHostAddress() : "-")
+                .append(" id=").append(request.getId());
+        if (signal != SignalType.ON_COMPLETE) {
+            line.append(" outcome=").append(signal == SignalType.ON_ERROR ? "error" : "cancelled");
+        }
+        return line.toString();
     }
 
     /**
-     * Set a high order to ensure this filter runs very early (for request logging)
-     * and wraps the entire execution (for response logging).
+     * Set a high order to ensure this filter runs very early and wraps the entire execution.
      * @return The filter order.
      */
     @Override
@@ -0,0 +1,18 @@
+package org.infra.genc.apigateway.util;
+
+import java.time.Instant;
+
+/**
+ * Everything the gateway needs from a verified token, read from a single parse.
+ *
+ * @param userId    "userId" claim
+ * @param userName  "sub" claim (e.g. @Allen)
+ * @param roles     "roles" claim, comma separated (e.g. ROLE_BUYER,ROLE_ADMIN)
+ * @param expiresAt "exp" claim
+ */
+public record JwtPrincipal(Integer userId, String userName, String roles, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt == null || !expiresAt.isAfter(now);
+    }
+}
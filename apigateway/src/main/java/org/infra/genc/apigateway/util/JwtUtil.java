@@ -1,8 +1,10 @@
 package org.infra.genc.apigateway.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -22,20 +24,37 @@ public class JwtUtil {
     @Value("${genc.jwt.expiration:900000}")
     private Long expiration;
 
-    private SecretKey getSigningKey() {
-        log.debug("Generating signing key from Base64 secret");
+    // Key decoded once; the parser is immutable and thread-safe, so every request shares it
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
         try {
             byte[] decodedKey = Base64.getDecoder().decode(secret);
-            log.debug("✓ Secret decoded from Base64");
-            SecretKey key = Keys.hmacShaKeyFor(decodedKey);
+            SecretKey signingKey = Keys.hmacShaKeyFor(decodedKey);
+            parser = Jwts.parser().verifyWith(signingKey).build();
             log.debug("✓ Signing key generated successfully");
-            return key;
         } catch (IllegalArgumentException e) {
             log.error("❌ Invalid Base64 secret: {}", e.getMessage());
             throw new RuntimeException("Invalid JWT secret key configuration - must be Base64 encoded", e);
         }
     }
 
+    /**
+     * Verify the signature and expiry once and read userId, subject, roles and expiry from the
+     * same claims. Throws {@link io.jsonwebtoken.JwtException} if the token is invalid or expired.
+     */
+    public JwtPrincipal parsePrincipal(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        Object rolesObj = claims.get("roles");
+        Date exp = claims.getExpiration();
+        return new JwtPrincipal(
+                toUserId(claims.get("userId")),
+                claims.getSubject(),
+                rolesObj != null ? rolesObj.toString().trim() : "",
+                exp != null ? exp.toInstant() : null);
+    }
+
     public String extractUsername(String token) {
         log.debug("Extracting username from 'sub' claim");
         try {
@@ -60,26 +79,31 @@ public class JwtUtil {
         log.debug("Extracting userId from token");
         try {
             Claims claims = extractAllClaims(token);
-            Object userIdObj = claims.get("userId");
-            if (userIdObj != null) {
-                if (userIdObj instanceof Integer) {
-                    return (Integer) userIdObj;
-                } else if (userIdObj instanceof Long) {
-                    return ((Long) userIdObj).intValue();
-                } else if (userIdObj instanceof Double) {
-                    return ((Double) userIdObj).intValue();
-                } else {
-                    return Integer.parseInt(userIdObj.toString());
-                }
+            Integer userId = toUserId(claims.get("userId"));
+            if (userId == null) {
+                log.warn("userId not found in token claims");
             }
-            log.warn("userId not found in token claims");
-            return null;
+            return userId;
         } catch (Exception e) {
             log.error("Error extracting userId from token: {}", e.getMessage());
             return null;
         }
     }
 
+    private static Integer toUserId(Object userIdObj) {
+        if (userIdObj == null) {
+            return null;
+        } else if (userIdObj instanceof Integer) {
+            return (Integer) userIdObj;
+        } else if (userIdObj instanceof Long) {
+            return ((Long) userIdObj).intValue();
+        } else if (userIdObj instanceof Double) {
+            return ((Double) userIdObj).intValue();
+        } else {
+            return Integer.parseInt(userIdObj.toString());
+        }
+    }
+
     public Date extractExpiration(String token) {
         log.debug("Extracting expiration from token");
         return extractClaim(token, Claims::getExpiration);
@@ -110,11 +134,7 @@ public class JwtUtil {
     public Claims extractAllClaims(String token) {
         log.debug("Extracting all claims from token");
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (Exception e) {
             log.error("Error parsing JWT claims: {}", e.getMessage());
             throw e;
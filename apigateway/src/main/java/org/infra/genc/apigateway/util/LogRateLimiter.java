@@ -0,0 +1,46 @@
+package org.infra.genc.apigateway.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets at most N log lines per second through for one kind of event and counts the rest, so a
+ * hot path can keep a representative sample without writing a line per request. Lock-free; a
+ * window boundary race may let one or two extra lines through, which is fine for logging.
+ */
+public class LogRateLimiter {
+
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    private final int permitsPerSecond;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger used = new AtomicInteger();
+    private final AtomicInteger suppressed = new AtomicInteger();
+
+    public LogRateLimiter(int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    /**
+     * @return true if this event should be logged
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            used.set(0);
+        }
+        if (used.incrementAndGet() <= permitsPerSecond) {
+            return true;
+        }
+        suppressed.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Events skipped since the last call, to report alongside the next line that is logged.
+     */
+    public int drainSuppressed() {
+        return suppressed.getAndSet(0);
+    }
+}
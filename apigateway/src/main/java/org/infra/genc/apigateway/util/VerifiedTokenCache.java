@@ -0,0 +1,84 @@
+package org.infra.genc.apigateway.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Verified tokens keyed by the SHA-256 of the raw token, so a client's repeated requests skip the
+ * HMAC check and claim parsing. Each entry expires exactly at the token's own "exp" (or after
+ * max-ttl, whichever is sooner), so the cache never extends a token's life. Only successfully
+ * verified tokens are stored; invalid ones are re-checked (and rejected) every time.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<ByteBuffer, JwtPrincipal> verified;
+
+    public VerifiedTokenCache(JwtUtil jwtUtil,
+                              MeterRegistry meterRegistry,
+                              @Value("${gateway.auth.token-cache.max-size:100000}") long maxSize,
+                              @Value("${gateway.auth.token-cache.max-ttl:15m}") Duration maxTtl) {
+        this.jwtUtil = jwtUtil;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<ByteBuffer, JwtPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, JwtPrincipal principal, long currentTime) {
+                        long untilExp = Duration.between(Instant.now(), principal.expiresAt()).toNanos();
+                        return Math.max(0, Math.min(untilExp, maxTtl.toNanos()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, JwtPrincipal principal, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, JwtPrincipal principal, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "verifiedTokens");
+    }
+
+    /**
+     * Principal for a token, verifying it only on a cache miss. Throws
+     * {@link io.jsonwebtoken.JwtException} if the token is invalid or expired.
+     */
+    public JwtPrincipal verify(String token) {
+        ByteBuffer key = ByteBuffer.wrap(sha256(token));
+        JwtPrincipal principal = verified.getIfPresent(key);
+        if (principal == null || principal.isExpired(Instant.now())) {
+            principal = jwtUtil.parsePrincipal(token);
+            if (principal.expiresAt() != null) {
+                verified.put(key, principal);
+            }
+        }
+        return principal;
+    }
+
+    private static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
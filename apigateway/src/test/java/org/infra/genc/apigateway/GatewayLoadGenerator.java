@@ -0,0 +1,141 @@
+package org.infra.genc.apigateway;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load against a running gateway: N concurrent clients send authenticated GETs back
+ * to back for a fixed time, then latency percentiles are printed. Used to compare gateway builds
+ * (e.g. logging configuration) under the same load; run it before and after a change.
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(cat cp.txt) org.infra.genc.apigateway.GatewayLoadGenerator \
+ *     url=http://localhost:8089/api/v1/product-service/products concurrency=64 seconds=30 warmup=10
+ * </pre>
+ * A bearer token is minted from genc.jwt.secret (secret=..., default: the dev secret) unless token=... is given.
+ */
+public class GatewayLoadGenerator {
+
+    private static final String DEV_SECRET = "40CNFaKlHyIIQhOmQsRQvSDqUGVtygWV77pQvs75HZA=";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opts = new ConcurrentHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            opts.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        URI url = URI.create(opts.getOrDefault("url", "http://localhost:8089/api/v1/product-service/products"));
+        int concurrency = Integer.parseInt(opts.getOrDefault("concurrency", "64"));
+        int seconds = Integer.parseInt(opts.getOrDefault("seconds", "30"));
+        int warmup = Integer.parseInt(opts.getOrDefault("warmup", "10"));
+        String token = opts.getOrDefault("token", mintToken(opts.getOrDefault("secret", DEV_SECRET)));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(url)
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+
+        System.out.printf("Warming up %ds ...%n", warmup);
+        run(client, request, concurrency, warmup);
+        System.out.printf("Measuring %ds with %d clients against %s%n", seconds, concurrency, url);
+        Result result = run(client, request, concurrency, seconds);
+        result.print(seconds);
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int concurrency, int seconds)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<long[]> samples = new ArrayList<>();
+        int[] counts = new int[concurrency];
+        Map<Integer, AtomicLong> statuses = new ConcurrentHashMap<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            long[] latencies = new long[1 << 16];
+            samples.add(latencies);
+            int slot = i;
+            threads.add(Thread.ofVirtual().start(() -> {
+                long[] buf = latencies;
+                int n = 0;
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    int status;
+                    try {
+                        status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (Exception e) {
+                        status = -1;
+                    }
+                    long elapsed = System.nanoTime() - start;
+                    if (n == buf.length) {
+                        buf = Arrays.copyOf(buf, n * 2);
+                        samples.set(slot, buf);
+                    }
+                    buf[n++] = elapsed;
+                    statuses.computeIfAbsent(status, s -> new AtomicLong()).incrementAndGet();
+                }
+                counts[slot] = n;
+            }));
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        int total = Arrays.stream(counts).sum();
+        long[] all = new long[total];
+        int pos = 0;
+        for (int i = 0; i < concurrency; i++) {
+            System.arraycopy(samples.get(i), 0, all, pos, counts[i]);
+            pos += counts[i];
+        }
+        Arrays.sort(all);
+        return new Result(all, new TreeMap<>(statuses));
+    }
+
+    private static String mintToken(String secret) {
+        return Jwts.builder()
+                .subject("@loadtest")
+                .claim("userId", 1)
+                .claim("roles", "ROLE_BUYER")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret)))
+                .compact();
+    }
+
+    private record Result(long[] sortedNanos, Map<Integer, AtomicLong> statuses) {
+
+        void print(int seconds) {
+            System.out.printf("requests=%d throughput=%.0f/s statuses=%s%n",
+                    sortedNanos.length, (double) sortedNanos.length / seconds, statuses);
+            System.out.printf("p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms%n",
+                    pct(0.50), pct(0.90), pct(0.99), pct(0.999), millis(sortedNanos[sortedNanos.length - 1]));
+        }
+
+        private double pct(double p) {
+            int index = (int) Math.min(sortedNanos.length - 1, Math.ceil(p * sortedNanos.length) - 1);
+            return millis(sortedNanos[Math.max(0, index)]);
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
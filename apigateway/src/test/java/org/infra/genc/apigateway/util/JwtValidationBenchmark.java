@@ -0,0 +1,92 @@
+package org.infra.genc.apigateway.util;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a bearer token in the gateway:
+ * <ul>
+ *     <li>legacyPerClaim - validateToken + extractUserId/Username/Roles, five signature-verifying parses</li>
+ *     <li>singleParse - one parse yielding the whole principal (a token cache miss)</li>
+ *     <li>cachedVerify - hash lookup in the verified-token cache (a repeat request)</li>
+ * </ul>
+ * Run with: {@code mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt} then
+ * {@code java -cp target/test-classes:target/classes:$(cat cp.txt) org.infra.genc.apigateway.util.JwtValidationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "40CNFaKlHyIIQhOmQsRQvSDqUGVtygWV77pQvs75HZA=";
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache cache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        cache = new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), 10_000, Duration.ofMinutes(15));
+
+        token = Jwts.builder()
+                .subject("@Allen")
+                .claim("userId", 8)
+                .claim("roles", "ROLE_BUYER,ROLE_SELLER")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET)))
+                .compact();
+        cache.verify(token);
+    }
+
+    @Benchmark
+    public void legacyPerClaim(Blackhole bh) {
+        bh.consume(jwtUtil.validateToken(token));
+        bh.consume(jwtUtil.extractUserId(token));
+        bh.consume(jwtUtil.extractUsername(token));
+        bh.consume(jwtUtil.extractRolesFromToken(token));
+    }
+
+    @Benchmark
+    public JwtPrincipal singleParse() {
+        return jwtUtil.parsePrincipal(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal cachedVerify() {
+        return cache.verify(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtValidationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -1,6 +1,6 @@
 package com.onepiece.bidding_service.config;
 
-import com.onepiece.bidding_service.filter.JwtAuthenticationFilter;
+import com.onepiece.common.security.HeaderAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,7 +20,7 @@ import java.util.Arrays;
  * Spring Security Configuration
  *
  * Security Architecture:
- * 1. JwtAuthenticationFilter - Reads headers from API Gateway
+ * 1. HeaderAuthenticationFilter (common module) - Reads headers from API Gateway
  * 2. RBAC - Role-based access control on endpoints
  * 3. CORS - Allow frontend requests
  * 4. Exception Handling - Custom 401 and 403 responses
@@ -30,7 +30,7 @@ import java.util.Arrays;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final HeaderAuthenticationFilter headerAuthenticationFilter;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
 
@@ -39,15 +39,20 @@ public class SecurityConfig {
 
         http.csrf(AbstractHttpConfigurer::disable);
 
-        http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(headerAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         http.authorizeHttpRequests(request -> request
                 .requestMatchers("GET", "/api/v1/bidding-service/auctions").authenticated()
+                .requestMatchers("GET", "/api/v1/bidding-service/auctions/page").authenticated()
+                .requestMatchers("GET", "/api/v1/bidding-service/auctions/export").authenticated()
                 .requestMatchers("GET", "/api/v1/bidding-service/auction/**").authenticated()
                 .requestMatchers("GET", "/api/v1/bidding-service/auctions/product/**").authenticated()
                 .requestMatchers("GET", "/api/v1/bidding-service/auctions/status/**").authenticated()
                 .requestMatchers("GET", "/api/v1/bidding-service/auctions/seller/**").authenticated()
+                .requestMatchers("GET", "/api/v1/bidding-service/auctions/browse").authenticated()
                 .requestMatchers("GET", "/api/v1/bidding-service/bids").authenticated()
+                .requestMatchers("GET", "/api/v1/bidding-service/bids/page").authenticated()
+                .requestMatchers("GET", "/api/v1/bidding-service/bids/export").authenticated()
                 .requestMatchers("GET", "/api/v1/bidding-service/bid/**").authenticated()
                 .requestMatchers("GET", "/api/v1/bidding-service/bids/auction/**").authenticated()
                 .requestMatchers("GET", "/api/v1/bidding-service/bids/buyer/**").authenticated()
@@ -63,6 +68,8 @@ public class SecurityConfig {
                 .requestMatchers("DELETE", "/api/v1/bidding-service/**").hasRole("ADMIN")
                 .requestMatchers("DELETE", "/api/v1/bidding-service/bid/**").hasRole("ADMIN")
 
+                // Product changes for the browse read model, pushed by product-service under its service identity
+                .requestMatchers("POST", "/api/v1/bidding-service/auctions/browse/products").hasRole("SERVICE")
                 .requestMatchers("POST", "/api/v1/bidding-service/auctions/**").permitAll()
                 .anyRequest().authenticated()
         );
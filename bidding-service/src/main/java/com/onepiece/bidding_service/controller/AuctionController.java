@@ -1,15 +1,24 @@
 package com.onepiece.bidding_service.controller;
 
-import com.onepiece.bidding_service.dto.AuctionRequestDTO;
+import com.onepiece.bidding_service.dto.AuctionBrowsePageDTO;
 import com.onepiece.bidding_service.dto.AuctionResponseDTO;
+import com.onepiece.bidding_service.dto.SellerAuctionSummaryDTO;
+import com.onepiece.bidding_service.service.AuctionBrowseService;
 import com.onepiece.bidding_service.service.AuctionCompletionService;
 import com.onepiece.bidding_service.service.AuctionService;
+import com.onepiece.bidding_service.service.AuctionStreamService;
+import com.onepiece.common.dto.AuctionRequestDTO;
+import com.onepiece.common.dto.CursorPageDTO;
+import com.onepiece.common.dto.ProductChangeDTO;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -23,6 +32,10 @@ public class AuctionController {
     private AuctionService auctionService;
     @Autowired
     private AuctionCompletionService auctionCompletionService;
+    @Autowired
+    private AuctionStreamService auctionStreamService;
+    @Autowired
+    private AuctionBrowseService auctionBrowseService;
 
 
     @GetMapping("/auctions")
@@ -31,6 +44,39 @@ public class AuctionController {
         return new ResponseEntity<>(auctions, HttpStatus.OK);
     }
 
+    @GetMapping("/auctions/page")
+    public ResponseEntity<CursorPageDTO<AuctionResponseDTO>> getAuctionsPage(@RequestParam(defaultValue = "0") int after,
+                                                                            @RequestParam(required = false) Integer size) {
+        CursorPageDTO<AuctionResponseDTO> page = auctionService.getAuctionsPage(after, size);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/auctions/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAuctions() {
+        StreamingResponseBody body = auctionService::exportAuctions;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    // Auctions with their product details, filtered and sorted in memory by the browse read model
+    @GetMapping("/auctions/browse")
+    public ResponseEntity<AuctionBrowsePageDTO> browseAuctions(@RequestParam(required = false) String status,
+                                                               @RequestParam(required = false) String category,
+                                                               @RequestParam(required = false) Integer minPrice,
+                                                               @RequestParam(required = false) Integer maxPrice,
+                                                               @RequestParam(required = false) String q,
+                                                               @RequestParam(defaultValue = "ENDING_SOON") String sort,
+                                                               @RequestParam(defaultValue = "0") int page,
+                                                               @RequestParam(required = false) Integer size) {
+        AuctionBrowsePageDTO result = auctionBrowseService.browse(status, category, minPrice, maxPrice, q, sort, page, size);
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
+    @PostMapping("/auctions/browse/products")
+    public ResponseEntity<Void> acceptProductChanges(@RequestBody List<ProductChangeDTO> changes) {
+        auctionBrowseService.acceptProductChanges(changes);
+        return new ResponseEntity<>(HttpStatus.ACCEPTED);
+    }
+
     @PostMapping("/auctions/create-auction")
     public ResponseEntity<AuctionResponseDTO> createAuction(@Valid @RequestBody AuctionRequestDTO auctionDTO) {
         AuctionResponseDTO savedAuction = auctionService.createAuction(auctionDTO);
@@ -43,6 +89,14 @@ public class AuctionController {
         return new ResponseEntity<>(auction, HttpStatus.OK);
     }
 
+    /**
+     * Live price/bid-count updates for one auction as server-sent events,
+     * replacing polling of /bids/auction/{auctionId}/highest and /count.
+     */
+    @GetMapping(value = "/auction/{auctionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAuction(@PathVariable int auctionId) {
+        return auctionStreamService.subscribe(auctionId);
+    }
 
     @PutMapping("/auction/{auctionId}")
     public ResponseEntity<AuctionResponseDTO> updateAuctionById(@PathVariable int auctionId,
@@ -75,4 +129,19 @@ public class AuctionController {
         List<AuctionResponseDTO> auctions = auctionService.getAuctionsByUserId(userId);
         return new ResponseEntity<>(auctions, HttpStatus.OK);
     }
+
+    @GetMapping("/auctions/seller/{userId}/page")
+    public ResponseEntity<CursorPageDTO<AuctionResponseDTO>> getAuctionsPageByUserId(@PathVariable int userId,
+                                                                                    @RequestParam(required = false) String status,
+                                                                                    @RequestParam(defaultValue = "0") int after,
+                                                                                    @RequestParam(required = false) Integer size) {
+        CursorPageDTO<AuctionResponseDTO> page = auctionService.getAuctionsPageByUserId(userId, status, after, size);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    @GetMapping("/auctions/seller/{userId}/summary")
+    public ResponseEntity<SellerAuctionSummaryDTO> getSellerSummary(@PathVariable int userId) {
+        SellerAuctionSummaryDTO summary = auctionService.getSellerSummary(userId);
+        return new ResponseEntity<>(summary, HttpStatus.OK);
+    }
 }
\ No newline at end of file
@@ -2,13 +2,21 @@ package com.onepiece.bidding_service.controller;
 
 import com.onepiece.bidding_service.dto.BiddingRequestDTO;
 import com.onepiece.bidding_service.dto.BiddingResponseDTO;
+import com.onepiece.bidding_service.dto.BulkBidRequestDTO;
+import com.onepiece.bidding_service.dto.BulkBidResponseDTO;
 import com.onepiece.bidding_service.dto.PlaceBidRequestDTO;
+import com.onepiece.bidding_service.dto.ProxyBidRequestDTO;
+import com.onepiece.bidding_service.dto.ProxyBidResponseDTO;
 import com.onepiece.bidding_service.service.BiddingService;
+import com.onepiece.common.dto.CursorPageDTO;
+import com.onepiece.common.idempotency.IdempotencyStore;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -26,6 +34,19 @@ public class BiddingController {
         return new ResponseEntity<>(bids, HttpStatus.OK);
     }
 
+    @GetMapping("/bids/page")
+    public ResponseEntity<CursorPageDTO<BiddingResponseDTO>> getBidsPage(@RequestParam(defaultValue = "0") int after,
+                                                                        @RequestParam(required = false) Integer size) {
+        CursorPageDTO<BiddingResponseDTO> page = biddingService.getBidsPage(after, size);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/bids/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportBids() {
+        StreamingResponseBody body = biddingService::exportBids;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @PostMapping("/bids/add")
     public ResponseEntity<BiddingResponseDTO> addBidding(@Valid @RequestBody BiddingRequestDTO biddingDTO) {
         BiddingResponseDTO savedBid = biddingService.addBidding(biddingDTO);
@@ -33,11 +54,25 @@ public class BiddingController {
     }
 
     @PostMapping("/bids/place-bid")
-    public ResponseEntity<BiddingResponseDTO> placeBid(@Valid @RequestBody PlaceBidRequestDTO placeBidRequest) {
-        BiddingResponseDTO savedBid = biddingService.placeBid(placeBidRequest);
+    public ResponseEntity<BiddingResponseDTO> placeBid(
+            @Valid @RequestBody PlaceBidRequestDTO placeBidRequest,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        BiddingResponseDTO savedBid = biddingService.placeBid(placeBidRequest, idempotencyKey);
         return new ResponseEntity<>(savedBid, HttpStatus.CREATED);
     }
 
+    @PostMapping("/bids/bulk")
+    public ResponseEntity<BulkBidResponseDTO> placeBids(@Valid @RequestBody BulkBidRequestDTO bulkBidRequest) {
+        BulkBidResponseDTO placed = biddingService.placeBids(bulkBidRequest);
+        return new ResponseEntity<>(placed, HttpStatus.OK);
+    }
+
+    @PostMapping("/bids/proxy")
+    public ResponseEntity<ProxyBidResponseDTO> placeProxyBid(@Valid @RequestBody ProxyBidRequestDTO proxyBidRequest) {
+        ProxyBidResponseDTO proxyBid = biddingService.placeProxyBid(proxyBidRequest);
+        return new ResponseEntity<>(proxyBid, HttpStatus.CREATED);
+    }
+
     @GetMapping("/bid/{bidId}")
     public ResponseEntity<BiddingResponseDTO> getBidById(@PathVariable int bidId) {
         BiddingResponseDTO bid = biddingService.getBidById(bidId);
@@ -51,8 +86,10 @@ public class BiddingController {
     }
 
     @GetMapping("/bids/auction/{auctionId}")
-    public ResponseEntity<List<BiddingResponseDTO>> getBidsByAuctionId(@PathVariable int auctionId) {
-        List<BiddingResponseDTO> bids = biddingService.getBidsByAuctionId(auctionId);
+    public ResponseEntity<List<BiddingResponseDTO>> getBidsByAuctionId(@PathVariable int auctionId,
+                                                                       @RequestParam(defaultValue = "0") int page,
+                                                                       @RequestParam(required = false) Integer size) {
+        List<BiddingResponseDTO> bids = biddingService.getBidsByAuctionId(auctionId, page, size);
         return new ResponseEntity<>(bids, HttpStatus.OK);
     }
 
@@ -68,6 +105,14 @@ public class BiddingController {
         return new ResponseEntity<>(highestBid, HttpStatus.OK);
     }
 
+    @GetMapping("/bids/auction/{auctionId}/leaderboard")
+    public ResponseEntity<List<BiddingResponseDTO>> getLeaderboard(@PathVariable int auctionId,
+                                                                   @RequestParam(defaultValue = "0") int page,
+                                                                   @RequestParam(defaultValue = "20") int size) {
+        List<BiddingResponseDTO> bids = biddingService.getLeaderboard(auctionId, page, size);
+        return new ResponseEntity<>(bids, HttpStatus.OK);
+    }
+
     @GetMapping("/bids/auction/{auctionId}/count")
     public ResponseEntity<Long> getBidCountForAuction(@PathVariable int auctionId) {
         long count = biddingService.getBidCountForAuction(auctionId);
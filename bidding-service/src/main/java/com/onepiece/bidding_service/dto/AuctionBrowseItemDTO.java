@@ -0,0 +1,26 @@
+package com.onepiece.bidding_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuctionBrowseItemDTO {
+    private int auctionId;
+    private int productId;
+    private String productModel;
+    private Integer modelYear;
+    private String category;
+    private Integer startPrice;
+    private int currPrice;
+    private int bidCount;
+    private String currStatus;
+    private LocalDateTime endsAt;
+    private String thumbnailUrl;
+}
@@ -0,0 +1,22 @@
+package com.onepiece.bidding_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of GET /auctions/browse; total counts every auction that matched the filters.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuctionBrowsePageDTO {
+    private List<AuctionBrowseItemDTO> items;
+    private int total;
+    private int page;
+    private int size;
+}
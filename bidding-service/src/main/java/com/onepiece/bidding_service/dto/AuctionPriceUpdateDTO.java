@@ -0,0 +1,22 @@
+package com.onepiece.bidding_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuctionPriceUpdateDTO {
+    private int auctionId;
+    private int currPrice;
+    private int bidCount;
+    private String currStatus;
+    private Integer lastBidderId;
+    private LocalDateTime endsAt;
+    private LocalDateTime updatedAt;
+}
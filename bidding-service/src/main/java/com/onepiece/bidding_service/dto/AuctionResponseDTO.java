@@ -18,6 +18,8 @@ public class AuctionResponseDTO {
     private int priceJump;
     private String currStatus;
     private int bidCount;
+    private LocalDateTime startsAt;
+    private LocalDateTime endsAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private int createdBy;
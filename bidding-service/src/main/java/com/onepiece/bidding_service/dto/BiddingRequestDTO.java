@@ -25,5 +25,5 @@ public class BiddingRequestDTO {
 
     @NotNull(message = "Price jump is required")  // ✅ NEW
     @Positive(message = "Price jump must be positive")
-    private int priceJump;  // ✅ NEW: For validation
+    private int priceJump;  // Not used for validation: the auction's own price jump is enforced
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.onepiece.bidding_service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkBidRequestDTO {
+
+    @NotEmpty(message = "At least one bid is required")
+    private List<@Valid PlaceBidRequestDTO> bids;
+}
@@ -0,0 +1,18 @@
+package com.onepiece.bidding_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkBidResponseDTO {
+    private int accepted;
+    private int rejected;
+    private List<BulkBidResultDTO> results;
+}
@@ -0,0 +1,24 @@
+package com.onepiece.bidding_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one bid of a bulk request, at the same index as in the request.
+ * Exactly one of bid and error is set.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkBidResultDTO {
+    private int index;
+    private int auctionId;
+    private int buyerId;
+    private int bidAmount;
+    private boolean accepted;
+    private BiddingResponseDTO bid;
+    private String error;
+}
@@ -23,7 +23,8 @@ public class PlaceBidRequestDTO {
     @Positive(message = "Bid amount must be positive")
     private int bidAmount;
 
-    @NotNull(message = "Price jump is required")  // ✅ NEW
+    // Still required for API compatibility; every placement mode enforces the auction's own price jump
+    @NotNull(message = "Price jump is required")
     @Positive(message = "Price jump must be positive")
     private int priceJump;
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.onepiece.bidding_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProxyBidResponseDTO {
+    private int auctionId;
+    private int buyerId;
+    private int maxAmount;
+    private LocalDateTime registeredAt;
+    private int currPrice;
+    private Integer highBidderId;
+    private boolean leading;
+}
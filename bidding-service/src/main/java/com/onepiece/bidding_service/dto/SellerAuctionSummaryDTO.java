@@ -0,0 +1,19 @@
+package com.onepiece.bidding_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SellerAuctionSummaryDTO {
+    private int sellerId;
+    private long totalAuctions;
+    private Map<String, Long> countsByStatus;
+    private long gmv;
+}
@@ -0,0 +1,9 @@
+package com.onepiece.bidding_service.engine;
+
+import java.time.LocalDateTime;
+
+/**
+ * A bid the order book has accepted but which may not be persisted yet.
+ */
+public record AcceptedBid(int auctionId, int buyerId, int bidAmount, LocalDateTime bidTime) {
+}
@@ -0,0 +1,395 @@
+package com.onepiece.bidding_service.engine;
+
+import com.onepiece.bidding_service.dto.AuctionBrowseItemDTO;
+import com.onepiece.bidding_service.dto.AuctionBrowsePageDTO;
+import com.onepiece.bidding_service.event.AuctionUpdatedEvent;
+import com.onepiece.bidding_service.model.Auction;
+import com.onepiece.common.dto.ProductChangeDTO;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Denormalized browse rows, one per auction: its live price, bid count, status and close next
+ * to its product's model, year, category, start price and thumbnail.
+ *
+ * Rows are stored column by column in primitive arrays, with status and category as one-byte
+ * codes, so a query is a single pass over a few dense arrays with no per-row objects. Matches
+ * go through a bounded heap of packed (sort key, auction id) longs that keeps only the rows up
+ * to the requested page, and DTOs are built for that page alone. Removal moves the last row
+ * into the gap, so the arrays stay dense.
+ *
+ * A row is listed once its product columns are known. Product columns that arrive before their
+ * auction wait in a map until it is added.
+ *
+ * Queries share a read lock; writes take the write lock and are expected from one thread.
+ */
+public class AuctionBrowseIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final byte NONE = -1;
+    private static final long NO_END = Long.MAX_VALUE;
+    // Close times are sort keys as seconds after this, which fit an int until 2088
+    private static final long EPOCH_BASE = LocalDateTime.of(2020, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    private static final Auction.currStatus[] STATUSES = Auction.currStatus.values();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, Integer> rowByAuction = new HashMap<>();
+    private final Map<Integer, Integer> rowByProduct = new HashMap<>();
+    private final Map<Integer, ProductChangeDTO> unplacedProducts = new HashMap<>();
+    private final List<String> categoryNames = new ArrayList<>();
+    private final Map<String, Byte> categoryCodes = new HashMap<>();
+
+    private int size;
+    private int[] auctionIds = new int[INITIAL_CAPACITY];
+    private int[] productIds = new int[INITIAL_CAPACITY];
+    private int[] currPrices = new int[INITIAL_CAPACITY];
+    private int[] bidCounts = new int[INITIAL_CAPACITY];
+    private long[] endsAt = new long[INITIAL_CAPACITY];
+    private byte[] statuses = new byte[INITIAL_CAPACITY];
+    private boolean[] listed = new boolean[INITIAL_CAPACITY];
+    private byte[] categories = new byte[INITIAL_CAPACITY];
+    private int[] startPrices = new int[INITIAL_CAPACITY];
+    private int[] modelYears = new int[INITIAL_CAPACITY];
+    private String[] productModels = new String[INITIAL_CAPACITY];
+    // Lower-cased productModels, matched by text queries
+    private String[] modelKeys = new String[INITIAL_CAPACITY];
+    private String[] thumbnailUrls = new String[INITIAL_CAPACITY];
+
+    /**
+     * Add the auction, or refresh its live columns if it is already here and the state is not older.
+     */
+    public void putAuction(Auction auction) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowByAuction.get(auction.getAuctionId());
+            if (row == null) {
+                row = addRow(auction.getAuctionId(), auction.getProductId());
+            } else if (auction.getBidCount() < bidCounts[row]) {
+                return;
+            }
+            setLive(row, auction.getCurrPrice(), auction.getBidCount(), auction.getCurrStatus(), auction.getEndsAt());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a live update to a known auction. False if the auction is not here yet; the caller
+     * adds it with {@link #putAuction} and applies the update again.
+     */
+    public boolean update(AuctionUpdatedEvent event) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowByAuction.get(event.auctionId());
+            if (row == null) {
+                return false;
+            }
+            // Bid counts only grow, so a lower count is a stale event
+            if (event.bidCount() >= bidCounts[row]) {
+                Auction.currStatus status = event.currStatus() != null ? Auction.currStatus.valueOf(event.currStatus()) : null;
+                setLive(row, event.currPrice(), event.bidCount(), status, event.endsAt());
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeAuction(int auctionId) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowByAuction.remove(auctionId);
+            if (row == null) {
+                return;
+            }
+            rowByProduct.remove(productIds[row]);
+            int last = --size;
+            if (row != last) {
+                moveRow(last, row);
+            }
+            productModels[last] = null;
+            modelKeys[last] = null;
+            thumbnailUrls[last] = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Set, or with a deletion clear, the product columns of the product's auction.
+     */
+    public void putProduct(ProductChangeDTO product) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowByProduct.get(product.getProductId());
+            if (product.isDeleted()) {
+                unplacedProducts.remove(product.getProductId());
+                if (row != null) {
+                    clearProduct(row);
+                }
+            } else if (row != null) {
+                setProduct(row, product);
+            } else {
+                unplacedProducts.put(product.getProductId(), product);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forget every product not in the given set, e.g. after a full resync did not return it.
+     */
+    public void retainProducts(Set<Integer> productIdsToKeep) {
+        lock.writeLock().lock();
+        try {
+            unplacedProducts.keySet().retainAll(productIdsToKeep);
+            for (int row = 0; row < size; row++) {
+                if (listed[row] && !productIdsToKeep.contains(productIds[row])) {
+                    clearProduct(row);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public AuctionBrowsePageDTO query(BrowseQuery query) {
+        lock.readLock().lock();
+        try {
+            byte status = query.status() != null ? (byte) query.status().ordinal() : NONE;
+            byte category = NONE;
+            if (query.category() != null) {
+                Byte code = categoryCodes.get(query.category().toLowerCase(Locale.ROOT));
+                if (code == null) {
+                    return page(query, new long[0], 0, 0);
+                }
+                category = code;
+            }
+            int minPrice = query.minPrice() != null ? query.minPrice() : Integer.MIN_VALUE;
+            int maxPrice = query.maxPrice() != null ? query.maxPrice() : Integer.MAX_VALUE;
+            String text = query.text() != null && !query.text().isBlank()
+                    ? query.text().trim().toLowerCase(Locale.ROOT) : null;
+
+            // Max-heap of the smallest keys seen, as many as it takes to fill the requested page
+            long[] heap = new long[(int) Math.min((long) (query.page() + 1) * query.size(), size)];
+            int heapSize = 0;
+            int total = 0;
+            // Newest rows first: rows are mostly appended in id order, so for the usual newest-first
+            // listing the heap fills with the winners early and later rows are rejected at the root
+            for (int row = size - 1; row >= 0; row--) {
+                if (!listed[row]
+                        || (status != NONE && statuses[row] != status)
+                        || (category != NONE && categories[row] != category)
+                        || currPrices[row] < minPrice || currPrices[row] > maxPrice
+                        || (text != null && !modelKeys[row].contains(text))) {
+                    continue;
+                }
+                total++;
+                long key = ((long) sortKey(query.sort(), row) << 32) | (auctionIds[row] & 0xffffffffL);
+                if (heapSize < heap.length) {
+                    heap[heapSize] = key;
+                    siftUp(heap, heapSize++);
+                } else if (heap.length > 0 && key < heap[0]) {
+                    heap[0] = key;
+                    siftDown(heap, heapSize);
+                }
+            }
+            Arrays.sort(heap, 0, heapSize);
+            return page(query, heap, heapSize, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private AuctionBrowsePageDTO page(BrowseQuery query, long[] sorted, int count, int total) {
+        List<AuctionBrowseItemDTO> items = new ArrayList<>();
+        for (int i = query.page() * query.size(); i < count; i++) {
+            items.add(toItem(rowByAuction.get((int) sorted[i])));
+        }
+        return AuctionBrowsePageDTO.builder()
+                .items(items)
+                .total(total)
+                .page(query.page())
+                .size(query.size())
+                .build();
+    }
+
+    private AuctionBrowseItemDTO toItem(int row) {
+        return AuctionBrowseItemDTO.builder()
+                .auctionId(auctionIds[row])
+                .productId(productIds[row])
+                .productModel(productModels[row])
+                .modelYear(modelYears[row] != 0 ? modelYears[row] : null)
+                .category(categories[row] != NONE ? categoryNames.get(categories[row]) : null)
+                .startPrice(startPrices[row])
+                .currPrice(currPrices[row])
+                .bidCount(bidCounts[row])
+                .currStatus(statuses[row] != NONE ? STATUSES[statuses[row]].name() : null)
+                .endsAt(endsAt[row] != NO_END ? LocalDateTime.ofEpochSecond(endsAt[row], 0, ZoneOffset.UTC) : null)
+                .thumbnailUrl(thumbnailUrls[row])
+                .build();
+    }
+
+    // Ascending order of the key is the requested order; descending sorts invert the value
+    private int sortKey(BrowseSort sort, int row) {
+        return switch (sort) {
+            case ENDING_SOON -> endsAt[row] == NO_END ? Integer.MAX_VALUE
+                    : (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE - 1, endsAt[row] - EPOCH_BASE));
+            case PRICE_ASC -> currPrices[row];
+            case PRICE_DESC -> ~currPrices[row];
+            case MOST_BIDS -> ~bidCounts[row];
+            case NEWEST -> ~auctionIds[row];
+        };
+    }
+
+    private int addRow(int auctionId, int productId) {
+        if (size == auctionIds.length) {
+            grow();
+        }
+        int row = size++;
+        auctionIds[row] = auctionId;
+        productIds[row] = productId;
+        statuses[row] = NONE;
+        endsAt[row] = NO_END;
+        rowByAuction.put(auctionId, row);
+        rowByProduct.put(productId, row);
+        clearProduct(row);
+        ProductChangeDTO product = unplacedProducts.remove(productId);
+        if (product != null) {
+            setProduct(row, product);
+        }
+        return row;
+    }
+
+    private void setLive(int row, int currPrice, int bidCount, Auction.currStatus status, LocalDateTime closesAt) {
+        currPrices[row] = currPrice;
+        bidCounts[row] = bidCount;
+        if (status != null) {
+            statuses[row] = (byte) status.ordinal();
+        }
+        if (closesAt != null) {
+            endsAt[row] = closesAt.toEpochSecond(ZoneOffset.UTC);
+        }
+    }
+
+    private void setProduct(int row, ProductChangeDTO product) {
+        listed[row] = true;
+        productModels[row] = product.getProductModel();
+        modelKeys[row] = product.getProductModel() != null ? product.getProductModel().toLowerCase(Locale.ROOT) : "";
+        modelYears[row] = product.getModelYear() != null ? product.getModelYear() : 0;
+        startPrices[row] = product.getStartPrice() != null ? product.getStartPrice() : 0;
+        categories[row] = categoryCode(product.getCategory());
+        thumbnailUrls[row] = product.getThumbnailUrl();
+    }
+
+    private void clearProduct(int row) {
+        listed[row] = false;
+        productModels[row] = null;
+        modelKeys[row] = null;
+        modelYears[row] = 0;
+        startPrices[row] = 0;
+        categories[row] = NONE;
+        thumbnailUrls[row] = null;
+    }
+
+    private byte categoryCode(String category) {
+        if (category == null) {
+            return NONE;
+        }
+        String key = category.toLowerCase(Locale.ROOT);
+        Byte code = categoryCodes.get(key);
+        if (code == null) {
+            if (categoryNames.size() > Byte.MAX_VALUE) {
+                throw new IllegalStateException("Too many product categories for the browse index");
+            }
+            code = (byte) categoryNames.size();
+            categoryNames.add(category);
+            categoryCodes.put(key, code);
+        }
+        return code;
+    }
+
+    private void moveRow(int from, int to) {
+        auctionIds[to] = auctionIds[from];
+        productIds[to] = productIds[from];
+        currPrices[to] = currPrices[from];
+        bidCounts[to] = bidCounts[from];
+        endsAt[to] = endsAt[from];
+        statuses[to] = statuses[from];
+        listed[to] = listed[from];
+        categories[to] = categories[from];
+        startPrices[to] = startPrices[from];
+        modelYears[to] = modelYears[from];
+        productModels[to] = productModels[from];
+        modelKeys[to] = modelKeys[from];
+        thumbnailUrls[to] = thumbnailUrls[from];
+        rowByAuction.put(auctionIds[to], to);
+        rowByProduct.put(productIds[to], to);
+    }
+
+    private void grow() {
+        int capacity = auctionIds.length * 2;
+        auctionIds = Arrays.copyOf(auctionIds, capacity);
+        productIds = Arrays.copyOf(productIds, capacity);
+        currPrices = Arrays.copyOf(currPrices, capacity);
+        bidCounts = Arrays.copyOf(bidCounts, capacity);
+        endsAt = Arrays.copyOf(endsAt, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        listed = Arrays.copyOf(listed, capacity);
+        categories = Arrays.copyOf(categories, capacity);
+        startPrices = Arrays.copyOf(startPrices, capacity);
+        modelYears = Arrays.copyOf(modelYears, capacity);
+        productModels = Arrays.copyOf(productModels, capacity);
+        modelKeys = Arrays.copyOf(modelKeys, capacity);
+        thumbnailUrls = Arrays.copyOf(thumbnailUrls, capacity);
+    }
+
+    private static void siftUp(long[] heap, int i) {
+        long key = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] >= key) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = key;
+    }
+
+    private static void siftDown(long[] heap, int heapSize) {
+        long key = heap[0];
+        int i = 0;
+        int child;
+        while ((child = 2 * i + 1) < heapSize) {
+            if (child + 1 < heapSize && heap[child + 1] > heap[child]) {
+                child++;
+            }
+            if (heap[child] <= key) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = key;
+    }
+}
@@ -0,0 +1,196 @@
+package com.onepiece.bidding_service.engine;
+
+import com.onepiece.bidding_service.model.Auction;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * In-memory state of one auction: current price, bid count, close time and its top-K bids.
+ *
+ * A book is owned by exactly one order book lane, so {@link #accept} runs single-threaded
+ * and needs no lock. Price, count and close time are volatile so other threads can read them.
+ * A soft-close extension is just a write to {@code endsAt}; the lifecycle scheduler reads it
+ * when the close timer fires instead of being rescheduled on every bid.
+ *
+ * Proxy maximums live here too. After every accepted bid or new maximum, {@link #resolveProxies}
+ * settles the whole proxy war in one step: the strongest maximum wins at one price jump above
+ * the runner-up, capped at its own maximum. That is one bid instead of a back-and-forth of
+ * one bid per increment. It runs at the time of the bid or maximum that triggered it, so a
+ * proxy answer is never refused for a deadline its trigger was accepted before.
+ */
+public class AuctionOrderBook {
+
+    private final int auctionId;
+    private final Auction.currStatus status;
+    private final int priceJump;
+    private final TopBids topBids;
+    private final SoftClosePolicy softClose;
+    private final ProxyBook proxies;
+
+    private volatile int currPrice;
+    private volatile int bidCount;
+    private volatile LocalDateTime endsAt;
+
+    AuctionOrderBook(Auction auction, List<AcceptedBid> highestFirst, int topBidLimit, SoftClosePolicy softClose,
+                     List<ProxyMax> proxyMaxes) {
+        this.auctionId = auction.getAuctionId();
+        this.status = auction.getCurrStatus();
+        this.priceJump = auction.getPriceJump();
+        this.endsAt = auction.getEndsAt();
+        this.currPrice = auction.getCurrPrice();
+        this.bidCount = auction.getBidCount();
+        this.topBids = new TopBids(topBidLimit, highestFirst);
+        this.softClose = softClose;
+        this.proxies = new ProxyBook(proxyMaxes);
+    }
+
+    /**
+     * Accept the bid or throw with the same messages as the locking path.
+     * Must only be called from the lane that owns this book.
+     */
+    AcceptedBid accept(int buyerId, int bidAmount) {
+        return accept(buyerId, bidAmount, LocalDateTime.now());
+    }
+
+    private AcceptedBid accept(int buyerId, int bidAmount, LocalDateTime now) {
+        checkOpen(now);
+
+        int minimumBid = currPrice + priceJump;
+        if (bidAmount < minimumBid) {
+            throw new IllegalArgumentException(
+                    "Bid amount must be at least " + minimumBid +
+                            " (current price: " + currPrice +
+                            " + price jump: " + priceJump + ")");
+        }
+
+        AcceptedBid bid = new AcceptedBid(auctionId, buyerId, bidAmount, now);
+        topBids.add(bid);
+        currPrice = bidAmount;
+        bidCount++;
+        endsAt = softClose.extend(endsAt, now);
+        return bid;
+    }
+
+    /**
+     * Check a new or raised maximum before it is persisted; throws if it is not allowed.
+     * Must only be called from the lane that owns this book.
+     */
+    void checkProxy(int buyerId, int maxAmount) {
+        checkProxy(buyerId, maxAmount, LocalDateTime.now());
+    }
+
+    void checkProxy(int buyerId, int maxAmount, LocalDateTime now) {
+        checkOpen(now);
+        ProxyMax existing = proxies.get(buyerId);
+        if (existing != null && maxAmount <= existing.maxAmount()) {
+            throw new IllegalArgumentException(
+                    "Maximum bid must be above your current maximum of " + existing.maxAmount());
+        }
+        int minimumBid = currPrice + priceJump;
+        if (maxAmount < minimumBid) {
+            throw new IllegalArgumentException(
+                    "Maximum bid must be at least " + minimumBid +
+                            " (current price: " + currPrice +
+                            " + price jump: " + priceJump + ")");
+        }
+    }
+
+    /**
+     * Record a maximum that passed {@link #checkProxy} and has been persisted.
+     */
+    void putProxy(ProxyMax proxy) {
+        proxies.put(proxy);
+    }
+
+    /**
+     * Let the registered maximums answer the current high bid. Returns the one bid that settles
+     * it, or null when no proxy can or needs to bid. A proxy only bids in full price jumps, so a
+     * maximum below current price + jump sits out. {@code now} is the time of the bid or maximum
+     * that triggered this, already checked against the close; the proxy bid is placed at it.
+     * Must only be called from the owning lane.
+     */
+    AcceptedBid resolveProxies(LocalDateTime now) {
+        if (proxies.isEmpty()) {
+            return null;
+        }
+        Integer leader = getHighBidderId();
+        int minimumBid = currPrice + priceJump;
+
+        // Strongest two maximums that could outbid the current leader
+        ProxyMax challenger = null;
+        ProxyMax runnerUp = null;
+        for (ProxyMax proxy : proxies.ranked()) {
+            if (proxy.maxAmount() < minimumBid) {
+                break;
+            }
+            if (leader != null && proxy.buyerId() == leader) {
+                continue;
+            }
+            if (challenger == null) {
+                challenger = proxy;
+            } else {
+                runnerUp = proxy;
+                break;
+            }
+        }
+        if (challenger == null) {
+            return null;
+        }
+
+        ProxyMax defender = leader == null ? null : proxies.get(leader);
+        if (defender != null && ProxyBook.STRONGEST_FIRST.compare(defender, challenger) < 0) {
+            // The leader's own maximum outranks the challenger: raise just enough to stay ahead
+            return accept(leader, Math.min(defender.maxAmount(), challenger.maxAmount() + priceJump), now);
+        }
+        int toBeat = Math.max(defender == null ? currPrice : Math.max(currPrice, defender.maxAmount()),
+                runnerUp == null ? currPrice : runnerUp.maxAmount());
+        return accept(challenger.buyerId(), Math.min(challenger.maxAmount(), toBeat + priceJump), now);
+    }
+
+    // The lifecycle scheduler completes the row a moment later; the deadline itself is exact
+    private void checkOpen(LocalDateTime now) {
+        if (status != Auction.currStatus.ONGOING) {
+            throw new IllegalArgumentException("Cannot place bid. Auction status is: " + status);
+        }
+        if (endsAt != null && !now.isBefore(endsAt)) {
+            throw new IllegalArgumentException("Cannot place bid. Auction ended at: " + endsAt);
+        }
+    }
+
+    /**
+     * Highest bids of this auction; safe to read from any thread.
+     */
+    public TopBids getTopBids() {
+        return topBids;
+    }
+
+    public int getAuctionId() {
+        return auctionId;
+    }
+
+    public Auction.currStatus getStatus() {
+        return status;
+    }
+
+    public int getCurrPrice() {
+        return currPrice;
+    }
+
+    public int getBidCount() {
+        return bidCount;
+    }
+
+    public LocalDateTime getEndsAt() {
+        return endsAt;
+    }
+
+    public Integer getHighBidderId() {
+        AcceptedBid highest = topBids.highest();
+        return highest == null ? null : highest.buyerId();
+    }
+
+    public int getProxyCount() {
+        return proxies.size();
+    }
+}
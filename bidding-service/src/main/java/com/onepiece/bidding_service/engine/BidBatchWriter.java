@@ -0,0 +1,46 @@
+package com.onepiece.bidding_service.engine;
+
+import com.onepiece.bidding_service.mapper.BiddingMapper;
+import com.onepiece.bidding_service.model.Bidding;
+import com.onepiece.bidding_service.repo.AuctionRepo;
+import com.onepiece.bidding_service.repo.BiddingRepo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a batch of accepted bids and the resulting auction price/count/close time in one transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class BidBatchWriter {
+
+    private final BiddingRepo biddingRepo;
+    private final AuctionRepo auctionRepo;
+    private final BiddingMapper biddingMapper;
+    private final SoftClosePolicy softClosePolicy;
+
+    @Transactional
+    public void writeBatch(List<AcceptedBid> bids) {
+        List<Bidding> rows = new ArrayList<>(bids.size());
+        Map<Integer, AcceptedBid> latestByAuction = new LinkedHashMap<>();
+        Map<Integer, Integer> countByAuction = new HashMap<>();
+
+        for (AcceptedBid bid : bids) {
+            rows.add(biddingMapper.toEntity(bid));
+            latestByAuction.put(bid.auctionId(), bid);
+            countByAuction.merge(bid.auctionId(), 1, Integer::sum);
+        }
+
+        biddingRepo.saveAll(rows);
+        latestByAuction.forEach((auctionId, latest) ->
+                auctionRepo.applyBidBatch(auctionId, latest.bidAmount(), countByAuction.get(auctionId), latest.buyerId(),
+                        softClosePolicy.extendedEnd(latest.bidTime())));
+    }
+}
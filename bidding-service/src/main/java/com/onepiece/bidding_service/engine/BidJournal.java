@@ -0,0 +1,265 @@
+package com.onepiece.bidding_service.engine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, memory-mapped journal of accepted bids.
+ *
+ * Records are fixed size and carry a sequence number and a CRC, so a torn write at the tail
+ * is detected on recovery. Writers append, {@link #force()} makes the appended range durable,
+ * and the drainer reads only durable records. Once every record has been drained and the file
+ * is full, writing starts again from the top; stale records left behind have lower sequence
+ * numbers than the checkpoint and are ignored on recovery.
+ *
+ * If a force fails, the records it was making durable have already been reported as not
+ * recorded. They are wiped from the file and the journal refuses further writes, so a later
+ * force or a replay after restart can never persist them.
+ */
+public class BidJournal implements Closeable {
+
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 40;
+
+    private static final int FILE_MAGIC = 0x424A524E;
+    private static final int FILE_VERSION = 1;
+    private static final int RECORD_MAGIC = 0x42494453;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    // Held for a whole force so a second force cannot make a range durable while the first one fails on it
+    private final Object forceLock = new Object();
+
+    // All positions are byte offsets into the file, guarded by this
+    private int writePos = HEADER_SIZE;
+    private int forcedPos = HEADER_SIZE;
+    private int readPos = HEADER_SIZE;
+    private long lastSeq;
+    private long durableSeq;
+    private long drainedSeq;
+    private boolean abandoned;
+
+    private BidJournal(FileChannel channel, MappedByteBuffer buffer, int capacity) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+
+    public static BidJournal open(Path path, int sizeBytes) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        int capacity = HEADER_SIZE + ((sizeBytes - HEADER_SIZE) / RECORD_SIZE) * RECORD_SIZE;
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        if (buffer.getInt(0) != FILE_MAGIC) {
+            buffer.putInt(0, FILE_MAGIC);
+            buffer.putInt(4, FILE_VERSION);
+            buffer.force(0, HEADER_SIZE);
+        }
+        return new BidJournal(channel, buffer, capacity);
+    }
+
+    /**
+     * Find every valid record newer than the checkpoint, oldest first, and position the
+     * writer after the newest record. The caller must persist the returned records before
+     * appending, since they are treated as drained from here on.
+     */
+    public synchronized List<JournalRecord> recover(long checkpointSeq) {
+        List<JournalRecord> unflushed = new ArrayList<>();
+        long newestSeq = checkpointSeq;
+        int newestEnd = HEADER_SIZE;
+
+        for (int pos = HEADER_SIZE; pos + RECORD_SIZE <= capacity; pos += RECORD_SIZE) {
+            JournalRecord record = readValid(pos);
+            if (record == null) {
+                continue;
+            }
+            if (record.seq() > newestSeq) {
+                newestSeq = record.seq();
+                newestEnd = pos + RECORD_SIZE;
+            }
+            if (record.seq() > checkpointSeq) {
+                unflushed.add(record);
+            }
+        }
+
+        unflushed.sort(Comparator.comparingLong(JournalRecord::seq));
+        lastSeq = newestSeq;
+        durableSeq = newestSeq;
+        drainedSeq = newestSeq;
+        writePos = forcedPos = readPos = newestEnd;
+        return unflushed;
+    }
+
+    /**
+     * Write the bid at the tail and return its sequence number. Not durable until {@link #force()}.
+     * Blocks when the file is full until the drainer has caught up. Throws once a force has failed.
+     */
+    public synchronized long append(AcceptedBid bid) throws InterruptedException {
+        checkWritable();
+        if (writePos + RECORD_SIZE > capacity) {
+            while (drainedSeq < lastSeq && !abandoned) {
+                wait();
+            }
+            checkWritable();
+            writePos = forcedPos = readPos = HEADER_SIZE;
+        }
+
+        long seq = ++lastSeq;
+        long bidTime = bid.bidTime().toInstant(ZoneOffset.UTC).toEpochMilli();
+        int pos = writePos;
+        buffer.putInt(pos, RECORD_MAGIC);
+        buffer.putLong(pos + 4, seq);
+        buffer.putInt(pos + 12, bid.auctionId());
+        buffer.putInt(pos + 16, bid.buyerId());
+        buffer.putInt(pos + 20, bid.bidAmount());
+        buffer.putLong(pos + 24, bidTime);
+        buffer.putInt(pos + 32, checksum(pos));
+        writePos = pos + RECORD_SIZE;
+        return seq;
+    }
+
+    /**
+     * Flush everything appended so far to the device. Returns the highest durable sequence.
+     * If the device refuses, the unforced records are wiped and the journal stops taking writes;
+     * after that this only returns the sequence that was durable before the failure.
+     */
+    public long force() {
+        synchronized (forceLock) {
+            int from;
+            int to;
+            long seq;
+            synchronized (this) {
+                if (abandoned) {
+                    return durableSeq;
+                }
+                from = forcedPos;
+                to = writePos;
+                seq = lastSeq;
+            }
+            try {
+                if (to > from) {
+                    buffer.force(from, to - from);
+                }
+            } catch (RuntimeException e) {
+                abandon();
+                throw e;
+            }
+            synchronized (this) {
+                // A wrap only happens once everything is drained, so never after an unforced range
+                if (forcedPos == from) {
+                    forcedPos = to;
+                    durableSeq = seq;
+                }
+                return durableSeq;
+            }
+        }
+    }
+
+    /**
+     * Highest sequence known to be on the device.
+     */
+    public synchronized long durableSeq() {
+        return durableSeq;
+    }
+
+    // Wiping the magic makes recovery skip the records should the pages reach the file after all
+    void abandon() {
+        synchronized (forceLock) {
+            int from;
+            int to;
+            synchronized (this) {
+                from = forcedPos;
+                to = writePos;
+                for (int pos = from; pos < to; pos += RECORD_SIZE) {
+                    buffer.putInt(pos, 0);
+                }
+                writePos = forcedPos;
+                abandoned = true;
+                notifyAll();
+            }
+            try {
+                if (to > from) {
+                    buffer.force(from, to - from);
+                }
+            } catch (RuntimeException ignored) {
+                // Best effort; the device has already failed once
+            }
+        }
+    }
+
+    private void checkWritable() {
+        if (abandoned) {
+            throw new IllegalStateException("Bid journal stopped after a failed fsync");
+        }
+    }
+
+    /**
+     * Up to {@code max} durable records that have not been drained yet, oldest first.
+     */
+    public synchronized List<JournalRecord> readDurable(int max) {
+        int count = Math.min(max, (forcedPos - readPos) / RECORD_SIZE);
+        List<JournalRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(read(readPos + i * RECORD_SIZE));
+        }
+        return records;
+    }
+
+    /**
+     * Mark records returned by {@link #readDurable} as persisted.
+     */
+    public synchronized void markDrained(List<JournalRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        readPos += records.size() * RECORD_SIZE;
+        drainedSeq = records.get(records.size() - 1).seq();
+        notifyAll();
+    }
+
+    public synchronized long lastSeq() {
+        return lastSeq;
+    }
+
+    private JournalRecord readValid(int pos) {
+        if (buffer.getInt(pos) != RECORD_MAGIC || buffer.getInt(pos + 32) != checksum(pos)) {
+            return null;
+        }
+        return read(pos);
+    }
+
+    private JournalRecord read(int pos) {
+        LocalDateTime bidTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(buffer.getLong(pos + 24)), ZoneOffset.UTC);
+        AcceptedBid bid = new AcceptedBid(
+                buffer.getInt(pos + 12), buffer.getInt(pos + 16), buffer.getInt(pos + 20), bidTime);
+        return new JournalRecord(buffer.getLong(pos + 4), bid);
+    }
+
+    private int checksum(int pos) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(pos, 32));
+        return (int) crc.getValue();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+}
@@ -0,0 +1,19 @@
+package com.onepiece.bidding_service.engine;
+
+/**
+ * Result of one bid of a bulk placement: the accepted bid, or why it was rejected.
+ */
+public record BidOutcome(AcceptedBid bid, String rejection) {
+
+    static BidOutcome accepted(AcceptedBid bid) {
+        return new BidOutcome(bid, null);
+    }
+
+    static BidOutcome rejected(String rejection) {
+        return new BidOutcome(null, rejection);
+    }
+
+    public boolean isAccepted() {
+        return bid != null;
+    }
+}
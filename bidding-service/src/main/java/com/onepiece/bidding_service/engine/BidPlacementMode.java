@@ -0,0 +1,16 @@
+package com.onepiece.bidding_service.engine;
+
+/**
+ * How {@code BiddingService.placeBid} decides whether a bid is accepted.
+ * Selected with {@code bidding.placement.mode}.
+ */
+public enum BidPlacementMode {
+    /** Row lock on the auction inside a SERIALIZABLE transaction, one bid at a time. */
+    PESSIMISTIC,
+    /** Single conditional UPDATE of the auction row decides the bid, no lock held before it and no retry. */
+    CONDITIONAL_UPDATE,
+    /** In-memory order book per auction, rows written behind in batches. */
+    ORDER_BOOK,
+    /** Order book, with each bid fsynced to a local write-ahead journal before it is acknowledged. */
+    SEQUENCER
+}
@@ -0,0 +1,20 @@
+package com.onepiece.bidding_service.engine;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Where the order book hands accepted bids for persistence.
+ */
+public interface BidSink {
+
+    /**
+     * Take ownership of an accepted bid. Called from the auction's lane, in acceptance order.
+     * The returned future completes once the bid may be acknowledged to the client.
+     */
+    CompletableFuture<Void> submit(AcceptedBid bid);
+
+    /**
+     * Persist everything submitted so far before returning.
+     */
+    void flush();
+}
@@ -0,0 +1,172 @@
+package com.onepiece.bidding_service.engine;
+
+import com.onepiece.bidding_service.event.BidDroppedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists accepted order book bids in batches off the request thread.
+ *
+ * A batch that fails because the database is unavailable is kept and retried on the next tick
+ * rather than dropped, so bids are written at least once and in acceptance order. A batch
+ * rejected for its contents is split until the offending bid is alone; the rest is written, and
+ * later bids of that auction wait behind it to keep their order. A bid rejected
+ * bidding.write-behind.max-attempts times is logged and dropped, and a {@link BidDroppedEvent}
+ * tells the order book to stop holding it. Bids are acknowledged before they are written, so a
+ * crash loses whatever is still queued; SEQUENCER mode uses the journal instead.
+ */
+@Component
+@ConditionalOnExpression("'${bidding.placement.mode:ORDER_BOOK}' != 'SEQUENCER'")
+@Slf4j
+public class BidWriteBehind implements BidSink {
+
+    private static final CompletableFuture<Void> ACCEPTED = CompletableFuture.completedFuture(null);
+
+    private final BidBatchWriter bidBatchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockingQueue<AcceptedBid> queue = new LinkedBlockingQueue<>();
+    private final List<AcceptedBid> pending = new ArrayList<>();
+    private final Map<AcceptedBid, Integer> attempts = new IdentityHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "bid-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${bidding.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${bidding.write-behind.flush-interval-ms:50}")
+    private long flushIntervalMs;
+
+    @Value("${bidding.write-behind.max-attempts:3}")
+    private int maxAttempts;
+
+    public BidWriteBehind(BidBatchWriter bidBatchWriter, ApplicationEventPublisher eventPublisher) {
+        this.bidBatchWriter = bidBatchWriter;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public CompletableFuture<Void> submit(AcceptedBid bid) {
+        queue.add(bid);
+        return ACCEPTED;
+    }
+
+    /**
+     * Write everything queued so far. Throws if a batch cannot be written, or if bids are still
+     * waiting behind one that was rejected but not yet dropped.
+     */
+    @Override
+    public synchronized void flush() {
+        while (true) {
+            if (pending.isEmpty()) {
+                queue.drainTo(pending, batchSize);
+                if (pending.isEmpty()) {
+                    return;
+                }
+            }
+            try {
+                bidBatchWriter.writeBatch(pending);
+                log.debug("Flushed {} bids", pending.size());
+                pending.clear();
+            } catch (RuntimeException e) {
+                if (!isRejected(e)) {
+                    throw e;
+                }
+                List<AcceptedBid> held = new ArrayList<>();
+                writeAround(pending, new HashSet<>(), held);
+                pending.clear();
+                pending.addAll(held);
+                if (!held.isEmpty()) {
+                    throw new IllegalStateException(held.size() + " bid(s) waiting behind a rejected bid");
+                }
+            }
+        }
+    }
+
+    // Writes what it can by halving; rows it could not write, and later rows of their auctions, go to held in order
+    private void writeAround(List<AcceptedBid> rows, Set<Integer> blocked, List<AcceptedBid> held) {
+        List<AcceptedBid> writable = new ArrayList<>(rows.size());
+        for (AcceptedBid bid : rows) {
+            (blocked.contains(bid.auctionId()) ? held : writable).add(bid);
+        }
+        if (writable.isEmpty()) {
+            return;
+        }
+        try {
+            bidBatchWriter.writeBatch(writable);
+            writable.forEach(attempts::remove);
+        } catch (RuntimeException e) {
+            if (!isRejected(e)) {
+                // Database went away meanwhile: keep the rest as-is for the next tick
+                held.addAll(writable);
+            } else if (writable.size() == 1) {
+                reject(writable.get(0), e, blocked, held);
+            } else {
+                int middle = writable.size() / 2;
+                writeAround(writable.subList(0, middle), blocked, held);
+                writeAround(writable.subList(middle, writable.size()), blocked, held);
+            }
+        }
+    }
+
+    private void reject(AcceptedBid bid, RuntimeException e, Set<Integer> blocked, List<AcceptedBid> held) {
+        int failures = attempts.merge(bid, 1, Integer::sum);
+        if (failures < maxAttempts) {
+            log.warn("Bid {} on auction {} rejected ({}/{}), retrying next tick: {}",
+                    bid.bidAmount(), bid.auctionId(), failures, maxAttempts, e.getMessage());
+            blocked.add(bid.auctionId());
+            held.add(bid);
+            return;
+        }
+        attempts.remove(bid);
+        log.error("❌ Dropping bid after {} attempts: auction {}, buyer {}, amount {}, time {}: {}",
+                failures, bid.auctionId(), bid.buyerId(), bid.bidAmount(), bid.bidTime(), e.getMessage());
+        eventPublisher.publishEvent(new BidDroppedEvent(bid.auctionId(), bid.buyerId(), bid.bidAmount()));
+    }
+
+    // The database refused these rows; anything else (connection, timeout) says nothing about them
+    private static boolean isRejected(RuntimeException e) {
+        return e instanceof NonTransientDataAccessException && !(e instanceof DataAccessResourceFailureException);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Bid write-behind flush failed, retrying next tick: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flushQuietly();
+    }
+}
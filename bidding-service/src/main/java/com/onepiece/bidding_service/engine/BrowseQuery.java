@@ -0,0 +1,17 @@
+package com.onepiece.bidding_service.engine;
+
+import com.onepiece.bidding_service.model.Auction;
+
+/**
+ * Filters, order and page of one browse query. Null filters match everything; text matches
+ * anywhere in the product model, ignoring case.
+ */
+public record BrowseQuery(Auction.currStatus status,
+                          String category,
+                          Integer minPrice,
+                          Integer maxPrice,
+                          String text,
+                          BrowseSort sort,
+                          int page,
+                          int size) {
+}
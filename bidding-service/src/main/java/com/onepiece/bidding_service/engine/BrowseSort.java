@@ -0,0 +1,12 @@
+package com.onepiece.bidding_service.engine;
+
+/**
+ * Orders of GET /auctions/browse. Ties are broken by auction id, so pages are stable.
+ */
+public enum BrowseSort {
+    ENDING_SOON,
+    PRICE_ASC,
+    PRICE_DESC,
+    MOST_BIDS,
+    NEWEST
+}
@@ -0,0 +1,119 @@
+package com.onepiece.bidding_service.engine;
+
+import com.onepiece.bidding_service.mapper.BiddingMapper;
+import com.onepiece.bidding_service.model.Bidding;
+import com.onepiece.bidding_service.model.JournalCheckpoint;
+import com.onepiece.bidding_service.repo.BiddingRepo;
+import com.onepiece.bidding_service.repo.JournalCheckpointRepo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Drains journaled bids to MySQL: one JDBC batch of inserts for the bids, one UPDATE for every
+ * auction touched by the batch, and the checkpoint, all in one transaction.
+ *
+ * Bids go through JPA like every other bidding row so they take their ids from the same
+ * pooled sequence; with {@code hibernate.jdbc.batch_size} and {@code rewriteBatchedStatements}
+ * the driver still sends them as multi-row INSERTs.
+ */
+@Component
+@DependsOn("pooledIdSequenceSeeder")
+@RequiredArgsConstructor
+public class JournalBatchWriter {
+
+    static final String JOURNAL_NAME = "bids";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BiddingRepo biddingRepo;
+    private final BiddingMapper biddingMapper;
+    private final JournalCheckpointRepo journalCheckpointRepo;
+    private final SoftClosePolicy softClosePolicy;
+
+    public long checkpoint() {
+        return journalCheckpointRepo.findById(JOURNAL_NAME)
+                .map(JournalCheckpoint::getLastSeq)
+                .orElse(0L);
+    }
+
+    @Transactional
+    public void write(List<JournalRecord> records) {
+        insertBids(records);
+        updateAuctions(records);
+        journalCheckpointRepo.save(new JournalCheckpoint(JOURNAL_NAME, records.get(records.size() - 1).seq()));
+    }
+
+    private void insertBids(List<JournalRecord> records) {
+        List<Bidding> rows = new ArrayList<>(records.size());
+        for (JournalRecord record : records) {
+            rows.add(biddingMapper.toEntity(record.bid()));
+        }
+        biddingRepo.saveAll(rows);
+    }
+
+    // Records are in acceptance order, so the last bid per auction carries its new price and close time
+    private void updateAuctions(List<JournalRecord> records) {
+        Map<Integer, AcceptedBid> latest = new LinkedHashMap<>();
+        Map<Integer, Integer> counts = new LinkedHashMap<>();
+        for (JournalRecord record : records) {
+            latest.put(record.bid().auctionId(), record.bid());
+            counts.merge(record.bid().auctionId(), 1, Integer::sum);
+        }
+
+        StringBuilder price = new StringBuilder("curr_price = CASE auction_id");
+        StringBuilder count = new StringBuilder("bid_count = bid_count + CASE auction_id");
+        StringBuilder updatedBy = new StringBuilder("updated_by = CASE auction_id");
+        StringBuilder endsAt = new StringBuilder("ends_at = CASE auction_id");
+        StringBuilder ids = new StringBuilder();
+        List<Object> priceArgs = new ArrayList<>();
+        List<Object> countArgs = new ArrayList<>();
+        List<Object> updatedByArgs = new ArrayList<>();
+        List<Object> endsAtArgs = new ArrayList<>();
+        List<Object> idArgs = new ArrayList<>();
+
+        latest.forEach((auctionId, bid) -> {
+            price.append(" WHEN ? THEN ?");
+            count.append(" WHEN ? THEN ?");
+            updatedBy.append(" WHEN ? THEN ?");
+            ids.append(ids.isEmpty() ? "?" : ", ?");
+            priceArgs.add(auctionId);
+            priceArgs.add(bid.bidAmount());
+            countArgs.add(auctionId);
+            countArgs.add(counts.get(auctionId));
+            updatedByArgs.add(auctionId);
+            updatedByArgs.add(bid.buyerId());
+            LocalDateTime extendedEnd = softClosePolicy.extendedEnd(bid.bidTime());
+            if (extendedEnd != null) {
+                endsAt.append(" WHEN ? THEN CASE WHEN ends_at < ? THEN ? ELSE ends_at END");
+                endsAtArgs.add(auctionId);
+                endsAtArgs.add(Timestamp.valueOf(extendedEnd));
+                endsAtArgs.add(Timestamp.valueOf(extendedEnd));
+            }
+            idArgs.add(auctionId);
+        });
+
+        String sql = "UPDATE auction SET " +
+                price + " ELSE curr_price END, " +
+                count + " ELSE 0 END, " +
+                updatedBy + " ELSE updated_by END, " +
+                (endsAtArgs.isEmpty() ? "" : endsAt + " ELSE ends_at END, ") +
+                "version = version + 1 WHERE auction_id IN (" + ids + ")";
+
+        List<Object> args = new ArrayList<>(priceArgs.size() * 3 + endsAtArgs.size() + idArgs.size());
+        args.addAll(priceArgs);
+        args.addAll(countArgs);
+        args.addAll(updatedByArgs);
+        args.addAll(endsAtArgs);
+        args.addAll(idArgs);
+        jdbcTemplate.update(sql, args.toArray());
+    }
+}
@@ -0,0 +1,7 @@
+package com.onepiece.bidding_service.engine;
+
+/**
+ * An accepted bid as stored in the {@link BidJournal}, with its journal sequence number.
+ */
+public record JournalRecord(long seq, AcceptedBid bid) {
+}
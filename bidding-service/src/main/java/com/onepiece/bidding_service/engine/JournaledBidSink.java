@@ -0,0 +1,187 @@
+package com.onepiece.bidding_service.engine;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SEQUENCER mode sink: bids are journaled and acknowledged after fsync, then drained to MySQL.
+ *
+ * One thread group-commits the journal: it takes every waiting acknowledgement, forces the
+ * file once and releases them together, so fsync cost is shared by all bids that arrived
+ * during the previous force. A second thread drains durable records in batches through
+ * {@link JournalBatchWriter}, which also stores the checkpoint. On startup anything after
+ * the checkpoint is replayed before the first bid is accepted.
+ *
+ * A failed fsync stops the sink: the bids waiting on it are refused and wiped from the journal
+ * so they can never be persisted later, and every new bid is refused until the service restarts.
+ * Bids already acknowledged are still drained.
+ */
+@Component
+@ConditionalOnProperty(name = "bidding.placement.mode", havingValue = "SEQUENCER")
+@Slf4j
+public class JournaledBidSink implements BidSink {
+
+    private final JournalBatchWriter journalBatchWriter;
+    private final BlockingQueue<PendingAck> pendingAcks = new LinkedBlockingQueue<>();
+    private final ScheduledExecutorService drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "bid-journal-drainer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private BidJournal journal;
+    private Thread fsyncThread;
+    private volatile boolean running;
+
+    @Value("${bidding.journal.path:journal/bids.journal}")
+    private String journalPath;
+
+    @Value("${bidding.journal.size-mb:64}")
+    private int journalSizeMb;
+
+    @Value("${bidding.journal.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${bidding.journal.drain-interval-ms:50}")
+    private long drainIntervalMs;
+
+    public JournaledBidSink(JournalBatchWriter journalBatchWriter) {
+        this.journalBatchWriter = journalBatchWriter;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        journal = BidJournal.open(Path.of(journalPath), journalSizeMb * 1024 * 1024);
+
+        List<JournalRecord> unflushed = journal.recover(journalBatchWriter.checkpoint());
+        if (!unflushed.isEmpty()) {
+            log.info("Replaying {} unflushed bid journal entries", unflushed.size());
+            for (int from = 0; from < unflushed.size(); from += batchSize) {
+                journalBatchWriter.write(unflushed.subList(from, Math.min(from + batchSize, unflushed.size())));
+            }
+        }
+
+        running = true;
+        fsyncThread = new Thread(this::groupCommitLoop, "bid-journal-fsync");
+        fsyncThread.setDaemon(true);
+        fsyncThread.start();
+        drainer.scheduleWithFixedDelay(this::drainQuietly, drainIntervalMs, drainIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public CompletableFuture<Void> submit(AcceptedBid bid) {
+        long seq;
+        try {
+            seq = journal.append(bid);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Bid placement interrupted");
+        } catch (IllegalStateException e) {
+            throw new RuntimeException("Bid could not be recorded. Please try again.", e);
+        }
+        CompletableFuture<Void> durable = new CompletableFuture<>();
+        pendingAcks.add(new PendingAck(seq, durable));
+        return durable;
+    }
+
+    @Override
+    public synchronized void flush() {
+        journal.force();
+        while (drainOnce()) {
+            // keep going until the journal is empty
+        }
+    }
+
+    private synchronized boolean drainOnce() {
+        List<JournalRecord> batch = journal.readDurable(batchSize);
+        if (batch.isEmpty()) {
+            return false;
+        }
+        journalBatchWriter.write(batch);
+        journal.markDrained(batch);
+        log.debug("Drained {} journaled bids up to seq {}", batch.size(), batch.get(batch.size() - 1).seq());
+        return true;
+    }
+
+    private void drainQuietly() {
+        try {
+            while (drainOnce()) {
+                // drain everything durable on each tick
+            }
+        } catch (Exception e) {
+            log.error("Bid journal drain failed, retrying next tick: {}", e.getMessage());
+        }
+    }
+
+    private void groupCommitLoop() {
+        List<PendingAck> batch = new ArrayList<>();
+        while (running) {
+            try {
+                batch.add(pendingAcks.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            // Every ack taken here was appended before force() reads the write position
+            pendingAcks.drainTo(batch);
+            long durableSeq;
+            try {
+                durableSeq = journal.force();
+            } catch (RuntimeException e) {
+                log.error("❌ Bid journal fsync failed, refusing bids until restart: {}", e.getMessage());
+                durableSeq = journal.durableSeq();
+            }
+            acknowledge(batch, durableSeq);
+            batch.clear();
+        }
+    }
+
+    // Bids past the durable sequence were wiped by a failed force and must be reported as not recorded
+    private static void acknowledge(List<PendingAck> acks, long durableSeq) {
+        for (PendingAck ack : acks) {
+            if (ack.seq() <= durableSeq) {
+                ack.durable().complete(null);
+            } else {
+                ack.durable().completeExceptionally(new RuntimeException("Bid could not be recorded. Please try again."));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        running = false;
+        fsyncThread.interrupt();
+        drainer.shutdown();
+        long durableSeq;
+        try {
+            durableSeq = journal.force();
+        } catch (RuntimeException e) {
+            log.error("Bid journal fsync failed on shutdown: {}", e.getMessage());
+            durableSeq = journal.durableSeq();
+        }
+        acknowledge(new ArrayList<>(pendingAcks), durableSeq);
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Bid journal not fully drained on shutdown, will replay on restart: {}", e.getMessage());
+        }
+        journal.close();
+    }
+
+    private record PendingAck(long seq, CompletableFuture<Void> durable) {
+    }
+}
@@ -0,0 +1,355 @@
+package com.onepiece.bidding_service.engine;
+
+import com.onepiece.bidding_service.dto.PlaceBidRequestDTO;
+import com.onepiece.bidding_service.event.AuctionUpdatedEvent;
+import com.onepiece.bidding_service.event.BidDroppedEvent;
+import com.onepiece.bidding_service.mapper.BiddingMapper;
+import com.onepiece.bidding_service.model.Auction;
+import com.onepiece.bidding_service.repo.AuctionRepo;
+import com.onepiece.bidding_service.repo.BiddingRepo;
+import com.onepiece.bidding_service.repo.ProxyBidRepo;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Accepts or rejects bids against in-memory order books instead of a locked auction row.
+ *
+ * Auctions are sharded by auctionId onto single-threaded lanes. Every read-check-write on a
+ * book happens on its lane, so bids on one auction are ordered without any lock, and bids on
+ * different shards never wait on each other. Each lane's bounded queue is the ring buffer for
+ * its shard. Accepted bids are handed to the {@link BidSink} from the lane, which keeps
+ * per-auction persistence order identical to acceptance order.
+ *
+ * The books are local to this instance: with more than one bidding-service replica, bids for
+ * an auction must be routed to the same instance.
+ */
+@Component
+@Slf4j
+public class OrderBookEngine {
+
+    private final AuctionRepo auctionRepo;
+    private final BiddingRepo biddingRepo;
+    private final ProxyBidRepo proxyBidRepo;
+    private final BiddingMapper biddingMapper;
+    private final BidSink bidSink;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SoftClosePolicy softClosePolicy;
+
+    private final Map<Integer, AuctionOrderBook> books = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> fences = new ConcurrentHashMap<>();
+    private final Set<Integer> discarded = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor[] lanes;
+    private final int topBidLimit;
+
+    public OrderBookEngine(AuctionRepo auctionRepo,
+                           BiddingRepo biddingRepo,
+                           ProxyBidRepo proxyBidRepo,
+                           BiddingMapper biddingMapper,
+                           BidSink bidSink,
+                           ApplicationEventPublisher eventPublisher,
+                           SoftClosePolicy softClosePolicy,
+                           @Value("${bidding.order-book.shards:8}") int shards,
+                           @Value("${bidding.order-book.lane-capacity:10000}") int laneCapacity,
+                           @Value("${bidding.order-book.top-bids:20}") int topBidLimit) {
+        this.auctionRepo = auctionRepo;
+        this.biddingRepo = biddingRepo;
+        this.proxyBidRepo = proxyBidRepo;
+        this.biddingMapper = biddingMapper;
+        this.bidSink = bidSink;
+        this.eventPublisher = eventPublisher;
+        this.softClosePolicy = softClosePolicy;
+        this.topBidLimit = topBidLimit;
+        this.lanes = new ThreadPoolExecutor[shards];
+        for (int i = 0; i < shards; i++) {
+            lanes[i] = newLane(i, laneCapacity);
+        }
+    }
+
+    /**
+     * Accept the bid on the auction's lane, let proxy maximums answer it, and hand the bid(s)
+     * to the sink. Returns once the sink says they may be acknowledged; the lane itself never
+     * waits for that. The {@link AuctionUpdatedEvent} is published at the same point. If the sink
+     * refuses the bids, or anything fails once the book holds the bid, the book is dropped and
+     * the next bid rebuilds it from the database.
+     */
+    public AcceptedBid placeBid(PlaceBidRequestDTO request) {
+        CompletableFuture<AcceptedBid> acknowledged = await(onLane(request.getAuctionId(), book -> {
+            AcceptedBid bid = book.accept(request.getBuyerId(), request.getBidAmount());
+            try {
+                AcceptedBid proxyBid = book.resolveProxies(bid.bidTime());
+                return submit(book, proxyBid == null ? List.of(bid) : List.of(bid, proxyBid)).thenApply(ignored -> bid);
+            } catch (RuntimeException e) {
+                discard(book);
+                throw e;
+            }
+        }));
+        return await(acknowledged);
+    }
+
+    /**
+     * Place many bids, possibly across auctions, with one lane hop per auction instead of one
+     * per bid. Bids of an auction are accepted in list order and proxies answer each of them;
+     * a rejected bid does not stop the rest. The sink persists the accepted bids as one group,
+     * and each auction publishes a single {@link AuctionUpdatedEvent} for its final state.
+     * If the sink refuses an auction's group, all of its bids are rejected and its book is
+     * rebuilt from the database on the next bid. Returns one outcome per request, in list order.
+     */
+    public List<BidOutcome> placeBids(List<PlaceBidRequestDTO> requests) {
+        Map<Integer, List<Integer>> byAuction = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            byAuction.computeIfAbsent(requests.get(i).getAuctionId(), id -> new ArrayList<>()).add(i);
+        }
+
+        BidOutcome[] outcomes = new BidOutcome[requests.size()];
+        Map<Integer, CompletableFuture<CompletableFuture<Void>>> accepted = new LinkedHashMap<>();
+        byAuction.forEach((auctionId, indexes) -> {
+            try {
+                accepted.put(auctionId, onLane(auctionId, book -> {
+                    List<AcceptedBid> bids = new ArrayList<>();
+                    try {
+                        for (int i : indexes) {
+                            PlaceBidRequestDTO request = requests.get(i);
+                            AcceptedBid bid;
+                            try {
+                                bid = book.accept(request.getBuyerId(), request.getBidAmount());
+                            } catch (IllegalArgumentException e) {
+                                outcomes[i] = BidOutcome.rejected(e.getMessage());
+                                continue;
+                            }
+                            bids.add(bid);
+                            outcomes[i] = BidOutcome.accepted(bid);
+                            // Once accepted the bid is in the book; a failure past here fails the whole group
+                            AcceptedBid proxyBid = book.resolveProxies(bid.bidTime());
+                            if (proxyBid != null) {
+                                bids.add(proxyBid);
+                            }
+                        }
+                    } catch (RuntimeException e) {
+                        // The book already holds the bids before this one, none of which reach the sink
+                        if (!bids.isEmpty()) {
+                            discard(book);
+                        }
+                        throw e;
+                    }
+                    return bids.isEmpty() ? CompletableFuture.<Void>completedFuture(null) : submit(book, bids);
+                }));
+            } catch (RuntimeException e) {
+                indexes.forEach(i -> outcomes[i] = BidOutcome.rejected(e.getMessage()));
+            }
+        });
+
+        accepted.forEach((auctionId, laneResult) -> {
+            try {
+                await(await(laneResult));
+            } catch (RuntimeException e) {
+                // Auction missing or its bids could not be recorded: nothing of it is acknowledged,
+                // and submit() has dropped the book so it no longer holds them either
+                for (int i : byAuction.get(auctionId)) {
+                    outcomes[i] = BidOutcome.rejected(e.getMessage());
+                }
+            }
+        });
+        return Arrays.asList(outcomes);
+    }
+
+    /**
+     * Register or raise a buyer's maximum on the auction's lane. The maximum is persisted
+     * before it takes part, then proxies answer the current high bid at once.
+     */
+    public ProxyRegistration registerProxy(int auctionId, int buyerId, int maxAmount) {
+        CompletableFuture<ProxyRegistration> acknowledged = await(onLane(auctionId, book -> {
+            LocalDateTime now = LocalDateTime.now();
+            book.checkProxy(buyerId, maxAmount, now);
+            ProxyMax proxy = new ProxyMax(buyerId, maxAmount, now);
+            proxyBidRepo.upsert(auctionId, buyerId, maxAmount, proxy.registeredAt());
+            book.putProxy(proxy);
+            AcceptedBid proxyBid = book.resolveProxies(now);
+            ProxyRegistration registration = new ProxyRegistration(proxy, proxyBid,
+                    book.getCurrPrice(), book.getHighBidderId());
+            if (proxyBid == null) {
+                return CompletableFuture.completedFuture(registration);
+            }
+            return submit(book, List.of(proxyBid)).thenApply(ignored -> registration);
+        }));
+        return await(acknowledged);
+    }
+
+    // Runs on the lane, bids in acceptance order; the event carries the book's state after the last one.
+    // The book already holds the bids, so if the sink refuses them the book is discarded
+    private CompletableFuture<Void> submit(AuctionOrderBook book, List<AcceptedBid> bids) {
+        AcceptedBid last = bids.get(bids.size() - 1);
+        AuctionUpdatedEvent event = new AuctionUpdatedEvent(last.auctionId(), last.bidAmount(),
+                book.getBidCount(), book.getStatus().name(), last.buyerId(), book.getEndsAt(), last.bidTime());
+        CompletableFuture<Void> persisted;
+        try {
+            persisted = bids.size() == 1
+                    ? bidSink.submit(last)
+                    : CompletableFuture.allOf(bids.stream().map(bidSink::submit).toArray(CompletableFuture[]::new));
+        } catch (RuntimeException e) {
+            persisted = CompletableFuture.failedFuture(e);
+        }
+        return persisted
+                .whenComplete((ignored, failure) -> {
+                    if (failure != null) {
+                        discard(book);
+                    }
+                })
+                .thenRun(() -> eventPublisher.publishEvent(event));
+    }
+
+    /**
+     * The sink gave up on a bid it had already acknowledged; the book still counts it.
+     */
+    @EventListener
+    public void onBidDropped(BidDroppedEvent event) {
+        AuctionOrderBook book = books.get(event.auctionId());
+        if (book != null) {
+            discard(book);
+        }
+    }
+
+    // Any thread. Marked before removal so the lane cannot reload the book without flushing first
+    private void discard(AuctionOrderBook book) {
+        discarded.add(book.getAuctionId());
+        if (books.remove(book.getAuctionId(), book)) {
+            log.warn("Bids for auction {} could not be recorded, order book dropped", book.getAuctionId());
+        }
+    }
+
+    /**
+     * Current book for the auction if it is loaded, without touching the lane.
+     */
+    public AuctionOrderBook peek(int auctionId) {
+        return books.get(auctionId);
+    }
+
+    /**
+     * Drop the book and flush its pending bids so the next bid reloads from the database.
+     * Called whenever the auction row is changed outside the order book.
+     */
+    public void evict(int auctionId) {
+        await(CompletableFuture.runAsync(() -> {
+            books.remove(auctionId);
+            bidSink.flush();
+        }, laneFor(auctionId)));
+    }
+
+    /**
+     * Flush and drop the book, then refuse bids on the auction until {@link #release} is called.
+     * Wraps a change to the auction row made outside the order book, so no bid can reload a
+     * book from the row as it was before the change commits.
+     */
+    public void fence(int auctionId) {
+        await(CompletableFuture.runAsync(() -> {
+            fences.merge(auctionId, 1, Integer::sum);
+            books.remove(auctionId);
+            bidSink.flush();
+        }, laneFor(auctionId)));
+    }
+
+    /**
+     * Undo {@link #fence}; the next bid loads the book from the row as committed.
+     */
+    public void release(int auctionId) {
+        await(CompletableFuture.runAsync(() -> {
+            fences.computeIfPresent(auctionId, (id, count) -> count == 1 ? null : count - 1);
+            books.remove(auctionId);
+        }, laneFor(auctionId)));
+    }
+
+    private <T> CompletableFuture<T> onLane(int auctionId, Function<AuctionOrderBook, T> action) {
+        try {
+            return CompletableFuture.supplyAsync(() -> action.apply(bookFor(auctionId)), laneFor(auctionId));
+        } catch (RejectedExecutionException e) {
+            throw new RuntimeException(
+                    "Auction " + auctionId + " is experiencing high bidding activity. Please try again.");
+        }
+    }
+
+    // Runs on the owning lane, so the load happens at most once per auction
+    private AuctionOrderBook bookFor(int auctionId) {
+        AuctionOrderBook book = books.get(auctionId);
+        if (book == null) {
+            if (fences.containsKey(auctionId)) {
+                throw new IllegalArgumentException(
+                        "Cannot place bid. Auction " + auctionId + " is being updated. Please try again.");
+            }
+            if (discarded.remove(auctionId)) {
+                // Whatever the sink did keep must be in the database before the book is rebuilt from it
+                try {
+                    bidSink.flush();
+                } catch (RuntimeException e) {
+                    discarded.add(auctionId);
+                    throw new RuntimeException("Bid could not be recorded. Please try again.");
+                }
+            }
+            Auction auction = auctionRepo.findById(auctionId)
+                    .orElseThrow(() -> new RuntimeException("Auction not found with ID: " + auctionId));
+            List<AcceptedBid> topBids = biddingRepo
+                    .findByAuctionIdOrderByNewBidAmountDescBidTimeDesc(auctionId, PageRequest.of(0, topBidLimit))
+                    .stream()
+                    .map(biddingMapper::toAcceptedBid)
+                    .toList();
+            book = new AuctionOrderBook(auction, topBids, topBidLimit, softClosePolicy,
+                    proxyBidRepo.findMaxesByAuctionId(auctionId));
+            books.put(auctionId, book);
+            log.debug("Loaded order book for auction {} at price {}", auctionId, book.getCurrPrice());
+        }
+        return book;
+    }
+
+    private Executor laneFor(int auctionId) {
+        return lanes[Math.floorMod(auctionId, lanes.length)];
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static ThreadPoolExecutor newLane(int index, int capacity) {
+        AtomicInteger created = new AtomicInteger();
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "order-book-lane-" + index + "-" + created.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("Order book lane did not drain within 5s");
+            }
+        }
+    }
+}
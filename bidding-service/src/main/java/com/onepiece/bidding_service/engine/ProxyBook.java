@@ -0,0 +1,56 @@
+package com.onepiece.bidding_service.engine;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * The proxy maximums of one auction, strongest first.
+ *
+ * Owned by the auction's order book lane like the rest of {@link AuctionOrderBook}, so it is
+ * not thread-safe. Resolution only ever looks at the top two or three entries, so a bid
+ * against thousands of proxies costs the same as against two; registering or raising a
+ * maximum is O(log n).
+ */
+final class ProxyBook {
+
+    static final Comparator<ProxyMax> STRONGEST_FIRST = Comparator
+            .comparingInt(ProxyMax::maxAmount).reversed()
+            .thenComparing(ProxyMax::registeredAt)
+            .thenComparingInt(ProxyMax::buyerId);
+
+    private final Map<Integer, ProxyMax> byBuyer = new HashMap<>();
+    private final NavigableSet<ProxyMax> ranked = new TreeSet<>(STRONGEST_FIRST);
+
+    ProxyBook(List<ProxyMax> seed) {
+        seed.forEach(this::put);
+    }
+
+    ProxyMax get(int buyerId) {
+        return byBuyer.get(buyerId);
+    }
+
+    // Replaces the buyer's previous maximum
+    void put(ProxyMax proxy) {
+        ProxyMax previous = byBuyer.put(proxy.buyerId(), proxy);
+        if (previous != null) {
+            ranked.remove(previous);
+        }
+        ranked.add(proxy);
+    }
+
+    NavigableSet<ProxyMax> ranked() {
+        return ranked;
+    }
+
+    boolean isEmpty() {
+        return byBuyer.isEmpty();
+    }
+
+    int size() {
+        return byBuyer.size();
+    }
+}
@@ -0,0 +1,9 @@
+package com.onepiece.bidding_service.engine;
+
+import java.time.LocalDateTime;
+
+/**
+ * A buyer's standing maximum on one auction. Between equal maximums the earlier one wins.
+ */
+public record ProxyMax(int buyerId, int maxAmount, LocalDateTime registeredAt) {
+}
@@ -0,0 +1,8 @@
+package com.onepiece.bidding_service.engine;
+
+/**
+ * Outcome of registering a maximum: the book's price and leader once proxies have answered,
+ * and the bid placed to get there (null if none was needed).
+ */
+public record ProxyRegistration(ProxyMax proxy, AcceptedBid bid, int currPrice, Integer highBidderId) {
+}
@@ -0,0 +1,41 @@
+package com.onepiece.bidding_service.engine;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Anti-sniping soft close: a bid in the last {@code bidding.soft-close.seconds} of an auction
+ * moves its close to that many seconds after the bid. 0 turns it off.
+ *
+ * The new close depends only on the bid time, never on how many bids came before, so a burst
+ * of last-second bids keeps the close at most one window ahead instead of stacking extensions.
+ * It also means the batch writers can persist the close from the newest bid of a batch alone.
+ */
+@Component
+public class SoftClosePolicy {
+
+    private final long seconds;
+
+    public SoftClosePolicy(@Value("${bidding.soft-close.seconds:30}") long seconds) {
+        this.seconds = seconds;
+    }
+
+    /**
+     * Close time after accepting a bid at {@code bidTime}; unchanged outside the window or
+     * for auctions without a close time.
+     */
+    public LocalDateTime extend(LocalDateTime endsAt, LocalDateTime bidTime) {
+        LocalDateTime extended = extendedEnd(bidTime);
+        return endsAt != null && extended != null && extended.isAfter(endsAt) ? extended : endsAt;
+    }
+
+    /**
+     * Earliest close a bid at {@code bidTime} allows, or null when soft close is off.
+     * Persisted as {@code ends_at = max(ends_at, extendedEnd)}, which leaves a null ends_at null.
+     */
+    public LocalDateTime extendedEnd(LocalDateTime bidTime) {
+        return seconds > 0 ? bidTime.plusSeconds(seconds) : null;
+    }
+}
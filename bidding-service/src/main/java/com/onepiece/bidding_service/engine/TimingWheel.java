@@ -0,0 +1,199 @@
+package com.onepiece.bidding_service.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: schedule and cancel are O(1) however many timers are pending.
+ *
+ * Time is counted in ticks of {@code tickMs}. Level 0 has one slot per tick; each level above
+ * has slots {@code 2^bitsPerLevel} times wider. A timer goes into the lowest level whose
+ * current block also contains its deadline, so it lands in a slot that is reached before the
+ * deadline. When a higher-level slot is reached its timers cascade down a level, and level 0
+ * slots expire. Advancing one tick costs O(levels) plus the timers actually moved or expired.
+ * Deadlines beyond the top level wait in an overflow list that is re-sorted once per top-level turn.
+ *
+ * Every method is synchronized so timers can be added from request threads while one thread
+ * advances the wheel.
+ */
+public class TimingWheel<T> {
+
+    private final long tickMs;
+    private final int bits;
+    private final int levels;
+    private final long mask;
+    private final Slot<T>[][] wheel;
+    private final Slot<T> overflow = new Slot<>();
+
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMs, int bitsPerLevel, int levels, long startMs) {
+        if (tickMs <= 0 || bitsPerLevel <= 0 || levels <= 0 || (long) bitsPerLevel * levels >= 62) {
+            throw new IllegalArgumentException("Invalid timing wheel geometry");
+        }
+        this.tickMs = tickMs;
+        this.bits = bitsPerLevel;
+        this.levels = levels;
+        this.mask = (1L << bitsPerLevel) - 1;
+        this.wheel = new Slot[levels][1 << bitsPerLevel];
+        for (Slot<T>[] level : wheel) {
+            for (int i = 0; i < level.length; i++) {
+                level[i] = new Slot<>();
+            }
+        }
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * Add a timer. The deadline is rounded up to the next tick, so a timer never fires early.
+     * Returns null when the deadline has already passed; the caller handles it right away instead.
+     */
+    public synchronized Timeout<T> schedule(long deadlineMs, T payload) {
+        Timeout<T> timeout = new Timeout<>(this, Math.floorDiv(deadlineMs + tickMs - 1, tickMs), payload);
+        if (!place(timeout)) {
+            return null;
+        }
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Move the wheel forward to {@code nowMs}, passing each expired timer to {@code expired}
+     * tick by tick. The callback runs while the wheel is locked and must not block.
+     */
+    public synchronized void advanceTo(long nowMs, Consumer<Timeout<T>> expired) {
+        long targetTick = nowMs / tickMs;
+        List<Timeout<T>> moved = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            if ((currentTick & ((1L << (bits * levels)) - 1)) == 0) {
+                cascade(overflow, moved, expired);
+            }
+            for (int level = levels - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (bits * level)) - 1)) == 0) {
+                    cascade(wheel[level][(int) ((currentTick >>> (bits * level)) & mask)], moved, expired);
+                }
+            }
+            Slot<T> due = wheel[0][(int) (currentTick & mask)];
+            for (Timeout<T> timeout = due.head; timeout != null; ) {
+                Timeout<T> next = timeout.next;
+                due.remove(timeout);
+                size--;
+                expired.accept(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void cascade(Slot<T> slot, List<Timeout<T>> moved, Consumer<Timeout<T>> expired) {
+        moved.clear();
+        for (Timeout<T> timeout = slot.head; timeout != null; timeout = timeout.next) {
+            moved.add(timeout);
+        }
+        for (Timeout<T> timeout : moved) {
+            slot.remove(timeout);
+            if (!place(timeout)) {
+                size--;
+                expired.accept(timeout);
+            }
+        }
+    }
+
+    // Level = lowest one whose current block also holds the deadline; false if already due
+    private boolean place(Timeout<T> timeout) {
+        long deadline = timeout.deadlineTick;
+        if (deadline <= currentTick) {
+            return false;
+        }
+        for (int level = 0; level < levels; level++) {
+            int shift = bits * (level + 1);
+            if ((deadline >>> shift) == (currentTick >>> shift)) {
+                wheel[level][(int) ((deadline >>> (bits * level)) & mask)].add(timeout);
+                return true;
+            }
+        }
+        overflow.add(timeout);
+        return true;
+    }
+
+    private synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.slot == null) {
+            return false;
+        }
+        timeout.slot.remove(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * A pending timer. Cancelling is O(1); cancelling an expired timer does nothing.
+     */
+    public static final class Timeout<T> {
+
+        private final TimingWheel<T> wheel;
+        private final long deadlineTick;
+        private final T payload;
+
+        private Slot<T> slot;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(TimingWheel<T> wheel, long deadlineTick, T payload) {
+            this.wheel = wheel;
+            this.deadlineTick = deadlineTick;
+            this.payload = payload;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        public long deadlineMs() {
+            return deadlineTick * wheel.tickMs;
+        }
+
+        /**
+         * Returns false when the timer already expired or was cancelled.
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+    }
+
+    // Intrusive doubly linked list so a timer can unlink itself without a search
+    private static final class Slot<T> {
+
+        private Timeout<T> head;
+
+        void add(Timeout<T> timeout) {
+            timeout.slot = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.slot = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+    }
+}
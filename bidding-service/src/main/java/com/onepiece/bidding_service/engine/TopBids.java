@@ -0,0 +1,82 @@
+package com.onepiece.bidding_service.engine;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The K highest bids of one auction, highest first (ties broken by later bid time, matching
+ * the (auction_id, new_bid_amount DESC, bid_time DESC) index).
+ *
+ * Written only by the auction's lane. Every add publishes a fresh array, so readers on any
+ * thread get a consistent snapshot without locking. A sorted array is used rather than a heap
+ * because reads need ordered pages; accepted bids are normally the new highest, so an add is
+ * a single shift of at most K references.
+ */
+public final class TopBids {
+
+    static final Comparator<AcceptedBid> HIGHEST_FIRST = Comparator
+            .comparingInt(AcceptedBid::bidAmount).reversed()
+            .thenComparing(AcceptedBid::bidTime, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final int capacity;
+    private volatile AcceptedBid[] highestFirst;
+
+    TopBids(int capacity, List<AcceptedBid> seed) {
+        this.capacity = capacity;
+        AcceptedBid[] sorted = seed.toArray(new AcceptedBid[0]);
+        Arrays.sort(sorted, HIGHEST_FIRST);
+        this.highestFirst = Arrays.copyOf(sorted, Math.min(sorted.length, capacity));
+    }
+
+    void add(AcceptedBid bid) {
+        AcceptedBid[] current = highestFirst;
+        int pos = insertionPoint(current, bid);
+        if (pos >= capacity) {
+            return;
+        }
+        int size = Math.min(current.length + 1, capacity);
+        AcceptedBid[] next = new AcceptedBid[size];
+        System.arraycopy(current, 0, next, 0, pos);
+        next[pos] = bid;
+        System.arraycopy(current, pos, next, pos + 1, size - pos - 1);
+        highestFirst = next;
+    }
+
+    public AcceptedBid highest() {
+        AcceptedBid[] current = highestFirst;
+        return current.length == 0 ? null : current[0];
+    }
+
+    /**
+     * Bids ranked [offset, offset + limit), highest first. Shorter than limit past the end.
+     */
+    public List<AcceptedBid> page(int offset, int limit) {
+        AcceptedBid[] current = highestFirst;
+        int from = Math.min(offset, current.length);
+        int to = Math.min(from + limit, current.length);
+        return List.of(Arrays.copyOfRange(current, from, to));
+    }
+
+    public int size() {
+        return highestFirst.length;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private static int insertionPoint(AcceptedBid[] sorted, AcceptedBid bid) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (HIGHEST_FIRST.compare(sorted[mid], bid) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
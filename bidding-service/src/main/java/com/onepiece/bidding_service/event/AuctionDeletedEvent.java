@@ -0,0 +1,7 @@
+package com.onepiece.bidding_service.event;
+
+/**
+ * Published in-process when an auction is deleted, so read models can drop it.
+ */
+public record AuctionDeletedEvent(int auctionId) {
+}
@@ -0,0 +1,29 @@
+package com.onepiece.bidding_service.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published in-process whenever an auction's live state changes: a bid was committed
+ * (or acknowledged by the order book) or the auction itself was updated.
+ *
+ * Values are absolute, not increments, so a consumer can always keep only the newest one.
+ */
+public record AuctionUpdatedEvent(int auctionId,
+                                  int currPrice,
+                                  int bidCount,
+                                  String currStatus,
+                                  Integer lastBidderId,
+                                  LocalDateTime endsAt,
+                                  LocalDateTime updatedAt) {
+
+    /**
+     * Newer of two events for the same auction. Bid counts only grow, so a lower count is
+     * always stale; with equal counts the later event (e.g. a status change) wins.
+     */
+    public static AuctionUpdatedEvent newest(AuctionUpdatedEvent current, AuctionUpdatedEvent incoming) {
+        if (current == null || incoming.bidCount() >= current.bidCount()) {
+            return incoming;
+        }
+        return current;
+    }
+}
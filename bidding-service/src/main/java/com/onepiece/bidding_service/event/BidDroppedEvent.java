@@ -0,0 +1,8 @@
+package com.onepiece.bidding_service.event;
+
+/**
+ * Published in-process when an accepted bid could not be persisted and was given up on,
+ * so the order book can stop holding it.
+ */
+public record BidDroppedEvent(int auctionId, int buyerId, int bidAmount) {
+}
@@ -1,10 +1,14 @@
 package com.onepiece.bidding_service.mapper;
 
-import com.onepiece.bidding_service.dto.AuctionRequestDTO;
+import com.onepiece.bidding_service.dto.AuctionPriceUpdateDTO;
 import com.onepiece.bidding_service.dto.AuctionResponseDTO;
+import com.onepiece.bidding_service.event.AuctionUpdatedEvent;
 import com.onepiece.bidding_service.model.Auction;
+import com.onepiece.common.dto.AuctionRequestDTO;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
 @Component
 public class AuctionMapper {
 
@@ -17,9 +21,11 @@ public class AuctionMapper {
         auction.setProductId(dto.getProductId());
         auction.setPriceJump(dto.getPriceJump());
         auction.setCurrPrice(dto.getStartingPrice());
-        auction.setBidCount(dto.getBidCount());
+        auction.setBidCount(dto.getBidCount() != null ? dto.getBidCount() : 0);
         auction.setCreatedBy(dto.getSellerId());
         auction.setUpdatedBy(dto.getSellerId());
+        auction.setStartsAt(dto.getStartsAt());
+        auction.setEndsAt(dto.getEndsAt());
 
         // Handle status
         if (dto.getCurrStatus() != null && !dto.getCurrStatus().isBlank()) {
@@ -48,10 +54,43 @@ public class AuctionMapper {
                 .priceJump(auction.getPriceJump())
                 .currStatus(auction.getCurrStatus() != null ? auction.getCurrStatus().name() : null)
                 .bidCount(auction.getBidCount())
+                .startsAt(auction.getStartsAt())
+                .endsAt(auction.getEndsAt())
                 .createdAt(auction.getCreatedAt())
                 .updatedAt(auction.getUpdatedAt())
                 .createdBy(auction.getCreatedBy())
                 .updatedBy(auction.getUpdatedBy())
                 .build();
     }
+
+    public AuctionUpdatedEvent toUpdatedEvent(Auction auction, Integer lastBidderId) {
+        if (auction == null) {
+            return null;
+        }
+
+        return new AuctionUpdatedEvent(
+                auction.getAuctionId(),
+                auction.getCurrPrice(),
+                auction.getBidCount(),
+                auction.getCurrStatus() != null ? auction.getCurrStatus().name() : null,
+                lastBidderId,
+                auction.getEndsAt(),
+                auction.getUpdatedAt() != null ? auction.getUpdatedAt() : LocalDateTime.now());
+    }
+
+    public AuctionPriceUpdateDTO toPriceUpdateDTO(AuctionUpdatedEvent event) {
+        if (event == null) {
+            return null;
+        }
+
+        return AuctionPriceUpdateDTO.builder()
+                .auctionId(event.auctionId())
+                .currPrice(event.currPrice())
+                .bidCount(event.bidCount())
+                .currStatus(event.currStatus())
+                .lastBidderId(event.lastBidderId())
+                .endsAt(event.endsAt())
+                .updatedAt(event.updatedAt())
+                .build();
+    }
 }
\ No newline at end of file
@@ -2,8 +2,14 @@ package com.onepiece.bidding_service.mapper;
 
 import com.onepiece.bidding_service.dto.BiddingRequestDTO;
 import com.onepiece.bidding_service.dto.BiddingResponseDTO;
+import com.onepiece.bidding_service.dto.BulkBidResultDTO;
 import com.onepiece.bidding_service.dto.PlaceBidRequestDTO;
+import com.onepiece.bidding_service.dto.ProxyBidResponseDTO;
+import com.onepiece.bidding_service.engine.AcceptedBid;
+import com.onepiece.bidding_service.engine.ProxyMax;
+import com.onepiece.bidding_service.engine.ProxyRegistration;
 import com.onepiece.bidding_service.model.Bidding;
+import com.onepiece.bidding_service.model.IdempotentBid;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -52,4 +58,101 @@ public class BiddingMapper {
                 .updatedBy(bidding.getUpdatedBy())
                 .build();
     }
-}
\ No newline at end of file
+
+    public Bidding toEntity(AcceptedBid bid) {
+        if (bid == null) {
+            return null;
+        }
+
+        Bidding bidding = new Bidding();
+        bidding.setAuctionId(bid.auctionId());
+        bidding.setBuyerId(bid.buyerId());
+        bidding.setNewBidAmount(bid.bidAmount());
+        bidding.setBidTime(bid.bidTime());
+        bidding.setCreatedAt(bid.bidTime());
+        bidding.setUpdatedAt(bid.bidTime());
+        bidding.setCreatedBy(bid.buyerId());
+        bidding.setUpdatedBy(bid.buyerId());
+
+        return bidding;
+    }
+
+    public AcceptedBid toAcceptedBid(Bidding bidding) {
+        if (bidding == null) {
+            return null;
+        }
+
+        return new AcceptedBid(bidding.getAuctionId(), bidding.getBuyerId(),
+                bidding.getNewBidAmount(), bidding.getBidTime());
+    }
+
+    /**
+     * Response for a bid accepted by the order book. bidId stays 0 until the row is flushed.
+     */
+    public BiddingResponseDTO toResponseDTO(AcceptedBid bid) {
+        if (bid == null) {
+            return null;
+        }
+
+        return BiddingResponseDTO.builder()
+                .auctionId(bid.auctionId())
+                .buyerId(bid.buyerId())
+                .newBidAmount(bid.bidAmount())
+                .bidTime(bid.bidTime())
+                .createdAt(bid.bidTime())
+                .updatedAt(bid.bidTime())
+                .createdBy(bid.buyerId())
+                .updatedBy(bid.buyerId())
+                .build();
+    }
+
+    public ProxyBidResponseDTO toResponseDTO(int auctionId, ProxyRegistration registration) {
+        if (registration == null) {
+            return null;
+        }
+
+        ProxyMax proxy = registration.proxy();
+        return ProxyBidResponseDTO.builder()
+                .auctionId(auctionId)
+                .buyerId(proxy.buyerId())
+                .maxAmount(proxy.maxAmount())
+                .registeredAt(proxy.registeredAt())
+                .currPrice(registration.currPrice())
+                .highBidderId(registration.highBidderId())
+                .leading(registration.highBidderId() != null && registration.highBidderId() == proxy.buyerId())
+                .build();
+    }
+
+    /**
+     * Original response of a bid placed with an Idempotency-Key, rebuilt from its claim.
+     */
+    public BiddingResponseDTO toResponseDTO(IdempotentBid claim) {
+        if (claim == null) {
+            return null;
+        }
+
+        return BiddingResponseDTO.builder()
+                .bidId(claim.getBidId() == null ? 0 : claim.getBidId())
+                .auctionId(claim.getAuctionId())
+                .buyerId(claim.getBuyerId())
+                .newBidAmount(claim.getBidAmount())
+                .bidTime(claim.getBidTime())
+                .createdAt(claim.getBidTime())
+                .updatedAt(claim.getBidTime())
+                .createdBy(claim.getBuyerId())
+                .updatedBy(claim.getBuyerId())
+                .build();
+    }
+
+    public BulkBidResultDTO toBulkResult(int index, PlaceBidRequestDTO request, BiddingResponseDTO bid, String error) {
+        return BulkBidResultDTO.builder()
+                .index(index)
+                .auctionId(request.getAuctionId())
+                .buyerId(request.getBuyerId())
+                .bidAmount(request.getBidAmount())
+                .accepted(bid != null)
+                .bid(bid)
+                .error(error)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.onepiece.bidding_service.model;
 
+import com.onepiece.common.id.PooledIds;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -8,14 +9,19 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "auction")
+@Table(name = "auction", indexes = {
+        @Index(name = "idx_auction_created_by", columnList = "created_by, auction_id"),
+        @Index(name = "idx_auction_created_by_status", columnList = "created_by, curr_status, auction_id"),
+        @Index(name = "idx_auction_status_ends_at", columnList = "curr_status, ends_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Auction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "auction_seq")
+    @SequenceGenerator(name = "auction_seq", sequenceName = "auction_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "auction_id")
     private int auctionId;
 
@@ -35,6 +41,13 @@ public class Auction {
     @Column(name = "bid_count", nullable = false)
     private int bidCount;
 
+    // Lifecycle schedule; when null the auction is only opened/closed through PUT /auction/{id}
+    @Column(name = "starts_at")
+    private LocalDateTime startsAt;
+
+    @Column(name = "ends_at")
+    private LocalDateTime endsAt;
+
     @Version
     @Column(name = "version")
     private Long version;
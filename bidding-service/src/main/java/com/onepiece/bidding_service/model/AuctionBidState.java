@@ -0,0 +1,9 @@
+package com.onepiece.bidding_service.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bid count and close time of an auction, as left by the bid that just updated it.
+ */
+public record AuctionBidState(int bidCount, LocalDateTime endsAt) {
+}
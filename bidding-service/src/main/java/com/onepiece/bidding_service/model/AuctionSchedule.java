@@ -0,0 +1,10 @@
+package com.onepiece.bidding_service.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Just the columns the lifecycle scheduler needs to put an auction back on its timing wheel.
+ */
+public record AuctionSchedule(int auctionId, Auction.currStatus currStatus,
+                              LocalDateTime startsAt, LocalDateTime endsAt) {
+}
@@ -1,11 +1,11 @@
 package com.onepiece.bidding_service.model;
 
 
+import com.onepiece.common.id.PooledIds;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.CurrentTimestamp;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -15,14 +15,20 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "bidding", indexes = {
+        // Serves highest-bid, winner and leaderboard reads as an index range scan without a sort
+        @Index(name = "idx_bidding_auction_amount_time", columnList = "auction_id, new_bid_amount DESC, bid_time DESC")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
 public class Bidding {
 
+    // Pooled ids so bid inserts are JDBC-batched (see PooledIds)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bidding_seq")
+    @SequenceGenerator(name = "bidding_seq", sequenceName = "bidding_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     private int bidId;
 
     @Column(name = "auction_id")
@@ -34,7 +40,7 @@ public class Bidding {
     @Column(name = "new_bid_amount")
     private int newBidAmount;
 
-    @CurrentTimestamp
+    // Always set by the caller (acceptance time); a DB-generated value would be read back per row
     @Column(name = "bid_time")
     private LocalDateTime bidTime;
 
@@ -0,0 +1,45 @@
+package com.onepiece.bidding_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Claim on an Idempotency-Key of POST /bids/place-bid; the primary key makes a second placement
+ * with the same key impossible across instances and restarts. bidTime stays null while the bid
+ * is being placed, then holds what the original response carried.
+ */
+@Entity
+@Table(name = "idempotent_bid", indexes =
+        @Index(name = "idx_idempotent_bid_created_at", columnList = "created_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotentBid {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "auction_id", nullable = false)
+    private int auctionId;
+
+    @Column(name = "buyer_id", nullable = false)
+    private int buyerId;
+
+    @Column(name = "bid_amount", nullable = false)
+    private int bidAmount;
+
+    // 0 when the order book placed the bid and its row was not written yet
+    @Column(name = "bid_id")
+    private Integer bidId;
+
+    @Column(name = "bid_time")
+    private LocalDateTime bidTime;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
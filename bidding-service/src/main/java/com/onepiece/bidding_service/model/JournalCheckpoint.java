@@ -0,0 +1,28 @@
+package com.onepiece.bidding_service.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Highest bid journal sequence already written to the bidding table.
+ * Stored in the same transaction as the rows so a replay never inserts a bid twice.
+ */
+@Entity
+@Table(name = "bid_journal_checkpoint")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JournalCheckpoint {
+
+    @Id
+    @Column(name = "journal_name")
+    private String journalName;
+
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
+}
@@ -0,0 +1,83 @@
+package com.onepiece.bidding_service.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Payment hand-off for a completed auction. Written in the same transaction as the COMPLETED
+ * status change and delivered to payment-service later by the outbox relay, so a payment is
+ * never lost to a slow or unavailable payment-service.
+ *
+ * The completing caller's X-Auth-* identity is kept with the row: payment-service requires it
+ * and the relay runs outside the original request.
+ */
+@Entity
+@Table(name = "payment_outbox", indexes = {
+        @Index(name = "idx_payment_outbox_due", columnList = "status, next_attempt_at, outbox_id")
+})
+@Data
+@NoArgsConstructor
+public class PaymentOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private long id;
+
+    // Sent as the Idempotency-Key header; one per auction
+    @Column(name = "idempotency_key", nullable = false, unique = true, length = 64)
+    private String idempotencyKey;
+
+    @Column(name = "auction_id", nullable = false)
+    private int auctionId;
+
+    @Column(name = "product_id", nullable = false)
+    private int productId;
+
+    @Column(name = "buyer_id", nullable = false)
+    private int buyerId;
+
+    @Column(name = "seller_id", nullable = false)
+    private int sellerId;
+
+    @Column(name = "final_amount", nullable = false)
+    private int finalAmount;
+
+    @Column(name = "auth_user_id", length = 20)
+    private String authUserId;
+
+    @Column(name = "auth_user_name", length = 100)
+    private String authUserName;
+
+    @Column(name = "auth_user_roles")
+    private String authUserRoles;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private Status status = Status.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public enum Status {
+        PENDING,
+        SENT,
+        // Gave up: rejected by payment-service or out of attempts; needs a manual look
+        FAILED
+    }
+}
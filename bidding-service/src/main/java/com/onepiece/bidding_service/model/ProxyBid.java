@@ -0,0 +1,38 @@
+package com.onepiece.bidding_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A buyer's maximum bid on an auction; one row per (auction, buyer), overwritten when raised.
+ * The bids the engine places on the buyer's behalf are ordinary rows in the bidding table.
+ */
+@Entity
+@Table(name = "proxy_bid", uniqueConstraints =
+        @UniqueConstraint(name = "uk_proxy_bid_auction_buyer", columnNames = {"auction_id", "buyer_id"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProxyBid {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "proxy_bid_id")
+    private long id;
+
+    @Column(name = "auction_id", nullable = false)
+    private int auctionId;
+
+    @Column(name = "buyer_id", nullable = false)
+    private int buyerId;
+
+    @Column(name = "max_amount", nullable = false)
+    private int maxAmount;
+
+    @Column(name = "registered_at", nullable = false)
+    private LocalDateTime registeredAt;
+}
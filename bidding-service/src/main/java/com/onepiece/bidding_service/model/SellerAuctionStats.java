@@ -0,0 +1,51 @@
+package com.onepiece.bidding_service.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Running per-seller auction counters, one row per (seller, status).
+ * gmv is the sum of currPrice over the seller's auctions in that status and is only
+ * tracked for COMPLETED, where the price is final.
+ */
+@Entity
+@Table(name = "seller_auction_stats")
+@IdClass(SellerAuctionStats.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SellerAuctionStats {
+
+    @Id
+    @Column(name = "seller_id")
+    private int sellerId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "curr_status", length = 20)
+    private Auction.currStatus currStatus;
+
+    @Column(name = "auction_count", nullable = false)
+    private long auctionCount;
+
+    @Column(name = "gmv", nullable = false)
+    private long gmv;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private int sellerId;
+        private Auction.currStatus currStatus;
+    }
+}
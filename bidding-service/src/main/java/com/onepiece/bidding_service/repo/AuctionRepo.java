@@ -1,15 +1,25 @@
 package com.onepiece.bidding_service.repo;
 
 import com.onepiece.bidding_service.model.Auction;
+import com.onepiece.bidding_service.model.AuctionBidState;
+import com.onepiece.bidding_service.model.AuctionSchedule;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AuctionRepo extends JpaRepository<Auction, Integer> {
@@ -20,8 +30,66 @@ public interface AuctionRepo extends JpaRepository<Auction, Integer> {
     // Find auction by status
     List<Auction> findByCurrStatus(Auction.currStatus currStatus);
 
+    // Seller lookups, served by idx_auction_created_by / idx_auction_created_by_status
+    List<Auction> findByCreatedBy(int createdBy);
+
+    List<Auction> findByCreatedByAndAuctionIdGreaterThanOrderByAuctionIdAsc(int createdBy, int auctionId,
+                                                                           Pageable pageable);
+
+    List<Auction> findByCreatedByAndCurrStatusAndAuctionIdGreaterThanOrderByAuctionIdAsc(int createdBy,
+                                                                                        Auction.currStatus currStatus,
+                                                                                        int auctionId,
+                                                                                        Pageable pageable);
+
     // Find auction by ID with pessimistic lock (for concurrent bidding)
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT a FROM Auction a WHERE a.auctionId = :auctionId")
     Optional<Auction> findByIdWithLock(@Param("auctionId") int auctionId);  // ✅ FIXED: Added @Param
-}
\ No newline at end of file
+
+    // Apply a flushed batch of order book bids to the auction row in one statement; a soft-close
+    // extension moves endsAt forward to :extendedEnd (a null endsAt or :extendedEnd leaves it alone)
+    @Modifying
+    @Query("UPDATE Auction a SET a.currPrice = :currPrice, a.bidCount = a.bidCount + :bidCount, " +
+            "a.updatedBy = :updatedBy, " +
+            "a.endsAt = CASE WHEN a.endsAt < :extendedEnd THEN :extendedEnd ELSE a.endsAt END, " +
+            "a.version = a.version + 1 WHERE a.auctionId = :auctionId")
+    int applyBidBatch(@Param("auctionId") int auctionId,
+                      @Param("currPrice") int currPrice,
+                      @Param("bidCount") int bidCount,
+                      @Param("updatedBy") int updatedBy,
+                      @Param("extendedEnd") LocalDateTime extendedEnd);
+
+    // Accept a bid in one statement: the row only changes if the auction is open, not past endsAt, and the
+    // bid clears currPrice + priceJump, so the affected-row count is the accept/reject decision
+    @Modifying
+    @Query("UPDATE Auction a SET a.currPrice = :bidAmount, a.bidCount = a.bidCount + 1, " +
+            "a.updatedBy = :buyerId, " +
+            "a.endsAt = CASE WHEN a.endsAt < :extendedEnd THEN :extendedEnd ELSE a.endsAt END, " +
+            "a.version = a.version + 1 " +
+            "WHERE a.auctionId = :auctionId AND a.currStatus = :status " +
+            "AND (a.endsAt IS NULL OR a.endsAt > :now) " +
+            "AND a.currPrice + a.priceJump <= :bidAmount")
+    int placeBidIfAcceptable(@Param("auctionId") int auctionId,
+                             @Param("bidAmount") int bidAmount,
+                             @Param("buyerId") int buyerId,
+                             @Param("status") Auction.currStatus status,
+                             @Param("now") LocalDateTime now,
+                             @Param("extendedEnd") LocalDateTime extendedEnd);
+
+    // Lifecycle rebuild: auctions still waiting to open or close on a schedule
+    @Query("SELECT new com.onepiece.bidding_service.model.AuctionSchedule(a.auctionId, a.currStatus, a.startsAt, a.endsAt) " +
+            "FROM Auction a WHERE a.currStatus IN :statuses AND (a.startsAt IS NOT NULL OR a.endsAt IS NOT NULL)")
+    List<AuctionSchedule> findSchedules(@Param("statuses") Collection<Auction.currStatus> statuses);
+
+    @Query("SELECT new com.onepiece.bidding_service.model.AuctionBidState(a.bidCount, a.endsAt) " +
+            "FROM Auction a WHERE a.auctionId = :auctionId")
+    AuctionBidState findBidStateById(@Param("auctionId") int auctionId);
+
+    // Keyset page: the next `pageable.pageSize` auctions after the cursor, by primary key
+    List<Auction> findByAuctionIdGreaterThanOrderByAuctionIdAsc(int auctionId, Pageable pageable);
+
+    // Export cursor; the fetch size makes Connector/J (useCursorFetch=true) pull rows in chunks
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT a FROM Auction a ORDER BY a.auctionId")
+    Stream<Auction> streamAllOrderedById();
+}
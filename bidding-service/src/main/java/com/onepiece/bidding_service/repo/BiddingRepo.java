@@ -1,27 +1,41 @@
 package com.onepiece.bidding_service.repo;
 
 import com.onepiece.bidding_service.model.Bidding;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BiddingRepo extends JpaRepository<Bidding, Integer> {
 
-    List<Bidding> findByAuctionIdOrderByNewBidAmountDesc(int auctionId);
+    // Highest bids first, limited by the page (order book seeding and leaderboard pages)
+    List<Bidding> findByAuctionIdOrderByNewBidAmountDescBidTimeDesc(int auctionId, Pageable pageable);
 
     List<Bidding> findByBuyerId(int buyerId);
 
-    @Query("SELECT b FROM Bidding b WHERE b.auctionId = :auctionId ORDER BY b.newBidAmount DESC LIMIT 1")
-    Bidding findHighestBidForAuction(int auctionId);
+    // Highest bid, latest first on ties; also the auction winner
+    Optional<Bidding> findFirstByAuctionIdOrderByNewBidAmountDescBidTimeDesc(int auctionId);
+
+    // A buyer cannot bid the same amount twice on one auction, so this finds the bid a request placed
+    Optional<Bidding> findFirstByAuctionIdAndNewBidAmountAndBuyerIdAndBidTimeGreaterThanEqual(
+            int auctionId, int newBidAmount, int buyerId, LocalDateTime since);
 
     long countByAuctionId(int auctionId);
 
-    @Query("SELECT b FROM Bidding b WHERE b.auctionId = :auctionId ORDER BY b.newBidAmount DESC, b.bidTime DESC")
-    List<Bidding> findWinnerByAuctionId(@Param("auctionId") Integer auctionId);
-    //Explicit mapping
-}
\ No newline at end of file
+    // Keyset page: the next `pageable.pageSize` bids after the cursor, by primary key
+    List<Bidding> findByBidIdGreaterThanOrderByBidIdAsc(int bidId, Pageable pageable);
+
+    // Export cursor; the fetch size makes Connector/J (useCursorFetch=true) pull rows in chunks
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT b FROM Bidding b ORDER BY b.bidId")
+    Stream<Bidding> streamAllOrderedById();
+}
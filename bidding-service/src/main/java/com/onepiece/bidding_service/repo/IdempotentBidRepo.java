@@ -0,0 +1,47 @@
+package com.onepiece.bidding_service.repo;
+
+import com.onepiece.bidding_service.model.IdempotentBid;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotentBidRepo extends JpaRepository<IdempotentBid, String> {
+
+    // 1 if this request now owns the key, 0 if another request already claimed it
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO idempotent_bid (idempotency_key, auction_id, buyer_id, bid_amount, created_at) " +
+            "VALUES (:key, :auctionId, :buyerId, :bidAmount, :now)", nativeQuery = true)
+    int claim(@Param("key") String key,
+              @Param("auctionId") int auctionId,
+              @Param("buyerId") int buyerId,
+              @Param("bidAmount") int bidAmount,
+              @Param("now") LocalDateTime now);
+
+    // Take over a claim whose request died before finishing
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotentBid i SET i.createdAt = :now " +
+            "WHERE i.idempotencyKey = :key AND i.bidTime IS NULL AND i.createdAt < :staleBefore")
+    int reclaimStale(@Param("key") String key,
+                     @Param("staleBefore") LocalDateTime staleBefore,
+                     @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotentBid i SET i.bidId = :bidId, i.bidTime = :bidTime WHERE i.idempotencyKey = :key")
+    int complete(@Param("key") String key,
+                 @Param("bidId") int bidId,
+                 @Param("bidTime") LocalDateTime bidTime);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotentBid i WHERE i.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,9 @@
+package com.onepiece.bidding_service.repo;
+
+import com.onepiece.bidding_service.model.JournalCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JournalCheckpointRepo extends JpaRepository<JournalCheckpoint, String> {
+}
@@ -0,0 +1,43 @@
+package com.onepiece.bidding_service.repo;
+
+import com.onepiece.bidding_service.model.PaymentOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PaymentOutboxRepo extends JpaRepository<PaymentOutbox, Long> {
+
+    boolean existsByIdempotencyKey(String idempotencyKey);
+
+    // Oldest due rows; rows another instance has locked are skipped, not waited on
+    @Query(value = "SELECT * FROM payment_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+            "ORDER BY outbox_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<PaymentOutbox> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // Claim rows for one relay pass; if the relay dies they become due again at :until
+    @Modifying
+    @Query("UPDATE PaymentOutbox o SET o.nextAttemptAt = :until WHERE o.id IN :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE PaymentOutbox o SET o.status = :status, o.sentAt = :sentAt, o.attempts = o.attempts + 1 " +
+            "WHERE o.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids,
+                 @Param("status") PaymentOutbox.Status status,
+                 @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("UPDATE PaymentOutbox o SET o.status = :status, o.attempts = o.attempts + 1, " +
+            "o.nextAttemptAt = :nextAttemptAt, o.lastError = :error WHERE o.id = :id")
+    int markFailed(@Param("id") long id,
+                   @Param("status") PaymentOutbox.Status status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+}
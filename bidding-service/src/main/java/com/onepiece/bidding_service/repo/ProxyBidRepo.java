@@ -0,0 +1,34 @@
+package com.onepiece.bidding_service.repo;
+
+import com.onepiece.bidding_service.engine.ProxyMax;
+import com.onepiece.bidding_service.model.ProxyBid;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ProxyBidRepo extends JpaRepository<ProxyBid, Long> {
+
+    // Loaded with the order book, served by uk_proxy_bid_auction_buyer
+    @Query("SELECT new com.onepiece.bidding_service.engine.ProxyMax(p.buyerId, p.maxAmount, p.registeredAt) " +
+            "FROM ProxyBid p WHERE p.auctionId = :auctionId")
+    List<ProxyMax> findMaxesByAuctionId(@Param("auctionId") int auctionId);
+
+    // Register or raise a maximum in one statement
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO proxy_bid (auction_id, buyer_id, max_amount, registered_at) " +
+            "VALUES (:auctionId, :buyerId, :maxAmount, :registeredAt) " +
+            "ON DUPLICATE KEY UPDATE max_amount = VALUES(max_amount), registered_at = VALUES(registered_at)",
+            nativeQuery = true)
+    int upsert(@Param("auctionId") int auctionId,
+               @Param("buyerId") int buyerId,
+               @Param("maxAmount") int maxAmount,
+               @Param("registeredAt") LocalDateTime registeredAt);
+}
@@ -0,0 +1,35 @@
+package com.onepiece.bidding_service.repo;
+
+import com.onepiece.bidding_service.model.SellerAuctionStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SellerAuctionStatsRepo extends JpaRepository<SellerAuctionStats, SellerAuctionStats.Key> {
+
+    List<SellerAuctionStats> findBySellerId(int sellerId);
+
+    // Add a delta to one (seller, status) row, creating it on first use
+    @Modifying
+    @Query(value = "INSERT INTO seller_auction_stats (seller_id, curr_status, auction_count, gmv) " +
+            "VALUES (:sellerId, :status, :countDelta, :gmvDelta) " +
+            "ON DUPLICATE KEY UPDATE auction_count = auction_count + VALUES(auction_count), " +
+            "gmv = gmv + VALUES(gmv)", nativeQuery = true)
+    int applyDelta(@Param("sellerId") int sellerId,
+                   @Param("status") String status,
+                   @Param("countDelta") long countDelta,
+                   @Param("gmvDelta") long gmvDelta);
+
+    // Recompute every row from the auction table (first start, or after manual repair)
+    @Modifying
+    @Query(value = "INSERT INTO seller_auction_stats (seller_id, curr_status, auction_count, gmv) " +
+            "SELECT created_by, curr_status, COUNT(*), " +
+            "SUM(CASE WHEN curr_status = 'COMPLETED' THEN curr_price ELSE 0 END) " +
+            "FROM auction GROUP BY created_by, curr_status", nativeQuery = true)
+    int rebuildFromAuctions();
+}
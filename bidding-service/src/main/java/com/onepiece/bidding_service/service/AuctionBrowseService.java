@@ -0,0 +1,230 @@
+package com.onepiece.bidding_service.service;
+
+import com.onepiece.bidding_service.dto.AuctionBrowsePageDTO;
+import com.onepiece.bidding_service.engine.AuctionBrowseIndex;
+import com.onepiece.bidding_service.engine.BrowseQuery;
+import com.onepiece.bidding_service.engine.BrowseSort;
+import com.onepiece.bidding_service.event.AuctionDeletedEvent;
+import com.onepiece.bidding_service.event.AuctionUpdatedEvent;
+import com.onepiece.bidding_service.model.Auction;
+import com.onepiece.bidding_service.repo.AuctionRepo;
+import com.onepiece.common.dto.CursorPageDTO;
+import com.onepiece.common.dto.ProductChangeDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read model behind GET /auctions/browse: auctions joined with their product's browse columns,
+ * held in an {@link AuctionBrowseIndex} so listing never touches the database or product-service.
+ *
+ * It is fed by change events only:
+ * - {@link AuctionUpdatedEvent} and {@link AuctionDeletedEvent} from this service. Listeners
+ *   just keep the newest event per auction; the bid path never waits on the projection.
+ * - Product changes pushed by product-service to POST /auctions/browse/products.
+ *
+ * One projector thread applies the queued changes every bidding.browse.apply-interval-ms.
+ * An auction it has not seen yet is read from the database once. At startup it loads every
+ * auction, and it re-reads all product columns from product-service's browse feed at startup
+ * and every bidding.browse.resync-interval-ms to recover pushes that were lost.
+ */
+@Service
+@Slf4j
+public class AuctionBrowseService {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int MAX_PAGE = 1000;
+
+    private final AuctionRepo auctionRepo;
+    private final RestTemplate restTemplate;
+
+    private final AuctionBrowseIndex index = new AuctionBrowseIndex();
+    private final Map<Integer, AuctionUpdatedEvent> pendingUpdates = new ConcurrentHashMap<>();
+    private final Set<Integer> pendingDeletes = ConcurrentHashMap.newKeySet();
+    private final Queue<ProductChangeDTO> pendingProducts = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService projector = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "auction-browse-projector");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${bidding.browse.apply-interval-ms:50}")
+    private long applyIntervalMs;
+
+    @Value("${bidding.browse.resync-interval-ms:600000}")
+    private long resyncIntervalMs;
+
+    @Value("${product.service.url:http://product-service/api/v1/product-service}")
+    private String productServiceUrl;
+
+    @Value("${pagination.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${pagination.max-page-size:500}")
+    private int maxPageSize;
+
+    public AuctionBrowseService(AuctionRepo auctionRepo, RestTemplate restTemplate) {
+        this.auctionRepo = auctionRepo;
+        this.restTemplate = restTemplate;
+    }
+
+    @PostConstruct
+    public void start() {
+        // Same thread as apply, so queued events land after the initial load
+        projector.execute(this::loadAuctions);
+        projector.scheduleWithFixedDelay(this::apply, applyIntervalMs, applyIntervalMs, TimeUnit.MILLISECONDS);
+        projector.scheduleWithFixedDelay(this::resyncProducts, 0, resyncIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public AuctionBrowsePageDTO browse(String status, String category, Integer minPrice, Integer maxPrice,
+                                       String text, String sort, int page, Integer size) {
+        Auction.currStatus currStatus = null;
+        if (status != null && !status.isBlank()) {
+            try {
+                currStatus = Auction.currStatus.valueOf(status.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid status: " + status +
+                        ". Valid statuses are: SCHEDULED, PENDING, ONGOING, COMPLETED, TERMINATED");
+            }
+        }
+        BrowseSort browseSort;
+        try {
+            browseSort = BrowseSort.valueOf(sort.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid sort: " + sort +
+                    ". Valid sorts are: ENDING_SOON, PRICE_ASC, PRICE_DESC, MOST_BIDS, NEWEST");
+        }
+        if (page < 0 || page > MAX_PAGE) {
+            throw new IllegalArgumentException("Page must be between 0 and " + MAX_PAGE);
+        }
+        int limit = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        String productCategory = category != null && !category.isBlank() ? category.trim() : null;
+        return index.query(new BrowseQuery(currStatus, productCategory, minPrice, maxPrice, text, browseSort, page, limit));
+    }
+
+    public void acceptProductChanges(List<ProductChangeDTO> changes) {
+        pendingProducts.addAll(changes);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionUpdated(AuctionUpdatedEvent event) {
+        pendingUpdates.merge(event.auctionId(), event, AuctionUpdatedEvent::newest);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionDeleted(AuctionDeletedEvent event) {
+        pendingDeletes.add(event.auctionId());
+    }
+
+    private void apply() {
+        try {
+            List<AuctionUpdatedEvent> unseen = new ArrayList<>();
+            for (Integer auctionId : pendingUpdates.keySet()) {
+                AuctionUpdatedEvent event = pendingUpdates.remove(auctionId);
+                if (event != null && !index.update(event)) {
+                    unseen.add(event);
+                }
+            }
+            if (!unseen.isEmpty()) {
+                addUnseen(unseen);
+            }
+
+            for (Integer auctionId : pendingDeletes) {
+                pendingDeletes.remove(auctionId);
+                index.removeAuction(auctionId);
+            }
+
+            ProductChangeDTO product;
+            while ((product = pendingProducts.poll()) != null) {
+                index.putProduct(product);
+            }
+        } catch (Exception e) {
+            log.error("Auction browse projection failed: {}", e.getMessage());
+        }
+    }
+
+    private void addUnseen(List<AuctionUpdatedEvent> unseen) {
+        try {
+            for (Auction auction : auctionRepo.findAllById(unseen.stream().map(AuctionUpdatedEvent::auctionId).toList())) {
+                index.putAuction(auction);
+            }
+            unseen.forEach(index::update);
+        } catch (Exception e) {
+            // Keep the events for the next run unless newer ones arrived meanwhile
+            unseen.forEach(event -> pendingUpdates.merge(event.auctionId(), event, (queued, retry) -> queued));
+            throw e;
+        }
+    }
+
+    private void loadAuctions() {
+        try {
+            int after = 0;
+            int loaded = 0;
+            List<Auction> batch;
+            do {
+                batch = auctionRepo.findByAuctionIdGreaterThanOrderByAuctionIdAsc(after, PageRequest.of(0, LOAD_BATCH_SIZE));
+                batch.forEach(index::putAuction);
+                loaded += batch.size();
+                if (!batch.isEmpty()) {
+                    after = batch.get(batch.size() - 1).getAuctionId();
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+            log.info("Auction browse projection loaded {} auctions", loaded);
+        } catch (Exception e) {
+            // Auctions still arrive one by one through their next event
+            log.error("Auction browse projection could not load auctions: {}", e.getMessage());
+        }
+    }
+
+    private void resyncProducts() {
+        try {
+            Set<Integer> seen = new HashSet<>();
+            Integer after = 0;
+            while (after != null) {
+                CursorPageDTO<ProductChangeDTO> page = restTemplate.exchange(
+                        productServiceUrl + "/products/browse-feed?after={after}&size={size}", HttpMethod.GET, null,
+                        new ParameterizedTypeReference<CursorPageDTO<ProductChangeDTO>>() {},
+                        after, maxPageSize).getBody();
+                if (page == null) {
+                    break;
+                }
+                for (ProductChangeDTO product : page.getItems()) {
+                    index.putProduct(product);
+                    seen.add(product.getProductId());
+                }
+                after = page.getNextCursor();
+            }
+            // Anything product-service no longer returns was deleted while a push was lost
+            if (after == null) {
+                index.retainProducts(seen);
+            }
+            log.info("Auction browse projection resynced {} products", seen.size());
+        } catch (Exception e) {
+            log.warn("Auction browse product resync failed, retrying in {} ms: {}", resyncIntervalMs, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        projector.shutdownNow();
+    }
+}
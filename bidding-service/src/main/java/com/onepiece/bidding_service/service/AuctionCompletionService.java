@@ -1,180 +1,101 @@
 package com.onepiece.bidding_service.service;
 
-import com.onepiece.bidding_service.dto.CreatePaymentRequestDTO;
 import com.onepiece.bidding_service.model.Auction;
 import com.onepiece.bidding_service.model.Bidding;
-import com.onepiece.bidding_service.repo.AuctionRepo;
+import com.onepiece.bidding_service.model.PaymentOutbox;
 import com.onepiece.bidding_service.repo.BiddingRepo;
+import com.onepiece.bidding_service.repo.PaymentOutboxRepo;
+import com.onepiece.common.client.AuthHeaderForwardingInterceptor;
+import com.onepiece.common.security.AuthHeaders;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
-import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 /**
  * ✅ ISC: Auction → Payment Service Communication
  * Called when auction status changes to COMPLETED
  *
- * Forwards JWT headers from incoming request to Payment Service
+ * Records the winner's payment in the payment outbox, inside the transaction that completes
+ * the auction; PaymentOutboxRelay delivers it to Payment Service afterwards
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AuctionCompletionService {
 
-    private final AuctionRepo auctionRepo;
     private final BiddingRepo biddingRepo;
-    private final RestTemplate restTemplate;
+    private final PaymentOutboxRepo paymentOutboxRepo;
 
-    @Value("${payment.service.url:http://localhost:4040/api/v1/payment-service}")
-    private String paymentServiceUrl;
+    // Identity bidding-service requests payments under when no caller is bound
+    @Value("${bidding.outbox.service-user-id:0}")
+    private String serviceUserId;
 
+    @Value("${bidding.outbox.service-user-name:bidding-service}")
+    private String serviceUserName;
+
+    @Value("${bidding.outbox.service-user-roles:ROLE_SERVICE}")
+    private String serviceUserRoles;
 
     /**
-     * ✅ When Auction Status Changes to COMPLETED
-     * Find winner and call Payment Service via ISC
-     * Forwards JWT headers from original request
+     * Idempotency key of the payment for an auction; payment-service creates at most one
+     * payment per key, so relay retries are safe
      */
-    @Transactional
-    public void handleAuctionCompletion(Integer auctionId) {
-
-        log.info("\n════════════════════════════════════════════════════════════");
-        log.info("🎯 AUCTION COMPLETED - Initiating ISC with Payment Service");
-        log.info("Auction ID: {}", auctionId);
-        log.info("════════════════════════════════════════════════════════════");
-
-        try {
-            // ========== STEP 1: Get Auction ==========
-            log.info("\n[STEP 1️⃣] Fetching Auction Details...");
-            Auction auction = auctionRepo.findById(auctionId)
-                    .orElseThrow(() -> new RuntimeException("❌ Auction not found: " + auctionId));
-
-            log.info("✓ Auction Found:");
-            log.info("  📦 Product ID: {}", auction.getProductId());
-            log.info("  👤 Seller ID: {}", auction.getCreatedBy());
-            log.info("  💰 Current Price: ₹{}", auction.getCurrPrice());
-            log.info("  🏷️  Bid Count: {}", auction.getBidCount());
-
-            // ========== STEP 2: Find Winner (Highest Bid) ==========
-            log.info("\n[STEP 2️⃣] Finding Winner (Highest Bidder)...");
-
-            List<Bidding> bids = biddingRepo.findWinnerByAuctionId(auctionId);
-
-            if (bids.isEmpty()) {
-                log.warn("⚠️ No bids found - Auction completed with no bidder");
-                return;
-            }
-
-            Bidding winningBid = bids.get(0);
-            Integer buyerId = winningBid.getBuyerId();
-            Integer finalAmount = winningBid.getNewBidAmount();
-            Integer sellerId = auction.getCreatedBy();
-            Integer productId = auction.getProductId();
-
-            log.info("✓ Winner Found:");
-            log.info("  🏆 Buyer ID: {}", buyerId);
-            log.info("  💵 Winning Amount: ₹{}", finalAmount);
-
-            // ========== STEP 3: Create Payment Request ==========
-            log.info("\n[STEP 3️⃣] Creating Payment Request...");
-            CreatePaymentRequestDTO paymentRequest = new CreatePaymentRequestDTO(
-                    buyerId,
-                    sellerId,
-                    productId,
-                    auctionId,
-                    finalAmount
-            );
-
-            log.info("✓ Payment Request:");
-            log.info("  Buyer: {}", buyerId);
-            log.info("  Seller: {}", sellerId);
-            log.info("  Product: {}", productId);
-            log.info("  Amount: ₹{}", finalAmount);
-
-            // ========== STEP 4: Call Payment Service ==========
-            log.info("\n[STEP 4️⃣] Calling Payment Service...");
-            log.info("🔄 POST to: {}", paymentServiceUrl);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-
-            // ✅ Forward JWT headers from incoming request to Payment Service
-            HttpServletRequest httpRequest = getHttpServletRequest();
-            if (httpRequest != null) {
-                String userId = httpRequest.getHeader("X-Auth-User-Id");
-                String userName = httpRequest.getHeader("X-Auth-User-Name");
-                String userRoles = httpRequest.getHeader("X-Auth-User-Roles");
-
-                // Forward JWT headers if present
-                if (userId != null && !userId.isEmpty()) {
-                    headers.add("X-Auth-User-Id", userId);
-                    log.info("📤 Forwarding X-Auth-User-Id: {}", userId);
-                }
-                if (userName != null && !userName.isEmpty()) {
-                    headers.add("X-Auth-User-Name", userName);
-                    log.info("📤 Forwarding X-Auth-User-Name: {}", userName);
-                }
-                if (userRoles != null && !userRoles.isEmpty()) {
-                    headers.add("X-Auth-User-Roles", userRoles);
-                    log.info("📤 Forwarding X-Auth-User-Roles: {}", userRoles);
-                }
-            } else {
-                log.warn("⚠️ Could not get HTTP request context (running in async context)");
-            }
-
-            HttpEntity<CreatePaymentRequestDTO> request = new HttpEntity<>(paymentRequest, headers);
-
-            // ========== STEP 5: SEND REQUEST TO PAYMENT SERVICE ==========
-            // ✅ THIS IS MISSING IN YOUR CODE - ADD THIS PART
-            try {
-                log.info("\n[STEP 5️⃣] Sending ISC Request to Payment Service...");
-
-                Object response = restTemplate.postForObject(
-                        paymentServiceUrl,
-                        request,
-                        Object.class
-                );
-
-                log.info("\n✅ SUCCESS! Payment Created in Payment Service");
-                log.info("════════════════════════════════════════════════════════════");
-                log.info("Response: {}", response);
-                log.info("════════════════════════════════════════════════════════════\n");
-
-            } catch (Exception e) {
-                log.error("❌ Payment Service Call Failed: {}", e.getMessage());
-                log.error("Exception Details: ", e);
-                // Don't throw - ISC failure shouldn't break auction completion
-            }
-
-        } catch (Exception e) {
-            log.error("❌ Error in Auction Completion ISC: {}", e.getMessage());
-            log.error("Exception Details: ", e);
-        }
+    public static String paymentKey(int auctionId) {
+        return "auction-" + auctionId + "-payment";
     }
 
     /**
-     * ✅ Helper method to get current HTTP request
-     * Returns null if not in HTTP request context (e.g., in async execution)
+     * ✅ When Auction Status Changes to COMPLETED
+     * Find winner and queue the payment request; commits or rolls back with the status change
      */
-    private HttpServletRequest getHttpServletRequest() {
-        try {
-            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attributes != null) {
-                return attributes.getRequest();
-            }
-        } catch (Exception e) {
-            log.debug("Could not get HTTP request context: {}", e.getMessage());
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCompletion(Auction auction) {
+        int auctionId = auction.getAuctionId();
+        String key = paymentKey(auctionId);
+        if (paymentOutboxRepo.existsByIdempotencyKey(key)) {
+            log.info("Auction {} completed again; payment already queued", auctionId);
+            return;
+        }
+
+        Bidding winningBid = biddingRepo.findFirstByAuctionIdOrderByNewBidAmountDescBidTimeDesc(auctionId)
+                .orElse(null);
+        if (winningBid == null) {
+            log.warn("⚠️ Auction {} completed with no bidder - no payment", auctionId);
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        PaymentOutbox row = new PaymentOutbox();
+        row.setIdempotencyKey(key);
+        row.setAuctionId(auctionId);
+        row.setProductId(auction.getProductId());
+        row.setBuyerId(winningBid.getBuyerId());
+        row.setSellerId(auction.getCreatedBy());
+        row.setFinalAmount(winningBid.getNewBidAmount());
+        row.setNextAttemptAt(now);
+        row.setCreatedAt(now);
+
+        // payment-service authenticates ISC calls by the caller's X-Auth-* headers
+        HttpServletRequest request = AuthHeaderForwardingInterceptor.currentRequest();
+        if (request != null) {
+            row.setAuthUserId(request.getHeader(AuthHeaders.USER_ID));
+            row.setAuthUserName(request.getHeader(AuthHeaders.USER_NAME));
+            row.setAuthUserRoles(request.getHeader(AuthHeaders.USER_ROLES));
+        } else {
+            // Closed by the lifecycle scheduler: no caller, so bidding-service asks as itself
+            row.setAuthUserId(serviceUserId);
+            row.setAuthUserName(serviceUserName);
+            row.setAuthUserRoles(serviceUserRoles);
         }
-        return null;
+
+        paymentOutboxRepo.save(row);
+        log.info("🎯 Auction {} COMPLETED - payment queued: buyer={} seller={} amount=₹{}",
+                auctionId, row.getBuyerId(), row.getSellerId(), row.getFinalAmount());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,348 @@
+package com.onepiece.bidding_service.service;
+
+import com.onepiece.bidding_service.engine.AuctionOrderBook;
+import com.onepiece.bidding_service.engine.OrderBookEngine;
+import com.onepiece.bidding_service.engine.TimingWheel;
+import com.onepiece.bidding_service.mapper.AuctionMapper;
+import com.onepiece.bidding_service.model.Auction;
+import com.onepiece.bidding_service.model.AuctionSchedule;
+import com.onepiece.bidding_service.repo.AuctionRepo;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens auctions at startsAt and closes them at endsAt, without anyone calling PUT /auction/{id}.
+ *
+ * Each auction waiting on a time has one timer on a {@link TimingWheel}: SCHEDULED auctions
+ * wait to open, ONGOING ones wait to close. The wheel is rebuilt from the auction table at
+ * startup, and auctions that came due while the service was down fire on the first tick.
+ * It is kept current as auctions are created, updated and deleted. A soft-close extension does
+ * not touch the wheel: when a close timer fires, the order book's endsAt (or, failing that,
+ * the row's) is checked and the timer re-armed if it moved. One thread advances the
+ * wheel every tick and applies due transitions in batches. Each batch is one transaction
+ * that moves the rows, the seller stats and, for closes, the payment outbox rows.
+ *
+ * Timers are local to this instance, like the order books. With several replicas a
+ * transition may be attempted twice; the status check and the auction's version turn the
+ * second attempt into a no-op.
+ */
+@Service
+@Slf4j
+public class AuctionLifecycleService {
+
+    private static final int WHEEL_BITS_PER_LEVEL = 8;
+    private static final int WHEEL_LEVELS = 4;
+
+    private final AuctionRepo auctionRepo;
+    private final AuctionMapper auctionMapper;
+    private final OrderBookEngine orderBookEngine;
+    private final SellerAuctionStatsService sellerAuctionStatsService;
+    private final AuctionCompletionService auctionCompletionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Integer, TimingWheel.Timeout<Transition>> timers = new ConcurrentHashMap<>();
+    private final Queue<Transition> due = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "auction-lifecycle");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private TimingWheel<Transition> wheel;
+
+    @Value("${bidding.lifecycle.enabled:true}")
+    private boolean enabled;
+
+    @Value("${bidding.lifecycle.tick-ms:100}")
+    private long tickMs;
+
+    @Value("${bidding.lifecycle.batch-size:200}")
+    private int batchSize;
+
+    @Value("${bidding.lifecycle.retry-delay-ms:5000}")
+    private long retryDelayMs;
+
+    public AuctionLifecycleService(AuctionRepo auctionRepo,
+                                   AuctionMapper auctionMapper,
+                                   OrderBookEngine orderBookEngine,
+                                   SellerAuctionStatsService sellerAuctionStatsService,
+                                   AuctionCompletionService auctionCompletionService,
+                                   ApplicationEventPublisher eventPublisher,
+                                   TransactionTemplate transactionTemplate) {
+        this.auctionRepo = auctionRepo;
+        this.auctionMapper = auctionMapper;
+        this.orderBookEngine = orderBookEngine;
+        this.sellerAuctionStatsService = sellerAuctionStatsService;
+        this.auctionCompletionService = auctionCompletionService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @PostConstruct
+    public void start() {
+        wheel = new TimingWheel<>(tickMs, WHEEL_BITS_PER_LEVEL, WHEEL_LEVELS, System.currentTimeMillis());
+        if (enabled) {
+            ticker.scheduleAtFixedRate(this::tickQuietly, tickMs, tickMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Put every auction still waiting to open or close back on the wheel.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        List<AuctionSchedule> schedules = auctionRepo.findSchedules(
+                List.of(Auction.currStatus.SCHEDULED, Auction.currStatus.ONGOING));
+        for (AuctionSchedule schedule : schedules) {
+            track(schedule.auctionId(), schedule.currStatus(), schedule.startsAt(), schedule.endsAt());
+        }
+        log.info("Auction lifecycle rebuilt: {} timer(s) pending, {} auction(s) already due",
+                wheel.size(), due.size());
+    }
+
+    /**
+     * Set the auction's next transition from its current status and times, or drop its timer
+     * if nothing is scheduled. Applied after the caller's transaction commits.
+     */
+    public void track(Auction auction) {
+        int auctionId = auction.getAuctionId();
+        Auction.currStatus status = auction.getCurrStatus();
+        LocalDateTime startsAt = auction.getStartsAt();
+        LocalDateTime endsAt = auction.getEndsAt();
+        afterCommit(() -> track(auctionId, status, startsAt, endsAt));
+    }
+
+    public void untrack(int auctionId) {
+        afterCommit(() -> cancel(auctionId));
+    }
+
+    /**
+     * Advance the wheel to now and apply everything that came due. Returns the number of auctions moved.
+     */
+    public int tick() {
+        wheel.advanceTo(System.currentTimeMillis(), timeout -> {
+            timers.remove(timeout.payload().auctionId(), timeout);
+            due.add(timeout.payload());
+        });
+
+        List<Transition> opens = new ArrayList<>();
+        List<Transition> closes = new ArrayList<>();
+        for (Transition transition; (transition = due.poll()) != null; ) {
+            if (transition.to() == Auction.currStatus.ONGOING) {
+                opens.add(transition);
+            } else if (!extendedInBook(transition)) {
+                closes.add(transition);
+            }
+        }
+
+        return applyAll(opens) + applyAll(closes);
+    }
+
+    // The transitions are already off the wheel, so a batch that fails outright is re-armed
+    // rather than lost, and the batches after it still run
+    private int applyAll(List<Transition> transitions) {
+        int moved = 0;
+        for (int i = 0; i < transitions.size(); i += batchSize) {
+            List<Transition> batch = transitions.subList(i, Math.min(i + batchSize, transitions.size()));
+            try {
+                moved += applyBatch(batch);
+            } catch (RuntimeException e) {
+                log.error("❌ Lifecycle batch of {} auction(s) failed, retrying in {} ms: {}",
+                        batch.size(), retryDelayMs, e.getMessage());
+                batch.forEach(this::retryLater);
+            }
+        }
+        return moved;
+    }
+
+    // Soft close only moves endsAt in the order book; follow it there rather than flushing a book still taking bids
+    private boolean extendedInBook(Transition transition) {
+        AuctionOrderBook book = orderBookEngine.peek(transition.auctionId());
+        LocalDateTime endsAt = book == null ? null : book.getEndsAt();
+        if (endsAt == null || !endsAt.isAfter(LocalDateTime.now())) {
+            return false;
+        }
+        schedule(transition, endsAt);
+        return true;
+    }
+
+    private void track(int auctionId, Auction.currStatus status, LocalDateTime startsAt, LocalDateTime endsAt) {
+        if (!enabled) {
+            return;
+        }
+        if (status == Auction.currStatus.SCHEDULED && startsAt != null) {
+            schedule(new Transition(auctionId, Auction.currStatus.SCHEDULED, Auction.currStatus.ONGOING), startsAt);
+        } else if (status == Auction.currStatus.ONGOING && endsAt != null) {
+            schedule(new Transition(auctionId, Auction.currStatus.ONGOING, Auction.currStatus.COMPLETED), endsAt);
+        } else {
+            cancel(auctionId);
+        }
+    }
+
+    private void schedule(Transition transition, LocalDateTime at) {
+        long deadlineMs = at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        TimingWheel.Timeout<Transition> timeout = wheel.schedule(deadlineMs, transition);
+        TimingWheel.Timeout<Transition> previous = timeout == null
+                ? timers.remove(transition.auctionId())
+                : timers.put(transition.auctionId(), timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+        if (timeout == null) {
+            due.add(transition);
+        }
+    }
+
+    private void retryLater(Transition transition) {
+        schedule(transition, LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(retryDelayMs)));
+    }
+
+    private void cancel(int auctionId) {
+        TimingWheel.Timeout<Transition> timeout = timers.remove(auctionId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    // All transitions in a batch go the same way (all opens or all closes)
+    private int applyBatch(List<Transition> batch) {
+        Auction.currStatus from = batch.get(0).from();
+        Auction.currStatus to = batch.get(0).to();
+        List<Integer> auctionIds = batch.stream().map(Transition::auctionId).toList();
+
+        if (to == Auction.currStatus.COMPLETED) {
+            // Every accepted bid must be in the bids table before the winner is picked
+            try {
+                auctionIds.forEach(orderBookEngine::evict);
+            } catch (RuntimeException e) {
+                log.warn("Could not flush order books before closing {} auction(s), retrying: {}",
+                        auctionIds.size(), e.getMessage());
+                batch.forEach(this::retryLater);
+                return 0;
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Auction> moved;
+        try {
+            moved = transactionTemplate.execute(tx -> transition(auctionIds, from, to, now));
+        } catch (RuntimeException e) {
+            // One auction edited concurrently must not hold back the rest of the batch
+            log.warn("Lifecycle batch of {} {} -> {} failed, retrying one by one: {}",
+                    auctionIds.size(), from, to, e.getMessage());
+            moved = new ArrayList<>();
+            for (Transition transition : batch) {
+                try {
+                    moved.addAll(transactionTemplate.execute(tx ->
+                            transition(List.of(transition.auctionId()), from, to, now)));
+                } catch (RuntimeException single) {
+                    log.error("❌ Auction {} not moved from {} to {}, retrying in {} ms: {}",
+                            transition.auctionId(), from, to, retryDelayMs, single.getMessage());
+                    retryLater(transition);
+                }
+            }
+        }
+
+        moved.forEach(this::afterMove);
+        if (!moved.isEmpty()) {
+            log.info("Auction lifecycle: {} auction(s) moved from {} to {}", moved.size(), from, to);
+        }
+        return moved.size();
+    }
+
+    // The move has committed: one auction's follow-up failing must not cost another its event or timer
+    private void afterMove(Auction auction) {
+        int auctionId = auction.getAuctionId();
+        try {
+            // Books keep the status they were loaded with; the next bid reloads it
+            orderBookEngine.evict(auctionId);
+        } catch (RuntimeException e) {
+            log.warn("Could not drop the order book of auction {} after it moved to {}: {}",
+                    auctionId, auction.getCurrStatus(), e.getMessage());
+        }
+        try {
+            eventPublisher.publishEvent(auctionMapper.toUpdatedEvent(auction, null));
+        } catch (RuntimeException e) {
+            log.warn("Update event for auction {} not published: {}", auctionId, e.getMessage());
+        }
+        track(auctionId, auction.getCurrStatus(), auction.getStartsAt(), auction.getEndsAt());
+    }
+
+    private List<Auction> transition(List<Integer> auctionIds, Auction.currStatus from, Auction.currStatus to,
+                                     LocalDateTime now) {
+        List<Auction> moved = new ArrayList<>(auctionIds.size());
+        for (Auction auction : auctionRepo.findAllById(auctionIds)) {
+            LocalDateTime at = to == Auction.currStatus.ONGOING ? auction.getStartsAt() : auction.getEndsAt();
+            if (auction.getCurrStatus() != from || at == null) {
+                continue;   // moved by hand since the timer was set
+            }
+            if (at.isAfter(now)) {
+                // Rescheduled, or extended by a late bid, since the timer was set
+                track(auction.getAuctionId(), auction.getCurrStatus(), auction.getStartsAt(), auction.getEndsAt());
+                continue;
+            }
+            auction.setCurrStatus(to);
+            sellerAuctionStatsService.onChanged(auction.getCreatedBy(), from, auction.getCurrPrice(),
+                    to, auction.getCurrPrice());
+            if (to == Auction.currStatus.COMPLETED) {
+                auctionCompletionService.recordCompletion(auction);
+            }
+            moved.add(auction);
+        }
+        return auctionRepo.saveAll(moved);
+    }
+
+    private void tickQuietly() {
+        try {
+            tick();
+        } catch (Exception e) {
+            log.error("Auction lifecycle tick failed, retrying next tick: {}", e.getMessage());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdown();
+    }
+
+    private record Transition(int auctionId, Auction.currStatus from, Auction.currStatus to) {
+    }
+}
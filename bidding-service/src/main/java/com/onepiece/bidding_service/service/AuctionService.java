@@ -1,16 +1,35 @@
 package com.onepiece.bidding_service.service;
 
-import com.onepiece.bidding_service.dto.AuctionRequestDTO;
 import com.onepiece.bidding_service.dto.AuctionResponseDTO;
+import com.onepiece.bidding_service.dto.SellerAuctionSummaryDTO;
+import com.onepiece.bidding_service.engine.OrderBookEngine;
+import com.onepiece.bidding_service.event.AuctionDeletedEvent;
 import com.onepiece.bidding_service.mapper.AuctionMapper;
 import com.onepiece.bidding_service.model.Auction;
 import com.onepiece.bidding_service.repo.AuctionRepo;
+import com.onepiece.common.dto.AuctionRequestDTO;
+import com.onepiece.common.dto.CursorPageDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -24,6 +43,34 @@ public class AuctionService {
 
     @Autowired
     private AuctionCompletionService auctionCompletionService;
+
+    @Autowired
+    private OrderBookEngine orderBookEngine;
+
+    @Autowired
+    private AuctionLifecycleService auctionLifecycleService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SellerAuctionStatsService sellerAuctionStatsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${pagination.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${pagination.max-page-size:500}")
+    private int maxPageSize;
+
     /*** Get all auctions
      */
     public List<AuctionResponseDTO> getAllAuctions() {
@@ -33,6 +80,45 @@ public class AuctionService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Keyset page of auctions ordered by id, starting after the given cursor
+     */
+    public CursorPageDTO<AuctionResponseDTO> getAuctionsPage(int after, Integer size) {
+        int limit = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        List<AuctionResponseDTO> auctions = auctionRepo
+                .findByAuctionIdGreaterThanOrderByAuctionIdAsc(after, PageRequest.of(0, limit))
+                .stream()
+                .map(auctionMapper::toResponseDTO)
+                .toList();
+        return CursorPageDTO.of(auctions, limit, AuctionResponseDTO::getAuctionId);
+    }
+
+    /**
+     * Write every auction to the stream as NDJSON, one row in memory at a time
+     */
+    @Transactional(readOnly = true)
+    public void exportAuctions(OutputStream out) throws IOException {
+        try (Stream<Auction> auctions = auctionRepo.streamAllOrderedById();
+             SequenceWriter writer = objectMapper.writer()
+                     .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+            Iterator<Auction> it = auctions.iterator();
+            int rows = 0;
+            while (it.hasNext()) {
+                Auction auction = it.next();
+                writer.write(auctionMapper.toResponseDTO(auction));
+                entityManager.detach(auction);
+                rows++;
+            }
+            writer.flush();
+            if (rows > 0) {
+                out.write('\n');
+            }
+            log.info("Exported {} auctions", rows);
+        }
+    }
+
     /**
      * Create a new auction
      *
@@ -42,8 +128,10 @@ public class AuctionService {
      * - currStatus defaults to SCHEDULED if not provided
      * - createdAt/updatedAt handled by database
      * - createdBy/updatedBy set to sellerId
+     * - startsAt/endsAt (if given) put it on the lifecycle scheduler
      *
      */
+    @Transactional
     public AuctionResponseDTO createAuction(AuctionRequestDTO auctionDTO) {
 
         if (auctionDTO.getStartingPrice() <= 0) {
@@ -76,6 +164,9 @@ public class AuctionService {
         auction.setUpdatedBy(auctionDTO.getSellerId());
 
         Auction savedAuction = auctionRepo.save(auction);
+        sellerAuctionStatsService.onCreated(savedAuction);
+        auctionLifecycleService.track(savedAuction);
+        eventPublisher.publishEvent(auctionMapper.toUpdatedEvent(savedAuction, null));
         return auctionMapper.toResponseDTO(savedAuction);
     }
 
@@ -93,8 +184,29 @@ public class AuctionService {
      */
     public AuctionResponseDTO updateAuctionById(int auctionId, @Valid AuctionRequestDTO auctionDTO) {
 
+        // Flush in-memory bids first so the row we update (and completion) sees every accepted bid,
+        // and hold further bids until the change commits so none lands on the old status
+        orderBookEngine.fence(auctionId);
+
+        // Row update, seller stats and (on COMPLETED) the payment outbox row commit together;
+        // payment-service is called later by PaymentOutboxRelay, never on this thread
+        Auction updatedAuction;
+        try {
+            updatedAuction = transactionTemplate.execute(tx -> applyUpdate(auctionId, auctionDTO));
+        } finally {
+            orderBookEngine.release(auctionId);
+        }
+        eventPublisher.publishEvent(auctionMapper.toUpdatedEvent(updatedAuction, null));
+        auctionLifecycleService.track(updatedAuction);
+
+        return auctionMapper.toResponseDTO(updatedAuction);
+    }
+
+    private Auction applyUpdate(int auctionId, AuctionRequestDTO auctionDTO) {
         Auction existingAuction = auctionRepo.findById(auctionId)
                 .orElseThrow(() -> new RuntimeException("Auction not found with ID: " + auctionId));
+        Auction.currStatus oldStatus = existingAuction.getCurrStatus();
+        int oldPrice = existingAuction.getCurrPrice();
 
         // Update status if provided
         if (auctionDTO.getCurrStatus() != null && !auctionDTO.getCurrStatus().isBlank()) {
@@ -108,43 +220,56 @@ public class AuctionService {
         }
 
         // Update price jump if provided
-        if (auctionDTO.getPriceJump() > 0) {
+        if (auctionDTO.getPriceJump() != null && auctionDTO.getPriceJump() > 0) {
             existingAuction.setPriceJump(auctionDTO.getPriceJump());
         }
 
         // Update starting price (currPrice) if provided
-        if (auctionDTO.getStartingPrice() > 0) {
+        if (auctionDTO.getStartingPrice() != null && auctionDTO.getStartingPrice() > 0) {
             existingAuction.setCurrPrice(auctionDTO.getStartingPrice());
         }
 
+        // Reschedule opening/closing if provided
+        if (auctionDTO.getStartsAt() != null) {
+            existingAuction.setStartsAt(auctionDTO.getStartsAt());
+        }
+        if (auctionDTO.getEndsAt() != null) {
+            existingAuction.setEndsAt(auctionDTO.getEndsAt());
+        }
+
         // Update seller who made the change
-        if (auctionDTO.getSellerId() > 0) {
+        if (auctionDTO.getSellerId() != null && auctionDTO.getSellerId() > 0) {
             existingAuction.setUpdatedBy(auctionDTO.getSellerId());
         }
 
         Auction updatedAuction = auctionRepo.save(existingAuction);
-
-        if (auctionDTO.getCurrStatus() != null &&
-                auctionDTO.getCurrStatus().toUpperCase().equals("COMPLETED")) {
-
-            log.info("🎯 Auction {} status changed to COMPLETED - Triggering ISC", auctionId);
-            try {
-                auctionCompletionService.handleAuctionCompletion(auctionId);
-            } catch (Exception e) {
-                log.warn("⚠️ ISC warning (non-blocking): {}", e.getMessage());
-            }
+        sellerAuctionStatsService.onChanged(updatedAuction.getCreatedBy(), oldStatus, oldPrice,
+                updatedAuction.getCurrStatus(), updatedAuction.getCurrPrice());
+        if (updatedAuction.getCurrStatus() == Auction.currStatus.COMPLETED && oldStatus != Auction.currStatus.COMPLETED) {
+            auctionCompletionService.recordCompletion(updatedAuction);
         }
-
-        return auctionMapper.toResponseDTO(updatedAuction);
+        return updatedAuction;
     }
     /**
      * Delete auction by ID
      */
     public void deleteAuction(int auctionId) {
-        if (!auctionRepo.existsById(auctionId)) {
-            throw new RuntimeException("Auction not found with ID: " + auctionId);
+
+        // Same as an update: flush the book and hold bids until the delete commits, so none is
+        // accepted on a book reloaded from the row that is about to go
+        orderBookEngine.fence(auctionId);
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                Auction auction = auctionRepo.findById(auctionId)
+                        .orElseThrow(() -> new RuntimeException("Auction not found with ID: " + auctionId));
+                auctionRepo.delete(auction);
+                sellerAuctionStatsService.onDeleted(auction);
+            });
+        } finally {
+            orderBookEngine.release(auctionId);
         }
-        auctionRepo.deleteById(auctionId);
+        auctionLifecycleService.untrack(auctionId);
+        eventPublisher.publishEvent(new AuctionDeletedEvent(auctionId));
     }
 
     /**
@@ -177,10 +302,42 @@ public class AuctionService {
      * Get auctions by seller ID
      */
     public List<AuctionResponseDTO> getAuctionsByUserId(int userId) {
-        List<Auction> auctions = auctionRepo.findAll();
+        List<Auction> auctions = auctionRepo.findByCreatedBy(userId);
         return auctions.stream()
-                .filter(auction -> auction.getCreatedBy() == userId)
                 .map(auctionMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Keyset page of a seller's auctions, optionally narrowed to one status
+     */
+    public CursorPageDTO<AuctionResponseDTO> getAuctionsPageByUserId(int userId, String status, int after, Integer size) {
+        int limit = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        PageRequest page = PageRequest.of(0, limit);
+        List<Auction> auctions;
+        if (status == null || status.isBlank()) {
+            auctions = auctionRepo.findByCreatedByAndAuctionIdGreaterThanOrderByAuctionIdAsc(userId, after, page);
+        } else {
+            Auction.currStatus statusEnum;
+            try {
+                statusEnum = Auction.currStatus.valueOf(status.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid status: " + status +
+                        ". Valid statuses are: SCHEDULED, PENDING, ONGOING, COMPLETED, TERMINATED");
+            }
+            auctions = auctionRepo.findByCreatedByAndCurrStatusAndAuctionIdGreaterThanOrderByAuctionIdAsc(
+                    userId, statusEnum, after, page);
+        }
+        List<AuctionResponseDTO> items = auctions.stream()
+                .map(auctionMapper::toResponseDTO)
+                .toList();
+        return CursorPageDTO.of(items, limit, AuctionResponseDTO::getAuctionId);
+    }
+
+    /**
+     * Auction counts per status and GMV for one seller, read from the running counters
+     */
+    public SellerAuctionSummaryDTO getSellerSummary(int userId) {
+        return sellerAuctionStatsService.getSummary(userId);
+    }
 }
\ No newline at end of file
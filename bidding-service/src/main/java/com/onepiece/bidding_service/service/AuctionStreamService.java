@@ -0,0 +1,251 @@
+package com.onepiece.bidding_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onepiece.bidding_service.engine.AuctionOrderBook;
+import com.onepiece.bidding_service.engine.OrderBookEngine;
+import com.onepiece.bidding_service.event.AuctionUpdatedEvent;
+import com.onepiece.bidding_service.mapper.AuctionMapper;
+import com.onepiece.bidding_service.model.Auction;
+import com.onepiece.bidding_service.repo.AuctionRepo;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Server-sent price/bid-count stream per auction.
+ *
+ * Fan-out never touches the database and never runs on the thread that placed the bid:
+ * - Publishing only keeps the newest event per auction and marks the auction dirty.
+ * - A dispatcher tick serializes each dirty auction's newest event once and offers it to
+ *   every watcher.
+ * - Each watcher holds at most one unsent update. A slow watcher has its pending update
+ *   replaced by newer ones instead of queueing, so it always gets the latest state and
+ *   memory stays bounded by the number of watchers.
+ */
+@Service
+@Slf4j
+public class AuctionStreamService {
+
+    // Sentinel compared by identity; a serialized update is never empty
+    private static final String HEARTBEAT = "";
+
+    private final AuctionRepo auctionRepo;
+    private final AuctionMapper auctionMapper;
+    private final OrderBookEngine orderBookEngine;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Integer, Topic> topics = new ConcurrentHashMap<>();
+    private final Queue<Topic> dirtyTopics = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "auction-stream-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ExecutorService senders;
+
+    @Value("${bidding.stream.dispatch-interval-ms:100}")
+    private long dispatchIntervalMs;
+
+    @Value("${bidding.stream.heartbeat-interval-ms:20000}")
+    private long heartbeatIntervalMs;
+
+    @Value("${bidding.stream.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${bidding.stream.sender-threads:8}")
+    private int senderThreads;
+
+    public AuctionStreamService(AuctionRepo auctionRepo,
+                                AuctionMapper auctionMapper,
+                                OrderBookEngine orderBookEngine,
+                                ObjectMapper objectMapper) {
+        this.auctionRepo = auctionRepo;
+        this.auctionMapper = auctionMapper;
+        this.orderBookEngine = orderBookEngine;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger created = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "auction-stream-sender-" + created.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleWithFixedDelay(this::dispatch, dispatchIntervalMs, dispatchIntervalMs, TimeUnit.MILLISECONDS);
+        dispatcher.scheduleWithFixedDelay(this::heartbeat, heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Open a stream for the auction. The first event is the current state, read from the
+     * order book when the auction is loaded there and from the database otherwise.
+     */
+    public SseEmitter subscribe(int auctionId) {
+        AuctionUpdatedEvent snapshot = snapshot(auctionId);
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        // Added inside compute so the last subscriber leaving cannot drop the topic in between
+        Subscriber[] added = new Subscriber[1];
+        Topic topic = topics.compute(auctionId, (id, current) -> {
+            Topic joined = current != null ? current : new Topic(id);
+            added[0] = new Subscriber(joined, emitter);
+            joined.subscribers.add(added[0]);
+            return joined;
+        });
+        Subscriber subscriber = added[0];
+        emitter.onCompletion(subscriber::remove);
+        emitter.onTimeout(subscriber::remove);
+        emitter.onError(error -> subscriber.remove());
+
+        AuctionUpdatedEvent latest = AuctionUpdatedEvent.newest(snapshot, topic.latest.get());
+        subscriber.offerIfIdle(serialize(latest));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionUpdated(AuctionUpdatedEvent event) {
+        Topic topic = topics.get(event.auctionId());
+        if (topic == null) {
+            return;
+        }
+        topic.latest.accumulateAndGet(event, AuctionUpdatedEvent::newest);
+        if (topic.dirty.compareAndSet(false, true)) {
+            dirtyTopics.add(topic);
+        }
+    }
+
+    private void dispatch() {
+        try {
+            Topic topic;
+            while ((topic = dirtyTopics.poll()) != null) {
+                // Clear first so an event arriving while we fan out marks the topic again
+                topic.dirty.set(false);
+                String json = serialize(topic.latest.get());
+                for (Subscriber subscriber : topic.subscribers) {
+                    subscriber.offer(json);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Auction stream dispatch failed: {}", e.getMessage());
+        }
+    }
+
+    // Detects watchers that went away without closing, so they stop costing fan-out
+    private void heartbeat() {
+        for (Topic topic : topics.values()) {
+            for (Subscriber subscriber : topic.subscribers) {
+                subscriber.offerIfIdle(HEARTBEAT);
+            }
+        }
+    }
+
+    private AuctionUpdatedEvent snapshot(int auctionId) {
+        AuctionOrderBook book = orderBookEngine.peek(auctionId);
+        if (book != null) {
+            return new AuctionUpdatedEvent(auctionId, book.getCurrPrice(), book.getBidCount(),
+                    book.getStatus().name(), null, book.getEndsAt(), null);
+        }
+        Auction auction = auctionRepo.findById(auctionId)
+                .orElseThrow(() -> new RuntimeException("Auction not found with ID: " + auctionId));
+        return auctionMapper.toUpdatedEvent(auction, null);
+    }
+
+    private String serialize(AuctionUpdatedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(auctionMapper.toPriceUpdateDTO(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize auction update", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+        topics.values().forEach(topic -> topic.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private final class Topic {
+        private final int auctionId;
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final AtomicReference<AuctionUpdatedEvent> latest = new AtomicReference<>();
+        private final AtomicBoolean dirty = new AtomicBoolean();
+
+        private Topic(int auctionId) {
+            this.auctionId = auctionId;
+        }
+    }
+
+    private final class Subscriber {
+        private final Topic topic;
+        private final SseEmitter emitter;
+        private final AtomicReference<String> pending = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Subscriber(Topic topic, SseEmitter emitter) {
+            this.topic = topic;
+            this.emitter = emitter;
+        }
+
+        // Replaces any unsent update: this is where per-subscriber coalescing happens
+        void offer(String json) {
+            pending.set(json);
+            schedule();
+        }
+
+        void offerIfIdle(String json) {
+            if (pending.compareAndSet(null, json)) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                senders.execute(this::send);
+            }
+        }
+
+        private void send() {
+            try {
+                String json;
+                while ((json = pending.getAndSet(null)) != null) {
+                    if (json == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        emitter.send(SseEmitter.event().name("auction-update").data(json, MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                remove();
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            if (pending.get() != null) {
+                schedule();
+            }
+        }
+
+        void remove() {
+            topic.subscribers.remove(this);
+            topics.computeIfPresent(topic.auctionId,
+                    (id, current) -> current == topic && current.subscribers.isEmpty() ? null : current);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.onepiece.bidding_service.service;
+
+import com.onepiece.bidding_service.dto.BiddingResponseDTO;
+import com.onepiece.bidding_service.dto.PlaceBidRequestDTO;
+import com.onepiece.bidding_service.engine.BidSink;
+import com.onepiece.bidding_service.mapper.BiddingMapper;
+import com.onepiece.bidding_service.model.IdempotentBid;
+import com.onepiece.bidding_service.repo.BiddingRepo;
+import com.onepiece.bidding_service.repo.IdempotentBidRepo;
+import com.onepiece.common.idempotency.IdempotencyStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Database side of Idempotency-Key on bid placement, behind the in-memory {@link IdempotencyStore}.
+ *
+ * A request claims its key with INSERT IGNORE before placing the bid, so two requests with one
+ * key can never both place it, whichever instance they reach. The claim is completed with the
+ * bid's response, retrying in the background until that sticks, or released if the bid was
+ * rejected so the client can retry. A claim left open longer than
+ * bidding.idempotency.claim-timeout-ms is only taken over once the bid sink is flushed and no
+ * bid of that request is found; if one is, the claim is completed with it instead. Rows older
+ * than bidding.idempotency.retention-hours are purged.
+ */
+@Service
+@Slf4j
+public class BidIdempotencyService {
+
+    private static final long COMPLETE_RETRY_MAX_MS = 10_000;
+
+    private final IdempotentBidRepo idempotentBidRepo;
+    private final BiddingRepo biddingRepo;
+    private final BidSink bidSink;
+    private final BiddingMapper biddingMapper;
+    private final Map<String, BiddingResponseDTO> completing = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "bid-idempotency");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${bidding.idempotency.retention-hours:24}")
+    private long retentionHours;
+
+    @Value("${bidding.idempotency.claim-timeout-ms:30000}")
+    private long claimTimeoutMs;
+
+    public BidIdempotencyService(IdempotentBidRepo idempotentBidRepo, BiddingRepo biddingRepo, BidSink bidSink,
+                                 BiddingMapper biddingMapper) {
+        this.idempotentBidRepo = idempotentBidRepo;
+        this.biddingRepo = biddingRepo;
+        this.bidSink = bidSink;
+        this.biddingMapper = biddingMapper;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::purgeQuietly, 1, 1, TimeUnit.HOURS);
+    }
+
+    /**
+     * Claim the key for this request. Empty when the caller should place the bid; otherwise the
+     * response of the bid already placed with this key.
+     */
+    public Optional<BiddingResponseDTO> claim(String key, PlaceBidRequestDTO request) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<IdempotentBid> claimed = Optional.empty();
+        // The other claim can be released between our insert and read, so claim again if it is gone
+        while (claimed.isEmpty()) {
+            if (idempotentBidRepo.claim(key, request.getAuctionId(), request.getBuyerId(), request.getBidAmount(), now) == 1) {
+                return Optional.empty();
+            }
+            claimed = idempotentBidRepo.findById(key);
+        }
+
+        IdempotentBid existing = claimed.get();
+        if (existing.getAuctionId() != request.getAuctionId() || existing.getBuyerId() != request.getBuyerId()
+                || existing.getBidAmount() != request.getBidAmount()) {
+            throw new IllegalArgumentException(IdempotencyStore.HEADER + " was already used for a different bid");
+        }
+        if (existing.getBidTime() != null) {
+            return Optional.of(biddingMapper.toResponseDTO(existing));
+        }
+        BiddingResponseDTO placed = completing.get(key);
+        if (placed != null) {
+            return Optional.of(placed);
+        }
+        LocalDateTime staleBefore = now.minusNanos(TimeUnit.MILLISECONDS.toNanos(claimTimeoutMs));
+        if (existing.getCreatedAt().isBefore(staleBefore)) {
+            Optional<BiddingResponseDTO> found = findPlaced(existing);
+            if (found.isPresent()) {
+                complete(key, found.get());
+                return found;
+            }
+            if (idempotentBidRepo.reclaimStale(key, staleBefore, now) == 1) {
+                log.warn("Taking over abandoned bid claim {}", key);
+                return Optional.empty();
+            }
+        }
+        throw new IllegalArgumentException(
+                "A bid with this " + IdempotencyStore.HEADER + " is still being placed. Please try again.");
+    }
+
+    /**
+     * Record the bid placed under the key. If the write fails it is retried in the background until
+     * it succeeds; meanwhile repeats reaching this instance are answered from memory, and other
+     * instances see an open claim they will not take over while the bid exists.
+     */
+    public void complete(String key, BiddingResponseDTO placed) {
+        completing.put(key, placed);
+        tryComplete(key, placed, 100);
+    }
+
+    private void tryComplete(String key, BiddingResponseDTO placed, long retryDelayMs) {
+        try {
+            idempotentBidRepo.complete(key, placed.getBidId(), placed.getBidTime());
+            completing.remove(key, placed);
+        } catch (Exception e) {
+            log.warn("Bid claim {} not completed, retrying in {} ms: {}", key, retryDelayMs, e.getMessage());
+            scheduler.schedule(() -> tryComplete(key, placed, Math.min(retryDelayMs * 2, COMPLETE_RETRY_MAX_MS)),
+                    retryDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Free the key of a bid that was rejected, so the client can retry with it.
+     */
+    public void release(String key) {
+        idempotentBidRepo.deleteById(key);
+    }
+
+    /**
+     * Free the key after placement failed without saying whether the bid was recorded. The claim is
+     * completed instead if the bid turns out to exist, and left to go stale if that cannot be told.
+     */
+    public void releaseUnlessPlaced(String key) {
+        try {
+            Optional<IdempotentBid> claim = idempotentBidRepo.findById(key);
+            if (claim.isEmpty()) {
+                return;
+            }
+            Optional<BiddingResponseDTO> found = findPlaced(claim.get());
+            if (found.isPresent()) {
+                complete(key, found.get());
+            } else {
+                release(key);
+            }
+        } catch (Exception e) {
+            log.warn("Bid claim {} left open until it goes stale: {}", key, e.getMessage());
+        }
+    }
+
+    // Flushes first: an accepted bid can still be queued for writing. Throws if that fails
+    private Optional<BiddingResponseDTO> findPlaced(IdempotentBid claim) {
+        bidSink.flush();
+        return biddingRepo.findFirstByAuctionIdAndNewBidAmountAndBuyerIdAndBidTimeGreaterThanEqual(
+                        claim.getAuctionId(), claim.getBidAmount(), claim.getBuyerId(), claim.getCreatedAt())
+                .map(biddingMapper::toResponseDTO);
+    }
+
+    private void purgeQuietly() {
+        try {
+            int purged = idempotentBidRepo.deleteCreatedBefore(LocalDateTime.now().minusHours(retentionHours));
+            if (purged > 0) {
+                log.info("Purged {} expired bid idempotency keys", purged);
+            }
+        } catch (Exception e) {
+            log.error("Bid idempotency purge failed, retrying next run: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+}
@@ -2,22 +2,52 @@ package com.onepiece.bidding_service.service;
 
 import com.onepiece.bidding_service.dto.BiddingRequestDTO;
 import com.onepiece.bidding_service.dto.BiddingResponseDTO;
+import com.onepiece.bidding_service.dto.BulkBidRequestDTO;
+import com.onepiece.bidding_service.dto.BulkBidResponseDTO;
+import com.onepiece.bidding_service.dto.BulkBidResultDTO;
 import com.onepiece.bidding_service.dto.PlaceBidRequestDTO;
+import com.onepiece.bidding_service.dto.ProxyBidRequestDTO;
+import com.onepiece.bidding_service.dto.ProxyBidResponseDTO;
+import com.onepiece.bidding_service.engine.AcceptedBid;
+import com.onepiece.bidding_service.engine.AuctionOrderBook;
+import com.onepiece.bidding_service.engine.BidOutcome;
+import com.onepiece.bidding_service.engine.BidPlacementMode;
+import com.onepiece.bidding_service.engine.OrderBookEngine;
+import com.onepiece.bidding_service.engine.ProxyRegistration;
+import com.onepiece.bidding_service.engine.SoftClosePolicy;
+import com.onepiece.bidding_service.engine.TopBids;
 import com.onepiece.bidding_service.mapper.BiddingMapper;
 import com.onepiece.bidding_service.model.Auction;
 import com.onepiece.bidding_service.model.Bidding;
 import com.onepiece.bidding_service.repo.AuctionRepo;
 import com.onepiece.bidding_service.repo.BiddingRepo;
+import com.onepiece.common.dto.CursorPageDTO;
+import com.onepiece.common.idempotency.IdempotencyStore;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class BiddingService {
@@ -31,6 +61,39 @@ public class BiddingService {
     @Autowired
     private BiddingMapper biddingMapper;
 
+    @Autowired
+    private PessimisticBidService pessimisticBidService;
+
+    @Autowired
+    private ConditionalBidService conditionalBidService;
+
+    @Autowired
+    private OrderBookEngine orderBookEngine;
+
+    @Autowired
+    private BidIdempotencyService bidIdempotencyService;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${bidding.placement.mode:ORDER_BOOK}")
+    private BidPlacementMode placementMode;
+
+    @Value("${bidding.bulk.max-bids:1000}")
+    private int maxBulkBids;
+
+    @Value("${pagination.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${pagination.max-page-size:500}")
+    private int maxPageSize;
+
     public List<BiddingResponseDTO> getAllBids() {
         List<Bidding> bids = biddingRepo.findAll();
         return bids.stream()
@@ -38,6 +101,40 @@ public class BiddingService {
                 .collect(Collectors.toList());
     }
 
+    // Keyset page of bids ordered by id, starting after the given cursor
+    public CursorPageDTO<BiddingResponseDTO> getBidsPage(int after, Integer size) {
+        int limit = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        List<BiddingResponseDTO> bids = biddingRepo
+                .findByBidIdGreaterThanOrderByBidIdAsc(after, PageRequest.of(0, limit))
+                .stream()
+                .map(biddingMapper::toResponseDTO)
+                .toList();
+        return CursorPageDTO.of(bids, limit, BiddingResponseDTO::getBidId);
+    }
+
+    // Writes every bid to the stream as NDJSON, one row in memory at a time
+    @Transactional(readOnly = true)
+    public void exportBids(OutputStream out) throws IOException {
+        try (Stream<Bidding> bids = biddingRepo.streamAllOrderedById();
+             SequenceWriter writer = objectMapper.writer()
+                     .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+            Iterator<Bidding> it = bids.iterator();
+            boolean any = false;
+            while (it.hasNext()) {
+                Bidding bid = it.next();
+                writer.write(biddingMapper.toResponseDTO(bid));
+                entityManager.detach(bid);
+                any = true;
+            }
+            writer.flush();
+            if (any) {
+                out.write('\n');
+            }
+        }
+    }
+
     public BiddingResponseDTO addBidding(@Valid BiddingRequestDTO biddingDTO) {  // ✅ FIXED: No throws IOException
 
         Auction auction = auctionRepo.findById(biddingDTO.getAuctionId())
@@ -48,12 +145,12 @@ public class BiddingService {
                     "Cannot place bid. Auction status is: " + auction.getCurrStatus());
         }
 
-        int minimumBid = auction.getCurrPrice() + biddingDTO.getPriceJump();
+        int minimumBid = auction.getCurrPrice() + auction.getPriceJump();
         if (biddingDTO.getNewBidAmount() < minimumBid) {
             throw new IllegalArgumentException(
                     "Bid amount must be at least " + minimumBid +
                             " (current price: " + auction.getCurrPrice() +
-                            " + price jump: " + biddingDTO.getPriceJump() + ")");
+                            " + price jump: " + auction.getPriceJump() + ")");
         }
 
         // Create bidding record
@@ -83,79 +180,136 @@ public class BiddingService {
         biddingRepo.deleteById(bidId);
     }
 
-    @Transactional(isolation = Isolation.SERIALIZABLE, rollbackFor = Exception.class)
-    public BiddingResponseDTO placeBid(@Valid PlaceBidRequestDTO placeBidRequest) {  // ✅ FIXED: No throws IOException
-        int maxRetries = 3;
-        int retryCount = 0;
+    /**
+     * Place a bid using the configured {@link BidPlacementMode}.
+     * ORDER_BOOK and SEQUENCER both go through the order book; they differ only in how bids are persisted.
+     * Every mode rejects bids once the auction's endsAt has passed and applies the soft-close
+     * extension ({@link SoftClosePolicy}) to bids that land in the final window. In the order
+     * book modes, registered maximums answer the bid before it is acknowledged.
+     */
+    public BiddingResponseDTO placeBid(@Valid PlaceBidRequestDTO placeBidRequest) {
+        if (placementMode == BidPlacementMode.PESSIMISTIC) {
+            return pessimisticBidService.placeBid(placeBidRequest);
+        }
+        if (placementMode == BidPlacementMode.CONDITIONAL_UPDATE) {
+            return conditionalBidService.placeBid(placeBidRequest);
+        }
+        AcceptedBid accepted = orderBookEngine.placeBid(placeBidRequest);
+        return biddingMapper.toResponseDTO(accepted);
+    }
 
-        while (retryCount < maxRetries) {
-            try {
-                Auction auction = auctionRepo.findByIdWithLock(placeBidRequest.getAuctionId())
-                        .orElseThrow(() -> new RuntimeException(
-                                "Auction not found with ID: " + placeBidRequest.getAuctionId()));
+    /**
+     * Place a bid at most once per Idempotency-Key: a retried request gets the original response
+     * instead of a second bid. Repeats are answered from memory first and from the key's claim
+     * row after that ({@link BidIdempotencyService}). A rejected bid does not use up its key, and
+     * neither does a failed one unless its bid was recorded after all.
+     */
+    public BiddingResponseDTO placeBid(@Valid PlaceBidRequestDTO placeBidRequest, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return placeBid(placeBidRequest);
+        }
+        IdempotencyStore.checkKey(idempotencyKey);
 
-                if (auction.getCurrStatus() != Auction.currStatus.ONGOING) {
-                    throw new IllegalArgumentException(
-                            "Cannot place bid. Auction status is: " + auction.getCurrStatus());
-                }
+        BiddingResponseDTO response = idempotencyStore.execute("place-bid:" + idempotencyKey, () -> {
+            Optional<BiddingResponseDTO> original = bidIdempotencyService.claim(idempotencyKey, placeBidRequest);
+            if (original.isPresent()) {
+                return original.get();
+            }
+            BiddingResponseDTO placed;
+            try {
+                placed = placeBid(placeBidRequest);
+            } catch (IllegalArgumentException e) {
+                bidIdempotencyService.release(idempotencyKey);
+                throw e;
+            } catch (RuntimeException e) {
+                // The bid may have been recorded anyway (a failed acknowledgement, say)
+                bidIdempotencyService.releaseUnlessPlaced(idempotencyKey);
+                throw e;
+            }
+            bidIdempotencyService.complete(idempotencyKey, placed);
+            return placed;
+        });
+        if (response.getAuctionId() != placeBidRequest.getAuctionId() || response.getBuyerId() != placeBidRequest.getBuyerId()
+                || response.getNewBidAmount() != placeBidRequest.getBidAmount()) {
+            throw new IllegalArgumentException(IdempotencyStore.HEADER + " was already used for a different bid");
+        }
+        return response;
+    }
 
-                int minimumBid = auction.getCurrPrice() + placeBidRequest.getPriceJump();
-                if (placeBidRequest.getBidAmount() < minimumBid) {
-                    throw new IllegalArgumentException(
-                            "Bid amount must be at least " + minimumBid +
-                                    " (current price: " + auction.getCurrPrice() +
-                                    " + price jump: " + placeBidRequest.getPriceJump() + ")");
-                }
+    /**
+     * Place many bids in one call, for replays, market makers and load generators. Bids are
+     * grouped per auction and applied lowest amount first, so a batch of rising bids for one
+     * auction is accepted whatever order it was listed in. Each bid is accepted or rejected on
+     * its own; the results come back in request order.
+     *
+     * In the order book modes each auction's bids take one trip through its lane and are
+     * persisted as one group; the locking modes place them one at a time.
+     */
+    public BulkBidResponseDTO placeBids(@Valid BulkBidRequestDTO bulkBidRequest) {
+        List<PlaceBidRequestDTO> requests = bulkBidRequest.getBids();
+        if (requests.size() > maxBulkBids) {
+            throw new IllegalArgumentException("A bulk request may hold at most " + maxBulkBids + " bids");
+        }
 
-                Bidding newBidding = new Bidding();
-                newBidding.setAuctionId(placeBidRequest.getAuctionId());
-                newBidding.setBuyerId(placeBidRequest.getBuyerId());
-                newBidding.setNewBidAmount(placeBidRequest.getBidAmount());
-
-                LocalDateTime now = LocalDateTime.now();
-                newBidding.setBidTime(now);
-                newBidding.setCreatedAt(now);
-                newBidding.setUpdatedAt(now);
-                newBidding.setCreatedBy(placeBidRequest.getBuyerId());
-                newBidding.setUpdatedBy(placeBidRequest.getBuyerId());
-
-                auction.setCurrPrice(placeBidRequest.getBidAmount());
-                auction.setBidCount(auction.getBidCount() + 1);
-                auction.setUpdatedAt(now);
-                auction.setUpdatedBy(placeBidRequest.getBuyerId());
-
-                // Save both records
-                Bidding savedBidding = biddingRepo.save(newBidding);
-                auctionRepo.save(auction);
-
-                return biddingMapper.toResponseDTO(savedBidding);
-
-            } catch (OptimisticLockingFailureException e) {
-                retryCount++;
-                if (retryCount >= maxRetries) {
-                    throw new RuntimeException(
-                            "Failed to place bid after " + maxRetries +
-                                    " attempts. The auction is experiencing high bidding activity. Please try again.");
-                }
+        Map<Integer, List<Integer>> byAuction = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            byAuction.computeIfAbsent(requests.get(i).getAuctionId(), id -> new ArrayList<>()).add(i);
+        }
+        List<Integer> order = new ArrayList<>(requests.size());
+        for (List<Integer> indexes : byAuction.values()) {
+            indexes.sort(Comparator.comparingInt(i -> requests.get(i).getBidAmount()));
+            order.addAll(indexes);
+        }
+        List<PlaceBidRequestDTO> ordered = order.stream().map(requests::get).toList();
 
-                // Exponential backoff: 100ms, 200ms, 300ms
+        List<BulkBidResultDTO> results = new ArrayList<>(Collections.nCopies(requests.size(), null));
+        if (placementMode == BidPlacementMode.PESSIMISTIC || placementMode == BidPlacementMode.CONDITIONAL_UPDATE) {
+            for (int i = 0; i < ordered.size(); i++) {
+                PlaceBidRequestDTO request = ordered.get(i);
                 try {
-                    Thread.sleep(100L * retryCount);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("Bid placement interrupted");
+                    BiddingResponseDTO bid = placementMode == BidPlacementMode.PESSIMISTIC
+                            ? pessimisticBidService.placeBid(request)
+                            : conditionalBidService.placeBid(request);
+                    results.set(order.get(i), biddingMapper.toBulkResult(order.get(i), request, bid, null));
+                } catch (RuntimeException e) {
+                    results.set(order.get(i), biddingMapper.toBulkResult(order.get(i), request, null, e.getMessage()));
                 }
             }
+        } else {
+            List<BidOutcome> outcomes = orderBookEngine.placeBids(ordered);
+            for (int i = 0; i < ordered.size(); i++) {
+                BidOutcome outcome = outcomes.get(i);
+                results.set(order.get(i), biddingMapper.toBulkResult(order.get(i), ordered.get(i),
+                        biddingMapper.toResponseDTO(outcome.bid()), outcome.rejection()));
+            }
         }
 
-        throw new RuntimeException("Failed to place bid due to concurrent access");
+        int accepted = (int) results.stream().filter(BulkBidResultDTO::isAccepted).count();
+        return BulkBidResponseDTO.builder()
+                .accepted(accepted)
+                .rejected(results.size() - accepted)
+                .results(results)
+                .build();
     }
 
-    public List<BiddingResponseDTO> getBidsByAuctionId(int auctionId) {
-        List<Bidding> bids = biddingRepo.findByAuctionIdOrderByNewBidAmountDesc(auctionId);  // ✅ FIXED
-        return bids.stream()
-                .map(biddingMapper::toResponseDTO)
-                .collect(Collectors.toList());
+    /**
+     * Register or raise a maximum bid; the order book bids on the buyer's behalf in priceJump
+     * steps up to it. Proxies live in the order book, so this needs ORDER_BOOK or SEQUENCER mode.
+     */
+    public ProxyBidResponseDTO placeProxyBid(@Valid ProxyBidRequestDTO proxyBidRequest) {
+        if (placementMode == BidPlacementMode.PESSIMISTIC || placementMode == BidPlacementMode.CONDITIONAL_UPDATE) {
+            throw new IllegalArgumentException("Proxy bidding is not available in " + placementMode + " placement mode");
+        }
+        ProxyRegistration registration = orderBookEngine.registerProxy(proxyBidRequest.getAuctionId(),
+                proxyBidRequest.getBuyerId(), proxyBidRequest.getMaxAmount());
+        return biddingMapper.toResponseDTO(proxyBidRequest.getAuctionId(), registration);
+    }
+
+    /**
+     * One page of the auction's bids, highest first; the same read as {@link #getLeaderboard}.
+     */
+    public List<BiddingResponseDTO> getBidsByAuctionId(int auctionId, int page, Integer size) {
+        return getLeaderboard(auctionId, page, size == null ? defaultPageSize : size);
     }
 
     public List<BiddingResponseDTO> getBidsByBuyerId(int buyerId) {
@@ -166,15 +320,62 @@ public class BiddingService {
     }
 
 
+    /**
+     * Highest bid: O(1) from the order book when the auction is live in it,
+     * otherwise one index seek on (auction_id, new_bid_amount DESC, bid_time DESC).
+     */
     public BiddingResponseDTO getHighestBidForAuction(int auctionId) {
-        Bidding bidding = biddingRepo.findHighestBidForAuction(auctionId);
-        if (bidding == null) {
-            throw new RuntimeException("No bids found for auction ID: " + auctionId);
+        AuctionOrderBook book = orderBookEngine.peek(auctionId);
+        if (book != null) {
+            AcceptedBid highest = book.getTopBids().highest();
+            if (highest == null) {
+                throw new RuntimeException("No bids found for auction ID: " + auctionId);
+            }
+            return biddingMapper.toResponseDTO(highest);
         }
+        Bidding bidding = biddingRepo.findFirstByAuctionIdOrderByNewBidAmountDescBidTimeDesc(auctionId)
+                .orElseThrow(() -> new RuntimeException("No bids found for auction ID: " + auctionId));
         return biddingMapper.toResponseDTO(bidding);
     }
 
+    /**
+     * One page of the auction's bids, highest first. Pages inside the order book's top-K are
+     * served from memory; deeper pages read only that page through the composite index.
+     */
+    public List<BiddingResponseDTO> getLeaderboard(int auctionId, int page, int size) {
+        if (page < 0 || size <= 0) {
+            throw new IllegalArgumentException("Page must be >= 0 and size must be positive");
+        }
+        size = Math.min(size, maxPageSize);
+
+        int offset;
+        try {
+            offset = Math.multiplyExact(page, size);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Page " + page + " is out of range for size " + size);
+        }
+        AuctionOrderBook book = orderBookEngine.peek(auctionId);
+        if (book != null) {
+            TopBids topBids = book.getTopBids();
+            boolean holdsAllBids = book.getBidCount() <= topBids.size();
+            if (holdsAllBids || offset + size <= topBids.size()) {
+                return topBids.page(offset, size).stream()
+                        .map(biddingMapper::toResponseDTO)
+                        .collect(Collectors.toList());
+            }
+        }
+
+        return biddingRepo.findByAuctionIdOrderByNewBidAmountDescBidTimeDesc(auctionId, PageRequest.of(page, size))
+                .stream()
+                .map(biddingMapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
     public long getBidCountForAuction(int auctionId) {
+        AuctionOrderBook book = orderBookEngine.peek(auctionId);
+        if (book != null) {
+            return book.getBidCount();
+        }
         return biddingRepo.countByAuctionId(auctionId);
     }
-}
\ No newline at end of file
+}
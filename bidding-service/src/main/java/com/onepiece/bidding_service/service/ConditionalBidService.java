@@ -0,0 +1,100 @@
+package com.onepiece.bidding_service.service;
+
+import com.onepiece.bidding_service.dto.BiddingResponseDTO;
+import com.onepiece.bidding_service.dto.PlaceBidRequestDTO;
+import com.onepiece.bidding_service.engine.SoftClosePolicy;
+import com.onepiece.bidding_service.event.AuctionUpdatedEvent;
+import com.onepiece.bidding_service.mapper.BiddingMapper;
+import com.onepiece.bidding_service.model.Auction;
+import com.onepiece.bidding_service.model.AuctionBidState;
+import com.onepiece.bidding_service.model.Bidding;
+import com.onepiece.bidding_service.repo.AuctionRepo;
+import com.onepiece.bidding_service.repo.BiddingRepo;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bid placement with one conditional UPDATE on the auction row.
+ * Used when bidding.placement.mode=CONDITIONAL_UPDATE.
+ *
+ * The database checks status and minimum bid while it updates, so there is no read-then-lock
+ * round trip and nothing to retry: a losing concurrent bid simply updates zero rows. The
+ * row lock taken by the UPDATE is held for one primary-key read of the new bid count and
+ * close time, which the update event carries, and the Bidding insert.
+ */
+@Service
+public class ConditionalBidService {
+
+    @Autowired
+    private BiddingRepo biddingRepo;
+
+    @Autowired
+    private AuctionRepo auctionRepo;
+
+    @Autowired
+    private BiddingMapper biddingMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SoftClosePolicy softClosePolicy;
+
+    @Transactional(rollbackFor = Exception.class)
+    public BiddingResponseDTO placeBid(@Valid PlaceBidRequestDTO placeBidRequest) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = auctionRepo.placeBidIfAcceptable(
+                placeBidRequest.getAuctionId(),
+                placeBidRequest.getBidAmount(),
+                placeBidRequest.getBuyerId(),
+                Auction.currStatus.ONGOING,
+                now,
+                softClosePolicy.extendedEnd(now));
+
+        if (updated == 0) {
+            throw rejection(placeBidRequest);
+        }
+
+        Bidding newBidding = biddingMapper.toEntity(placeBidRequest);
+
+        newBidding.setBidTime(now);
+        newBidding.setCreatedAt(now);
+        newBidding.setUpdatedAt(now);
+        newBidding.setCreatedBy(placeBidRequest.getBuyerId());
+        newBidding.setUpdatedBy(placeBidRequest.getBuyerId());
+
+        Bidding savedBidding = biddingRepo.save(newBidding);
+
+        // Delivered to stream watchers after commit
+        AuctionBidState state = auctionRepo.findBidStateById(placeBidRequest.getAuctionId());
+        eventPublisher.publishEvent(new AuctionUpdatedEvent(placeBidRequest.getAuctionId(),
+                placeBidRequest.getBidAmount(), state.bidCount(), Auction.currStatus.ONGOING.name(),
+                placeBidRequest.getBuyerId(), state.endsAt(), now));
+
+        return biddingMapper.toResponseDTO(savedBidding);
+    }
+
+    // Only rejected bids pay for this read, to explain why the UPDATE matched nothing
+    private RuntimeException rejection(PlaceBidRequestDTO placeBidRequest) {
+        Auction auction = auctionRepo.findById(placeBidRequest.getAuctionId()).orElse(null);
+        if (auction == null) {
+            return new RuntimeException("Auction not found with ID: " + placeBidRequest.getAuctionId());
+        }
+        if (auction.getCurrStatus() != Auction.currStatus.ONGOING) {
+            return new IllegalArgumentException("Cannot place bid. Auction status is: " + auction.getCurrStatus());
+        }
+        if (auction.getEndsAt() != null && !LocalDateTime.now().isBefore(auction.getEndsAt())) {
+            return new IllegalArgumentException("Cannot place bid. Auction ended at: " + auction.getEndsAt());
+        }
+        int minimumBid = auction.getCurrPrice() + auction.getPriceJump();
+        return new IllegalArgumentException(
+                "Bid amount must be at least " + minimumBid +
+                        " (current price: " + auction.getCurrPrice() +
+                        " + price jump: " + auction.getPriceJump() + ")");
+    }
+}
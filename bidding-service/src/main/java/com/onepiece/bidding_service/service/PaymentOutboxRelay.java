@@ -0,0 +1,189 @@
+package com.onepiece.bidding_service.service;
+
+import com.onepiece.bidding_service.model.PaymentOutbox;
+import com.onepiece.bidding_service.repo.PaymentOutboxRepo;
+import com.onepiece.common.dto.CreatePaymentRequestDTO;
+import com.onepiece.common.idempotency.IdempotencyStore;
+import com.onepiece.common.security.AuthHeaders;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers payment outbox rows to payment-service off the request path.
+ *
+ * Each pass claims a batch of due rows (locked with SKIP LOCKED, then leased), posts them one
+ * by one with their Idempotency-Key, and marks the delivered ones SENT in a single update.
+ * Failures back off exponentially; a 4xx rejection or running out of attempts parks the row
+ * as FAILED. When payment-service cannot be reached the pass stops early and the rest of the
+ * batch waits for its lease to expire. Delivery is at least once; the key makes repeats harmless.
+ */
+@Component
+@Slf4j
+public class PaymentOutboxRelay {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = IdempotencyStore.HEADER;
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final PaymentOutboxRepo paymentOutboxRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final RestTemplate restTemplate;
+    private final ScheduledExecutorService relay = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "payment-outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${payment.service.url:http://payment-service/api/v1/payment-service}")
+    private String paymentServiceUrl;
+
+    @Value("${bidding.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${bidding.outbox.poll-interval-ms:500}")
+    private long pollIntervalMs;
+
+    @Value("${bidding.outbox.lease-ms:60000}")
+    private long leaseMs;
+
+    @Value("${bidding.outbox.max-attempts:12}")
+    private int maxAttempts;
+
+    @Value("${bidding.outbox.backoff-initial-ms:1000}")
+    private long backoffInitialMs;
+
+    @Value("${bidding.outbox.backoff-max-ms:300000}")
+    private long backoffMaxMs;
+
+    public PaymentOutboxRelay(PaymentOutboxRepo paymentOutboxRepo, TransactionTemplate transactionTemplate,
+                              RestTemplate restTemplate) {
+        this.paymentOutboxRepo = paymentOutboxRepo;
+        this.transactionTemplate = transactionTemplate;
+        this.restTemplate = restTemplate;
+    }
+
+    @PostConstruct
+    public void start() {
+        relay.scheduleWithFixedDelay(this::relayQuietly, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Deliver due rows until a pass finds less than a full batch. Returns the number delivered.
+     */
+    public int relayPending() {
+        int delivered = 0;
+        while (true) {
+            List<PaymentOutbox> batch = claimBatch();
+            if (batch.isEmpty()) {
+                return delivered;
+            }
+            int sent = deliver(batch);
+            delivered += sent;
+            if (batch.size() < batchSize || sent < batch.size()) {
+                return delivered;
+            }
+        }
+    }
+
+    private List<PaymentOutbox> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        return transactionTemplate.execute(tx -> {
+            List<PaymentOutbox> rows = paymentOutboxRepo.lockDue(now, batchSize);
+            if (!rows.isEmpty()) {
+                paymentOutboxRepo.lease(rows.stream().map(PaymentOutbox::getId).toList(),
+                        now.plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMs)));
+            }
+            return rows;
+        });
+    }
+
+    private int deliver(List<PaymentOutbox> batch) {
+        List<Long> sent = new ArrayList<>(batch.size());
+        for (PaymentOutbox row : batch) {
+            try {
+                restTemplate.postForEntity(paymentServiceUrl, toRequest(row), Void.class);
+                sent.add(row.getId());
+            } catch (HttpClientErrorException e) {
+                // The same body will be rejected again, except for throttling/timeouts
+                boolean retryable = e.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)
+                        || e.getStatusCode().isSameCodeAs(HttpStatus.REQUEST_TIMEOUT);
+                recordFailure(row, e.getStatusCode() + " " + e.getResponseBodyAsString(), !retryable);
+            } catch (ResourceAccessException e) {
+                // payment-service unreachable or timing out: stop hammering it this pass
+                recordFailure(row, e.getMessage(), false);
+                break;
+            } catch (Exception e) {
+                recordFailure(row, e.getMessage(), false);
+            }
+        }
+        if (!sent.isEmpty()) {
+            transactionTemplate.executeWithoutResult(tx ->
+                    paymentOutboxRepo.markSent(sent, PaymentOutbox.Status.SENT, LocalDateTime.now()));
+            log.info("Delivered {} payment(s) to payment-service", sent.size());
+        }
+        return sent.size();
+    }
+
+    private HttpEntity<CreatePaymentRequestDTO> toRequest(PaymentOutbox row) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(IDEMPOTENCY_KEY_HEADER, row.getIdempotencyKey());
+        if (row.getAuthUserId() != null) {
+            headers.set(AuthHeaders.USER_ID, row.getAuthUserId());
+            headers.set(AuthHeaders.USER_NAME, row.getAuthUserName());
+            headers.set(AuthHeaders.USER_ROLES, row.getAuthUserRoles());
+        }
+        CreatePaymentRequestDTO body = new CreatePaymentRequestDTO(row.getBuyerId(), row.getSellerId(),
+                row.getProductId(), row.getAuctionId(), row.getFinalAmount());
+        return new HttpEntity<>(body, headers);
+    }
+
+    private void recordFailure(PaymentOutbox row, String error, boolean permanent) {
+        int attempt = row.getAttempts() + 1;
+        boolean giveUp = permanent || attempt >= maxAttempts;
+        long backoffMs = Math.min(backoffMaxMs, backoffInitialMs << Math.min(attempt - 1, 20));
+        String message = error == null ? "unknown error"
+                : error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        transactionTemplate.executeWithoutResult(tx -> paymentOutboxRepo.markFailed(row.getId(),
+                giveUp ? PaymentOutbox.Status.FAILED : PaymentOutbox.Status.PENDING,
+                LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(backoffMs)), message));
+        if (giveUp) {
+            log.error("❌ Payment for auction {} not delivered after {} attempt(s), marked FAILED: {}",
+                    row.getAuctionId(), attempt, message);
+        } else {
+            log.warn("Payment for auction {} failed (attempt {}), retrying in {} ms: {}",
+                    row.getAuctionId(), attempt, backoffMs, message);
+        }
+    }
+
+    private void relayQuietly() {
+        try {
+            relayPending();
+        } catch (Exception e) {
+            log.error("Payment outbox relay pass failed, retrying next tick: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        relay.shutdown();
+    }
+}
@@ -0,0 +1,120 @@
+package com.onepiece.bidding_service.service;
+
+import com.onepiece.bidding_service.dto.BiddingResponseDTO;
+import com.onepiece.bidding_service.dto.PlaceBidRequestDTO;
+import com.onepiece.bidding_service.engine.SoftClosePolicy;
+import com.onepiece.bidding_service.mapper.AuctionMapper;
+import com.onepiece.bidding_service.mapper.BiddingMapper;
+import com.onepiece.bidding_service.model.Auction;
+import com.onepiece.bidding_service.model.Bidding;
+import com.onepiece.bidding_service.repo.AuctionRepo;
+import com.onepiece.bidding_service.repo.BiddingRepo;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bid placement with a PESSIMISTIC_WRITE lock on the auction row.
+ * Used when bidding.placement.mode=PESSIMISTIC.
+ */
+@Service
+public class PessimisticBidService {
+
+    @Autowired
+    private BiddingRepo biddingRepo;
+
+    @Autowired
+    private AuctionRepo auctionRepo;
+
+    @Autowired
+    private BiddingMapper biddingMapper;
+
+    @Autowired
+    private AuctionMapper auctionMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SoftClosePolicy softClosePolicy;
+
+    @Transactional(isolation = Isolation.SERIALIZABLE, rollbackFor = Exception.class)
+    public BiddingResponseDTO placeBid(@Valid PlaceBidRequestDTO placeBidRequest) {
+        int maxRetries = 3;
+        int retryCount = 0;
+
+        while (retryCount < maxRetries) {
+            try {
+                Auction auction = auctionRepo.findByIdWithLock(placeBidRequest.getAuctionId())
+                        .orElseThrow(() -> new RuntimeException(
+                                "Auction not found with ID: " + placeBidRequest.getAuctionId()));
+
+                if (auction.getCurrStatus() != Auction.currStatus.ONGOING) {
+                    throw new IllegalArgumentException(
+                            "Cannot place bid. Auction status is: " + auction.getCurrStatus());
+                }
+                if (auction.getEndsAt() != null && !LocalDateTime.now().isBefore(auction.getEndsAt())) {
+                    throw new IllegalArgumentException("Cannot place bid. Auction ended at: " + auction.getEndsAt());
+                }
+
+                // The auction's own increment, as in every placement mode; the request's priceJump is not trusted
+                int minimumBid = auction.getCurrPrice() + auction.getPriceJump();
+                if (placeBidRequest.getBidAmount() < minimumBid) {
+                    throw new IllegalArgumentException(
+                            "Bid amount must be at least " + minimumBid +
+                                    " (current price: " + auction.getCurrPrice() +
+                                    " + price jump: " + auction.getPriceJump() + ")");
+                }
+
+                Bidding newBidding = new Bidding();
+                newBidding.setAuctionId(placeBidRequest.getAuctionId());
+                newBidding.setBuyerId(placeBidRequest.getBuyerId());
+                newBidding.setNewBidAmount(placeBidRequest.getBidAmount());
+
+                LocalDateTime now = LocalDateTime.now();
+                newBidding.setBidTime(now);
+                newBidding.setCreatedAt(now);
+                newBidding.setUpdatedAt(now);
+                newBidding.setCreatedBy(placeBidRequest.getBuyerId());
+                newBidding.setUpdatedBy(placeBidRequest.getBuyerId());
+
+                auction.setCurrPrice(placeBidRequest.getBidAmount());
+                auction.setBidCount(auction.getBidCount() + 1);
+                auction.setUpdatedAt(now);
+                auction.setUpdatedBy(placeBidRequest.getBuyerId());
+                auction.setEndsAt(softClosePolicy.extend(auction.getEndsAt(), now));
+
+                // Save both records
+                Bidding savedBidding = biddingRepo.save(newBidding);
+                auctionRepo.save(auction);
+                eventPublisher.publishEvent(auctionMapper.toUpdatedEvent(auction, placeBidRequest.getBuyerId()));
+
+                return biddingMapper.toResponseDTO(savedBidding);
+
+            } catch (OptimisticLockingFailureException e) {
+                retryCount++;
+                if (retryCount >= maxRetries) {
+                    throw new RuntimeException(
+                            "Failed to place bid after " + maxRetries +
+                                    " attempts. The auction is experiencing high bidding activity. Please try again.");
+                }
+
+                // Exponential backoff: 100ms, 200ms, 300ms
+                try {
+                    Thread.sleep(100L * retryCount);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Bid placement interrupted");
+                }
+            }
+        }
+
+        throw new RuntimeException("Failed to place bid due to concurrent access");
+    }
+}
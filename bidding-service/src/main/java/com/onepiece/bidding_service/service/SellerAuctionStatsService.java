@@ -0,0 +1,103 @@
+package com.onepiece.bidding_service.service;
+
+import com.onepiece.bidding_service.dto.SellerAuctionSummaryDTO;
+import com.onepiece.bidding_service.model.Auction;
+import com.onepiece.bidding_service.model.SellerAuctionStats;
+import com.onepiece.bidding_service.repo.AuctionRepo;
+import com.onepiece.bidding_service.repo.SellerAuctionStatsRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps seller_auction_stats in step with the auction table. Every create, status change and
+ * delete applies a +/- delta inside the caller's transaction, so the seller dashboard reads
+ * at most one row per status instead of scanning the seller's auctions.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SellerAuctionStatsService {
+
+    private final SellerAuctionStatsRepo statsRepo;
+    private final AuctionRepo auctionRepo;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onCreated(Auction auction) {
+        apply(auction.getCreatedBy(), auction.getCurrStatus(), 1, gmvOf(auction.getCurrStatus(), auction.getCurrPrice()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onDeleted(Auction auction) {
+        apply(auction.getCreatedBy(), auction.getCurrStatus(), -1, -gmvOf(auction.getCurrStatus(), auction.getCurrPrice()));
+    }
+
+    /**
+     * Move one auction between status rows; also corrects GMV when a completed auction's price is edited.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onChanged(int sellerId, Auction.currStatus oldStatus, int oldPrice,
+                          Auction.currStatus newStatus, int newPrice) {
+        long oldGmv = gmvOf(oldStatus, oldPrice);
+        long newGmv = gmvOf(newStatus, newPrice);
+        if (oldStatus == newStatus) {
+            if (oldGmv != newGmv) {
+                apply(sellerId, newStatus, 0, newGmv - oldGmv);
+            }
+            return;
+        }
+        apply(sellerId, oldStatus, -1, -oldGmv);
+        apply(sellerId, newStatus, 1, newGmv);
+    }
+
+    @Transactional(readOnly = true)
+    public SellerAuctionSummaryDTO getSummary(int sellerId) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Auction.currStatus status : Auction.currStatus.values()) {
+            counts.put(status.name(), 0L);
+        }
+        long total = 0;
+        long gmv = 0;
+        for (SellerAuctionStats row : statsRepo.findBySellerId(sellerId)) {
+            counts.put(row.getCurrStatus().name(), row.getAuctionCount());
+            total += row.getAuctionCount();
+            gmv += row.getGmv();
+        }
+        return SellerAuctionSummaryDTO.builder()
+                .sellerId(sellerId)
+                .totalAuctions(total)
+                .countsByStatus(counts)
+                .gmv(gmv)
+                .build();
+    }
+
+    /**
+     * Seed the counters from existing auctions the first time the table is created.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void seedIfEmpty() {
+        if (statsRepo.count() == 0 && auctionRepo.count() > 0) {
+            int rows = statsRepo.rebuildFromAuctions();
+            log.info("Seeded seller_auction_stats with {} rows", rows);
+        }
+    }
+
+    private void apply(int sellerId, Auction.currStatus status, long countDelta, long gmvDelta) {
+        if (status == null) {
+            return;
+        }
+        statsRepo.applyDelta(sellerId, status.name(), countDelta, gmvDelta);
+    }
+
+    private static long gmvOf(Auction.currStatus status, int price) {
+        return status == Auction.currStatus.COMPLETED ? price : 0;
+    }
+}
@@ -0,0 +1,119 @@
+package com.onepiece.bidding_service;
+
+import com.onepiece.bidding_service.model.Bidding;
+import com.onepiece.common.benchmark.DatabaseBenchmark;
+import com.onepiece.common.benchmark.InsertThroughputBenchmark;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bidding inserts: IDENTITY vs the pooled bidding_seq.
+ */
+@DatabaseBenchmark
+class BidInsertThroughputBenchmark extends InsertThroughputBenchmark {
+
+    @Override
+    protected String name() {
+        return "BIDDING_INSERT";
+    }
+
+    @Override
+    protected String table() {
+        return "bidding";
+    }
+
+    @Override
+    protected String idColumn() {
+        return "bid_id";
+    }
+
+    @Override
+    protected String identityTable() {
+        return "bidding_identity_benchmark";
+    }
+
+    @Override
+    protected String markerColumn() {
+        return "auction_id";
+    }
+
+    @Override
+    protected Object pooledRow(int i, int marker) {
+        LocalDateTime now = LocalDateTime.now();
+        Bidding bid = new Bidding();
+        bid.setAuctionId(marker);
+        bid.setBuyerId(10_000 + i % 500);
+        bid.setNewBidAmount(1_000 + i);
+        bid.setBidTime(now);
+        bid.setCreatedAt(now);
+        bid.setUpdatedAt(now);
+        bid.setCreatedBy(bid.getBuyerId());
+        bid.setUpdatedBy(bid.getBuyerId());
+        return bid;
+    }
+
+    @Override
+    protected Object identityRow(int i, int marker) {
+        LocalDateTime now = LocalDateTime.now();
+        IdentityBidding bid = new IdentityBidding();
+        bid.setAuctionId(marker);
+        bid.setBuyerId(10_000 + i % 500);
+        bid.setNewBidAmount(1_000 + i);
+        bid.setBidTime(now);
+        bid.setCreatedAt(now);
+        bid.setUpdatedAt(now);
+        bid.setCreatedBy(bid.getBuyerId());
+        bid.setUpdatedBy(bid.getBuyerId());
+        return bid;
+    }
+
+    // The columns Bidding writes, keyed the way it was before pooled ids
+    @Entity
+    @Table(name = "bidding_identity_benchmark")
+    @Getter
+    @Setter
+    static class IdentityBidding {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        @Column(name = "bid_id")
+        private Integer bidId;
+
+        @Column(name = "auction_id")
+        private int auctionId;
+
+        @Column(name = "buyer_id")
+        private int buyerId;
+
+        @Column(name = "new_bid_amount")
+        private int newBidAmount;
+
+        @Column(name = "bid_time")
+        private LocalDateTime bidTime;
+
+        @Version
+        @Column(name = "version")
+        private Long version;
+
+        @Column(name = "created_at", nullable = false, updatable = false)
+        private LocalDateTime createdAt;
+
+        @Column(name = "updated_at", nullable = false)
+        private LocalDateTime updatedAt;
+
+        @Column(name = "created_by")
+        private Integer createdBy;
+
+        @Column(name = "updated_by")
+        private Integer updatedBy;
+    }
+}
@@ -0,0 +1,118 @@
+package com.onepiece.bidding_service;
+
+import com.onepiece.bidding_service.dto.BiddingResponseDTO;
+import com.onepiece.bidding_service.dto.PlaceBidRequestDTO;
+import com.onepiece.bidding_service.model.Auction;
+import com.onepiece.bidding_service.repo.AuctionRepo;
+import com.onepiece.bidding_service.service.ConditionalBidService;
+import com.onepiece.bidding_service.service.PessimisticBidService;
+import com.onepiece.common.benchmark.BenchmarkResult;
+import com.onepiece.common.benchmark.DatabaseBenchmark;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Many bidders on one hot auction: PESSIMISTIC vs CONDITIONAL_UPDATE placement.
+ */
+@DatabaseBenchmark
+class BidPlacementContentionBenchmark {
+
+    private static final int BIDDERS = Integer.getInteger("benchmark.bidders", 64);
+    private static final int BIDS_PER_BIDDER = Integer.getInteger("benchmark.bids", 50);
+
+    @Autowired
+    private AuctionRepo auctionRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PessimisticBidService pessimisticBidService;
+
+    @Autowired
+    private ConditionalBidService conditionalBidService;
+
+    @Test
+    void compareContention() throws InterruptedException {
+        run("PESSIMISTIC", pessimisticBidService::placeBid);
+        run("CONDITIONAL_UPDATE", conditionalBidService::placeBid);
+    }
+
+    private void run(String mode, Function<PlaceBidRequestDTO, BiddingResponseDTO> placeBid) throws InterruptedException {
+        Auction auction = newHotAuction();
+        AtomicInteger nextAmount = new AtomicInteger(auction.getCurrPrice());
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        List<long[]> latencies = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService bidders = Executors.newFixedThreadPool(BIDDERS);
+
+        for (int b = 0; b < BIDDERS; b++) {
+            int buyerId = 10_000 + b;
+            long[] samples = new long[BIDS_PER_BIDDER];
+            latencies.add(samples);
+            bidders.submit(() -> {
+                start.await();
+                for (int i = 0; i < BIDS_PER_BIDDER; i++) {
+                    PlaceBidRequestDTO request = new PlaceBidRequestDTO(
+                            auction.getAuctionId(), buyerId, nextAmount.incrementAndGet(), 1);
+                    long began = System.nanoTime();
+                    try {
+                        placeBid.apply(request);
+                        accepted.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        rejected.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        failed.incrementAndGet();
+                    }
+                    samples[i] = System.nanoTime() - began;
+                }
+                return null;
+            });
+        }
+
+        long began = System.nanoTime();
+        start.countDown();
+        bidders.shutdown();
+        bidders.awaitTermination(10, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - began;
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).toArray();
+        BenchmarkResult.of(mode)
+                .with("bidders", BIDDERS)
+                .with("bids", all.length)
+                .with("accepted", accepted.get())
+                .with("rejected", rejected.get())
+                .with("failed", failed.get())
+                .throughput(all.length, elapsed)
+                .latencies(all)
+                .log(getClass());
+
+        jdbcTemplate.update("DELETE FROM bidding WHERE auction_id = ?", auction.getAuctionId());
+        auctionRepo.deleteById(auction.getAuctionId());
+    }
+
+    private Auction newHotAuction() {
+        Auction auction = new Auction();
+        auction.setProductId(-(int) (System.nanoTime() & 0x7fffffff));
+        auction.setCurrStatus(Auction.currStatus.ONGOING);
+        auction.setPriceJump(1);
+        auction.setCurrPrice(1_000);
+        auction.setBidCount(0);
+        auction.setCreatedBy(1);
+        auction.setUpdatedBy(1);
+        return auctionRepo.save(auction);
+    }
+}
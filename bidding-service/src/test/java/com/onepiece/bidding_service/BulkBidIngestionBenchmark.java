@@ -0,0 +1,126 @@
+package com.onepiece.bidding_service;
+
+import com.onepiece.bidding_service.dto.BulkBidRequestDTO;
+import com.onepiece.bidding_service.dto.BulkBidResponseDTO;
+import com.onepiece.bidding_service.dto.PlaceBidRequestDTO;
+import com.onepiece.bidding_service.engine.OrderBookEngine;
+import com.onepiece.bidding_service.model.Auction;
+import com.onepiece.bidding_service.repo.AuctionRepo;
+import com.onepiece.bidding_service.service.BiddingService;
+import com.onepiece.common.benchmark.BenchmarkResult;
+import com.onepiece.common.benchmark.DatabaseBenchmark;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Replay of a recorded bid stream across a handful of auctions: one placeBid call per bid vs
+ * POST /bids/bulk sized chunks. Reports bids per second until every accepted bid is in MySQL.
+ */
+@DatabaseBenchmark
+class BulkBidIngestionBenchmark {
+
+    private static final int AUCTIONS = Integer.getInteger("benchmark.auctions", 8);
+    private static final int BIDS = Integer.getInteger("benchmark.bids", 20_000);
+    private static final int CHUNK = Integer.getInteger("benchmark.chunk", 500);
+
+    @Autowired
+    private AuctionRepo auctionRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BiddingService biddingService;
+
+    @Autowired
+    private OrderBookEngine orderBookEngine;
+
+    @Test
+    void compareSingleAndBulk() {
+        run("SINGLE", bids -> {
+            int accepted = 0;
+            for (PlaceBidRequestDTO bid : bids) {
+                try {
+                    biddingService.placeBid(bid);
+                    accepted++;
+                } catch (IllegalArgumentException e) {
+                    // outbid by an earlier bid of the replay
+                }
+            }
+            return accepted;
+        });
+        run("BULK", bids -> {
+            int accepted = 0;
+            for (int from = 0; from < bids.size(); from += CHUNK) {
+                BulkBidResponseDTO response = biddingService.placeBids(
+                        new BulkBidRequestDTO(bids.subList(from, Math.min(from + CHUNK, bids.size()))));
+                accepted += response.getAccepted();
+            }
+            return accepted;
+        });
+    }
+
+    private void run(String mode, ToIntFunction<List<PlaceBidRequestDTO>> replay) {
+        List<Auction> auctions = new ArrayList<>();
+        for (int a = 0; a < AUCTIONS; a++) {
+            auctions.add(newAuction());
+        }
+        List<PlaceBidRequestDTO> bids = replayStream(auctions);
+
+        long began = System.nanoTime();
+        int accepted = replay.applyAsInt(bids);
+        auctions.forEach(auction -> orderBookEngine.evict(auction.getAuctionId()));
+        long elapsed = System.nanoTime() - began;
+
+        int persisted = 0;
+        for (Auction auction : auctions) {
+            persisted += jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM bidding WHERE auction_id = ?", Integer.class, auction.getAuctionId());
+            jdbcTemplate.update("DELETE FROM bidding WHERE auction_id = ?", auction.getAuctionId());
+            auctionRepo.deleteById(auction.getAuctionId());
+        }
+
+        BenchmarkResult.of(mode)
+                .with("auctions", AUCTIONS)
+                .with("bids", bids.size())
+                .with("accepted", accepted)
+                .throughput(bids.size(), elapsed)
+                .log(getClass());
+        assertEquals(accepted, persisted);
+    }
+
+    // Rising prices per auction, auctions interleaved, with a few stale bids mixed in
+    private static List<PlaceBidRequestDTO> replayStream(List<Auction> auctions) {
+        Random random = new Random(42);
+        int[] prices = new int[auctions.size()];
+        List<PlaceBidRequestDTO> bids = new ArrayList<>(BIDS);
+        for (int i = 0; i < BIDS; i++) {
+            int a = random.nextInt(auctions.size());
+            prices[a] += 1 + random.nextInt(5);
+            int amount = random.nextInt(20) == 0 ? prices[a] / 2 : auctions.get(a).getCurrPrice() + prices[a];
+            bids.add(new PlaceBidRequestDTO(auctions.get(a).getAuctionId(), 10_000 + random.nextInt(500), amount, 1));
+        }
+        return Collections.unmodifiableList(bids);
+    }
+
+    private Auction newAuction() {
+        Auction auction = new Auction();
+        auction.setProductId(-(int) (System.nanoTime() & 0x7fffffff));
+        auction.setCurrStatus(Auction.currStatus.ONGOING);
+        auction.setPriceJump(1);
+        auction.setCurrPrice(1_000);
+        auction.setBidCount(0);
+        auction.setCreatedBy(1);
+        auction.setUpdatedBy(1);
+        return auctionRepo.save(auction);
+    }
+}
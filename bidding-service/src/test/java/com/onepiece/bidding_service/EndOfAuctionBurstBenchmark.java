@@ -0,0 +1,155 @@
+package com.onepiece.bidding_service;
+
+import com.onepiece.bidding_service.dto.PlaceBidRequestDTO;
+import com.onepiece.bidding_service.model.Auction;
+import com.onepiece.bidding_service.repo.AuctionRepo;
+import com.onepiece.bidding_service.service.AuctionLifecycleService;
+import com.onepiece.bidding_service.service.BiddingService;
+import com.onepiece.common.benchmark.BenchmarkResult;
+import com.onepiece.common.benchmark.DatabaseBenchmark;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * End-of-auction burst: thousands of bids land in the final second of one auction with soft
+ * close on. Reports placement latency, how far the close moved, and how long after the final
+ * close the lifecycle scheduler completed the auction. Fails if any bid was persisted at or
+ * after the final close.
+ */
+@DatabaseBenchmark(properties = "bidding.soft-close.seconds=2")
+class EndOfAuctionBurstBenchmark {
+
+    private static final int BIDDERS = Integer.getInteger("benchmark.bidders", 200);
+    private static final int BIDS_PER_BIDDER = Integer.getInteger("benchmark.bids", 20);
+    private static final int SELLER_ID = 999_999;
+
+    @Autowired
+    private AuctionRepo auctionRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BiddingService biddingService;
+
+    @Autowired
+    private AuctionLifecycleService auctionLifecycleService;
+
+    @Test
+    void lastSecondBurst() throws InterruptedException {
+        LocalDateTime originalEnd = LocalDateTime.now().plusSeconds(3);
+        Auction auction = newClosingAuction(originalEnd);
+        auctionLifecycleService.track(auction);
+
+        AtomicInteger nextAmount = new AtomicInteger(auction.getCurrPrice());
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        List<long[]> latencies = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService bidders = Executors.newFixedThreadPool(BIDDERS);
+
+        for (int b = 0; b < BIDDERS; b++) {
+            int buyerId = 10_000 + b;
+            long[] samples = new long[BIDS_PER_BIDDER];
+            latencies.add(samples);
+            bidders.submit(() -> {
+                start.await();
+                for (int i = 0; i < BIDS_PER_BIDDER; i++) {
+                    PlaceBidRequestDTO request = new PlaceBidRequestDTO(
+                            auction.getAuctionId(), buyerId, nextAmount.incrementAndGet(), 1);
+                    long began = System.nanoTime();
+                    try {
+                        biddingService.placeBid(request);
+                        accepted.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        rejected.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        failed.incrementAndGet();
+                    }
+                    samples[i] = System.nanoTime() - began;
+                }
+                return null;
+            });
+        }
+
+        // Release everyone one second before the original close
+        Thread.sleep(Math.max(0, Duration.between(LocalDateTime.now(), originalEnd).toMillis() - 1_000));
+        long began = System.nanoTime();
+        start.countDown();
+        bidders.shutdown();
+        bidders.awaitTermination(10, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - began;
+
+        Auction closed = awaitCompletion(auction.getAuctionId());
+        LocalDateTime completedSeen = LocalDateTime.now();
+        LocalDateTime finalEnd = closed.getEndsAt();
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).toArray();
+        BenchmarkResult.of("END_OF_AUCTION_BURST")
+                .with("bidders", BIDDERS)
+                .with("bids", all.length)
+                .with("accepted", accepted.get())
+                .with("rejected", rejected.get())
+                .with("failed", failed.get())
+                .throughput(all.length, elapsed)
+                .latencies(all)
+                .with("extendedBy", Duration.between(originalEnd, finalEnd).toMillis() + "ms")
+                .with("closeLag<", Duration.between(finalEnd, completedSeen).toMillis() + "ms")
+                .with("status", closed.getCurrStatus())
+                .log(getClass());
+
+        Integer lateBids = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM bidding WHERE auction_id = ? AND bid_time >= ?",
+                Integer.class, auction.getAuctionId(), finalEnd);
+        Integer persistedBids = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM bidding WHERE auction_id = ?", Integer.class, auction.getAuctionId());
+
+        jdbcTemplate.update("DELETE FROM bidding WHERE auction_id = ?", auction.getAuctionId());
+        jdbcTemplate.update("DELETE FROM payment_outbox WHERE auction_id = ?", auction.getAuctionId());
+        jdbcTemplate.update("DELETE FROM seller_auction_stats WHERE seller_id = ?", SELLER_ID);
+        auctionRepo.deleteById(auction.getAuctionId());
+
+        assertEquals(Auction.currStatus.COMPLETED, closed.getCurrStatus());
+        assertEquals(0, lateBids);
+        assertEquals(accepted.get(), persistedBids);
+    }
+
+    private Auction awaitCompletion(int auctionId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 60_000;
+        Auction auction = auctionRepo.findById(auctionId).orElseThrow();
+        while (auction.getCurrStatus() != Auction.currStatus.COMPLETED && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            auction = auctionRepo.findById(auctionId).orElseThrow();
+        }
+        return auction;
+    }
+
+    private Auction newClosingAuction(LocalDateTime endsAt) {
+        Auction auction = new Auction();
+        auction.setProductId(-(int) (System.nanoTime() & 0x7fffffff));
+        auction.setCurrStatus(Auction.currStatus.ONGOING);
+        auction.setPriceJump(1);
+        auction.setCurrPrice(1_000);
+        auction.setBidCount(0);
+        auction.setCreatedBy(SELLER_ID);
+        auction.setUpdatedBy(SELLER_ID);
+        auction.setStartsAt(LocalDateTime.now());
+        auction.setEndsAt(endsAt);
+        return auctionRepo.save(auction);
+    }
+}
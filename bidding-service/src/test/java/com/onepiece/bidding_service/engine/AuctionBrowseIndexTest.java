@@ -0,0 +1,124 @@
+package com.onepiece.bidding_service.engine;
+
+import com.onepiece.bidding_service.dto.AuctionBrowseItemDTO;
+import com.onepiece.bidding_service.dto.AuctionBrowsePageDTO;
+import com.onepiece.bidding_service.event.AuctionUpdatedEvent;
+import com.onepiece.bidding_service.model.Auction;
+import com.onepiece.common.dto.ProductChangeDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Browse rows join live auction state with product columns whichever arrives first, ignore
+ * stale updates, and page through filtered results in the requested order.
+ */
+class AuctionBrowseIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Test
+    void filtersSortsAndPages() {
+        AuctionBrowseIndex index = new AuctionBrowseIndex();
+        for (int i = 1; i <= 10; i++) {
+            index.putAuction(auction(i, 100 + i, 1_000 * i, i % 2 == 0 ? Auction.currStatus.ONGOING : Auction.currStatus.SCHEDULED));
+            index.putProduct(product(100 + i, "Leica M" + i, i <= 5 ? "Vintage" : "Luxury"));
+        }
+
+        AuctionBrowsePageDTO page = index.query(new BrowseQuery(Auction.currStatus.ONGOING, null, 3_000, null,
+                null, BrowseSort.PRICE_DESC, 0, 2));
+
+        assertEquals(4, page.getTotal());
+        assertEquals(List.of(10, 8), auctionIds(page));
+        assertEquals(List.of(6, 4), auctionIds(index.query(new BrowseQuery(Auction.currStatus.ONGOING, null, 3_000, null,
+                null, BrowseSort.PRICE_DESC, 1, 2))));
+        assertEquals(List.of(1, 2, 3), auctionIds(index.query(new BrowseQuery(null, "vintage", null, null,
+                null, BrowseSort.ENDING_SOON, 0, 3))));
+        assertEquals(List.of(10), auctionIds(index.query(new BrowseQuery(null, null, null, null,
+                "m10", BrowseSort.NEWEST, 0, 10))));
+        assertEquals(0, index.query(new BrowseQuery(null, "Sports", null, null, null, BrowseSort.NEWEST, 0, 10)).getTotal());
+    }
+
+    @Test
+    void productBeforeAuctionIsJoinedAndStaleUpdatesAreIgnored() {
+        AuctionBrowseIndex index = new AuctionBrowseIndex();
+        index.putProduct(product(101, "Rolex Submariner", "Luxury"));
+        index.putAuction(auction(1, 101, 5_000, Auction.currStatus.ONGOING));
+
+        index.update(new AuctionUpdatedEvent(1, 5_500, 3, "ONGOING", 42, NOW.plusMinutes(30), NOW));
+        index.update(new AuctionUpdatedEvent(1, 5_200, 2, "ONGOING", 41, NOW.plusMinutes(10), NOW));
+
+        AuctionBrowseItemDTO item = index.query(new BrowseQuery(null, null, null, null, null, BrowseSort.NEWEST, 0, 10))
+                .getItems().get(0);
+        assertEquals("Rolex Submariner", item.getProductModel());
+        assertEquals("Luxury", item.getCategory());
+        assertEquals(5_500, item.getCurrPrice());
+        assertEquals(3, item.getBidCount());
+        assertEquals(NOW.plusMinutes(30), item.getEndsAt());
+    }
+
+    @Test
+    void unknownAuctionIsReportedAndDeletedProductsAreUnlisted() {
+        AuctionBrowseIndex index = new AuctionBrowseIndex();
+        assertTrue(!index.update(new AuctionUpdatedEvent(7, 1_000, 1, "ONGOING", null, null, NOW)));
+
+        for (int i = 1; i <= 3; i++) {
+            index.putAuction(auction(i, 100 + i, 1_000, Auction.currStatus.ONGOING));
+            index.putProduct(product(100 + i, "Model " + i, "Classic"));
+        }
+        index.putProduct(ProductChangeDTO.builder().productId(102).deleted(true).build());
+        index.retainProducts(Set.of(101, 102));
+
+        assertEquals(List.of(1), auctionIds(index.query(new BrowseQuery(null, null, null, null, null, BrowseSort.NEWEST, 0, 10))));
+    }
+
+    @Test
+    void removingAuctionKeepsOtherRowsIntact() {
+        AuctionBrowseIndex index = new AuctionBrowseIndex();
+        for (int i = 1; i <= 2_000; i++) {
+            index.putAuction(auction(i, 10_000 + i, i, Auction.currStatus.ONGOING));
+            index.putProduct(product(10_000 + i, "Model " + i, "Antique"));
+        }
+
+        for (int i = 1; i <= 2_000; i += 2) {
+            index.removeAuction(i);
+        }
+        index.update(new AuctionUpdatedEvent(2_000, 9_999, 1, "ONGOING", 5, null, NOW));
+
+        AuctionBrowsePageDTO page = index.query(new BrowseQuery(null, null, null, null, null, BrowseSort.PRICE_DESC, 0, 3));
+        assertEquals(1_000, index.size());
+        assertEquals(1_000, page.getTotal());
+        assertEquals(List.of(2_000, 1_998, 1_996), auctionIds(page));
+        assertEquals("Model 2000", page.getItems().get(0).getProductModel());
+    }
+
+    private static List<Integer> auctionIds(AuctionBrowsePageDTO page) {
+        return page.getItems().stream().map(AuctionBrowseItemDTO::getAuctionId).toList();
+    }
+
+    private static Auction auction(int auctionId, int productId, int currPrice, Auction.currStatus status) {
+        Auction auction = new Auction();
+        auction.setAuctionId(auctionId);
+        auction.setProductId(productId);
+        auction.setCurrPrice(currPrice);
+        auction.setCurrStatus(status);
+        auction.setEndsAt(NOW.plusMinutes(auctionId));
+        return auction;
+    }
+
+    private static ProductChangeDTO product(int productId, String model, String category) {
+        return ProductChangeDTO.builder()
+                .productId(productId)
+                .productModel(model)
+                .modelYear(1960)
+                .category(category)
+                .startPrice(500)
+                .thumbnailUrl("/api/v1/product-service/product-images/view/" + productId + "/thumbnail")
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.onepiece.bidding_service.engine;
+
+import com.onepiece.bidding_service.model.Auction;
+import com.onepiece.common.benchmark.Benchmark;
+import com.onepiece.common.benchmark.BenchmarkResult;
+import com.onepiece.common.dto.ProductChangeDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Browse queries against a catalogue-sized read model: typical filter and sort combinations,
+ * first page of 50, timed per query after a warm-up. In-memory only.
+ */
+@Benchmark
+class AuctionBrowseQueryBenchmark {
+
+    private static final int AUCTIONS = Integer.getInteger("benchmark.auctions", 100_000);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 2_000);
+    private static final List<String> CATEGORIES = List.of("Antique", "Vintage", "Classic", "Sports", "Luxury");
+    private static final Auction.currStatus[] STATUSES = Auction.currStatus.values();
+
+    @Test
+    void browseQueries() {
+        AuctionBrowseIndex index = new AuctionBrowseIndex();
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 1; i <= AUCTIONS; i++) {
+            Auction auction = new Auction();
+            auction.setAuctionId(i);
+            auction.setProductId(i);
+            auction.setCurrStatus(STATUSES[random.nextInt(STATUSES.length)]);
+            auction.setCurrPrice(1_000 + random.nextInt(1_000_000));
+            auction.setBidCount(random.nextInt(500));
+            auction.setEndsAt(now.plusSeconds(random.nextInt(7 * 24 * 3600)));
+            index.putAuction(auction);
+            index.putProduct(ProductChangeDTO.builder()
+                    .productId(i)
+                    .productModel("Model " + Integer.toString(random.nextInt(1 << 20), 36))
+                    .modelYear(1950 + random.nextInt(70))
+                    .category(CATEGORIES.get(random.nextInt(CATEGORIES.size())))
+                    .startPrice(1_000)
+                    .build());
+        }
+
+        run(index, "ONGOING_ENDING_SOON", new BrowseQuery(Auction.currStatus.ONGOING, null, null, null, null, BrowseSort.ENDING_SOON, 0, 50));
+        run(index, "CATEGORY_PRICE_DESC", new BrowseQuery(Auction.currStatus.ONGOING, "Luxury", null, null, null, BrowseSort.PRICE_DESC, 0, 50));
+        run(index, "PRICE_RANGE_MOST_BIDS", new BrowseQuery(null, null, 10_000, 200_000, null, BrowseSort.MOST_BIDS, 0, 50));
+        run(index, "ALL_NEWEST_PAGE_10", new BrowseQuery(null, null, null, null, null, BrowseSort.NEWEST, 10, 50));
+        run(index, "TEXT_SEARCH", new BrowseQuery(null, null, null, null, "ab", BrowseSort.PRICE_ASC, 0, 50));
+    }
+
+    private void run(AuctionBrowseIndex index, String name, BrowseQuery query) {
+        for (int i = 0; i < ROUNDS; i++) {
+            index.query(query);
+        }
+        long[] samples = new long[ROUNDS];
+        int total = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long began = System.nanoTime();
+            total = index.query(query).getTotal();
+            samples[i] = System.nanoTime() - began;
+        }
+        BenchmarkResult.of("BROWSE_" + name)
+                .with("auctions", AUCTIONS)
+                .with("matched", total)
+                .latencies(samples)
+                .log(getClass());
+    }
+}
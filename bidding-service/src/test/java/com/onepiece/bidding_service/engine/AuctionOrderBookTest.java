@@ -0,0 +1,134 @@
+package com.onepiece.bidding_service.engine;
+
+import com.onepiece.bidding_service.model.Auction;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Soft close keeps the close one window after the newest bid, however many bids arrive, and
+ * nothing is accepted once the close has passed. Proxy maximums settle in a single bid.
+ */
+class AuctionOrderBookTest {
+
+    private static final long SOFT_CLOSE_SECONDS = 30;
+
+    @Test
+    void burstInWindowExtendsCloseOnceNotPerBid() {
+        LocalDateTime originalEnd = LocalDateTime.now().plusSeconds(5);
+        AuctionOrderBook book = book(originalEnd, SOFT_CLOSE_SECONDS);
+
+        for (int i = 1; i <= 5_000; i++) {
+            book.accept(10_000 + i % 100, 1_000 + i);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        assertTrue(book.getEndsAt().isAfter(originalEnd));
+        assertFalse(book.getEndsAt().isAfter(now.plusSeconds(SOFT_CLOSE_SECONDS)));
+        assertEquals(5_000, book.getBidCount());
+    }
+
+    @Test
+    void bidOutsideWindowLeavesCloseAlone() {
+        LocalDateTime end = LocalDateTime.now().plusMinutes(10);
+        AuctionOrderBook book = book(end, SOFT_CLOSE_SECONDS);
+
+        book.accept(10_001, 1_001);
+
+        assertEquals(end, book.getEndsAt());
+    }
+
+    @Test
+    void bidAfterCloseIsRejected() {
+        AuctionOrderBook book = book(LocalDateTime.now().minusNanos(1_000_000), SOFT_CLOSE_SECONDS);
+
+        assertThrows(IllegalArgumentException.class, () -> book.accept(10_001, 1_001));
+        assertEquals(0, book.getBidCount());
+    }
+
+    @Test
+    void strongestProxyWinsOneJumpAboveRunnerUp() {
+        AuctionOrderBook book = book(LocalDateTime.now().plusMinutes(10), SOFT_CLOSE_SECONDS);
+        LocalDateTime registeredAt = LocalDateTime.now();
+        for (int i = 0; i < 1_000; i++) {
+            book.putProxy(new ProxyMax(20_000 + i, 1_100 + i, registeredAt));
+        }
+
+        AcceptedBid settled = book.resolveProxies(LocalDateTime.now());
+
+        assertEquals(20_999, settled.buyerId());
+        assertEquals(2_099, settled.bidAmount());
+        assertEquals(1, book.getBidCount());
+        assertNull(book.resolveProxies(LocalDateTime.now()));
+    }
+
+    @Test
+    void leaderDefendsUpToItsMaximumOnly() {
+        AuctionOrderBook book = book(LocalDateTime.now().plusMinutes(10), SOFT_CLOSE_SECONDS);
+        book.putProxy(new ProxyMax(20_001, 1_500, LocalDateTime.now()));
+        assertEquals(1_001, book.resolveProxies(LocalDateTime.now()).bidAmount());
+
+        book.accept(20_002, 1_200);
+        AcceptedBid defended = book.resolveProxies(LocalDateTime.now());
+        assertEquals(20_001, defended.buyerId());
+        assertEquals(1_201, defended.bidAmount());
+
+        book.accept(20_002, 1_600);
+        assertNull(book.resolveProxies(LocalDateTime.now()));
+        assertEquals(20_002, book.getHighBidderId());
+    }
+
+    @Test
+    void equalMaximumsGoToTheEarlierProxy() {
+        AuctionOrderBook book = book(LocalDateTime.now().plusMinutes(10), SOFT_CLOSE_SECONDS);
+        LocalDateTime first = LocalDateTime.now();
+        book.putProxy(new ProxyMax(20_002, 1_300, first.plusSeconds(1)));
+        book.putProxy(new ProxyMax(20_001, 1_300, first));
+
+        AcceptedBid settled = book.resolveProxies(LocalDateTime.now());
+
+        assertEquals(20_001, settled.buyerId());
+        assertEquals(1_300, settled.bidAmount());
+    }
+
+    @Test
+    void proxyAnswersAtItsTriggerEvenPastTheClose() {
+        LocalDateTime endsAt = LocalDateTime.now().minusSeconds(1);
+        AuctionOrderBook book = book(endsAt, 0);
+        book.putProxy(new ProxyMax(20_001, 1_500, endsAt.minusMinutes(1)));
+        LocalDateTime triggeredAt = endsAt.minusNanos(1_000_000);
+
+        AcceptedBid settled = book.resolveProxies(triggeredAt);
+
+        assertEquals(20_001, settled.buyerId());
+        assertEquals(triggeredAt, settled.bidTime());
+    }
+
+    @Test
+    void maximumMustRiseAndClearTheNextBid() {
+        AuctionOrderBook book = book(LocalDateTime.now().plusMinutes(10), SOFT_CLOSE_SECONDS);
+        book.putProxy(new ProxyMax(20_001, 1_500, LocalDateTime.now()));
+
+        assertThrows(IllegalArgumentException.class, () -> book.checkProxy(20_001, 1_500));
+        assertThrows(IllegalArgumentException.class, () -> book.checkProxy(20_002, 1_000));
+        book.checkProxy(20_001, 1_501);
+        book.checkProxy(20_002, 1_001);
+    }
+
+    private static AuctionOrderBook book(LocalDateTime endsAt, long softCloseSeconds) {
+        Auction auction = new Auction();
+        auction.setAuctionId(1);
+        auction.setCurrStatus(Auction.currStatus.ONGOING);
+        auction.setPriceJump(1);
+        auction.setCurrPrice(1_000);
+        auction.setEndsAt(endsAt);
+        return new AuctionOrderBook(auction, List.of(), 20, new SoftClosePolicy(softCloseSeconds), List.of());
+    }
+}
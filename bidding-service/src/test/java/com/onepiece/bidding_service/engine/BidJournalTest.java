@@ -0,0 +1,52 @@
+package com.onepiece.bidding_service.engine;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Records a failed force was making durable are wiped: they are never drained, never replayed
+ * after a restart, and the journal takes no more writes.
+ */
+class BidJournalTest {
+
+    private static final int SIZE = 64 * 1024;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void abandonedTailIsNeitherDrainedNorReplayed() throws Exception {
+        Path path = dir.resolve("bids.journal");
+        try (BidJournal journal = BidJournal.open(path, SIZE)) {
+            journal.recover(0);
+            journal.append(bid(1_001));
+            journal.append(bid(1_002));
+            assertEquals(2, journal.force());
+            journal.append(bid(1_003));
+
+            journal.abandon();
+
+            assertEquals(2, journal.force());
+            assertEquals(2, journal.durableSeq());
+            assertEquals(2, journal.readDurable(10).size());
+            assertThrows(IllegalStateException.class, () -> journal.append(bid(1_004)));
+        }
+
+        try (BidJournal reopened = BidJournal.open(path, SIZE)) {
+            List<JournalRecord> replayed = reopened.recover(0);
+            assertEquals(List.of(1_001, 1_002), replayed.stream().map(record -> record.bid().bidAmount()).toList());
+        }
+    }
+
+    private static AcceptedBid bid(int amount) {
+        return new AcceptedBid(1, 10_000, amount, LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+    }
+}
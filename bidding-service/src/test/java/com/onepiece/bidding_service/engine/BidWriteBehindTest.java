@@ -0,0 +1,96 @@
+package com.onepiece.bidding_service.engine;
+
+import com.onepiece.bidding_service.event.BidDroppedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * One bid the database refuses must not hold up the others: it is isolated, retried, then
+ * dropped, while bids of other auctions are written and later bids of its auction keep their order.
+ */
+class BidWriteBehindTest {
+
+    private final List<AcceptedBid> written = new ArrayList<>();
+    private ApplicationEventPublisher eventPublisher;
+    private BidWriteBehind writeBehind;
+    private AcceptedBid poison;
+    private boolean databaseDown;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        BidBatchWriter writer = mock(BidBatchWriter.class, invocation -> {
+            List<AcceptedBid> batch = invocation.getArgument(0);
+            if (databaseDown) {
+                throw new DataAccessResourceFailureException("Connection refused");
+            }
+            if (batch.contains(poison)) {
+                throw new DataIntegrityViolationException("Duplicate entry");
+            }
+            written.addAll(batch);
+            return null;
+        });
+        writeBehind = new BidWriteBehind(writer, eventPublisher);
+        ReflectionTestUtils.setField(writeBehind, "batchSize", 500);
+        ReflectionTestUtils.setField(writeBehind, "maxAttempts", 3);
+    }
+
+    @Test
+    void rejectedBidIsDroppedAfterMaxAttemptsWithoutBlockingOthers() {
+        List<AcceptedBid> before = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            before.add(bid(2 + i % 3, 1_000 + i));
+        }
+        poison = bid(1, 1_100);
+        AcceptedBid behindPoison = bid(1, 1_200);
+        before.forEach(writeBehind::submit);
+        writeBehind.submit(poison);
+        writeBehind.submit(behindPoison);
+
+        assertThrows(IllegalStateException.class, writeBehind::flush);
+        assertEquals(before, written);
+        assertThrows(IllegalStateException.class, writeBehind::flush);
+        verify(eventPublisher, never()).publishEvent(any());
+
+        writeBehind.flush();
+        assertEquals(behindPoison, written.get(written.size() - 1));
+        assertFalse(written.contains(poison));
+        verify(eventPublisher).publishEvent(new BidDroppedEvent(1, poison.buyerId(), poison.bidAmount()));
+    }
+
+    @Test
+    void unavailableDatabaseKeepsEveryBid() {
+        databaseDown = true;
+        List<AcceptedBid> bids = List.of(bid(1, 1_000), bid(2, 1_000), bid(1, 1_100));
+        bids.forEach(writeBehind::submit);
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(DataAccessResourceFailureException.class, writeBehind::flush);
+        }
+        databaseDown = false;
+        writeBehind.flush();
+
+        assertEquals(bids, written);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private static AcceptedBid bid(int auctionId, int amount) {
+        return new AcceptedBid(auctionId, 10_000 + amount, amount, LocalDateTime.now());
+    }
+}
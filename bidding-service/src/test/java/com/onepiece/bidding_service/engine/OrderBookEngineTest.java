@@ -0,0 +1,120 @@
+package com.onepiece.bidding_service.engine;
+
+import com.onepiece.bidding_service.dto.PlaceBidRequestDTO;
+import com.onepiece.bidding_service.mapper.BiddingMapper;
+import com.onepiece.bidding_service.model.Auction;
+import com.onepiece.bidding_service.repo.AuctionRepo;
+import com.onepiece.bidding_service.repo.BiddingRepo;
+import com.onepiece.bidding_service.repo.ProxyBidRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A bid the sink refuses must not stay in the book: the next bid is checked against the
+ * database, not against a price that was never recorded.
+ */
+class OrderBookEngineTest {
+
+    private static final int AUCTION_ID = 1;
+
+    private AuctionRepo auctionRepo;
+    private BidSink bidSink;
+    private ApplicationEventPublisher eventPublisher;
+    private OrderBookEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        auctionRepo = mock(AuctionRepo.class);
+        bidSink = mock(BidSink.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        when(auctionRepo.findById(AUCTION_ID)).thenAnswer(invocation -> Optional.of(auction()));
+        engine = new OrderBookEngine(auctionRepo, mock(BiddingRepo.class), mock(ProxyBidRepo.class),
+                new BiddingMapper(), bidSink, eventPublisher, new SoftClosePolicy(0), 1, 100, 20);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        engine.shutdown();
+    }
+
+    @Test
+    void refusedBidIsDroppedFromTheBook() {
+        when(bidSink.submit(any())).thenReturn(CompletableFuture.failedFuture(
+                new RuntimeException("Bid could not be recorded. Please try again.")));
+
+        assertThrows(RuntimeException.class, () -> engine.placeBid(request(10_001, 1_500)));
+        verify(eventPublisher, never()).publishEvent(any());
+
+        when(bidSink.submit(any())).thenReturn(CompletableFuture.completedFuture(null));
+        // Would be below the refused 1_500 if the book had kept it
+        assertEquals(1_100, engine.placeBid(request(10_002, 1_100)).bidAmount());
+        assertEquals(1_100, engine.peek(AUCTION_ID).getCurrPrice());
+        assertEquals(1, engine.peek(AUCTION_ID).getBidCount());
+        verify(auctionRepo, times(2)).findById(AUCTION_ID);
+        verify(bidSink, times(1)).flush();
+    }
+
+    @Test
+    void bookIsNotRebuiltUntilTheSinkFlushes() {
+        when(bidSink.submit(any()))
+                .thenThrow(new RuntimeException("Bid placement interrupted"))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        assertThrows(RuntimeException.class, () -> engine.placeBid(request(10_001, 1_500)));
+
+        doThrow(new RuntimeException("database down")).doNothing().when(bidSink).flush();
+
+        assertThrows(RuntimeException.class, () -> engine.placeBid(request(10_002, 1_100)));
+        assertEquals(1_100, engine.placeBid(request(10_002, 1_100)).bidAmount());
+        verify(auctionRepo, times(2)).findById(anyInt());
+    }
+
+    @Test
+    void refusedBulkGroupIsRejectedAndDroppedFromTheBook() {
+        when(bidSink.submit(any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Bid could not be recorded. Please try again.")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        List<BidOutcome> refused = engine.placeBids(List.of(request(10_001, 1_500), request(10_002, 1_600)));
+        assertFalse(refused.get(0).isAccepted());
+        assertFalse(refused.get(1).isAccepted());
+
+        List<BidOutcome> retried = engine.placeBids(List.of(request(10_003, 1_100)));
+        assertTrue(retried.get(0).isAccepted());
+        assertEquals(1_100, engine.peek(AUCTION_ID).getCurrPrice());
+        assertEquals(1, engine.peek(AUCTION_ID).getBidCount());
+    }
+
+    private static PlaceBidRequestDTO request(int buyerId, int bidAmount) {
+        return new PlaceBidRequestDTO(AUCTION_ID, buyerId, bidAmount, 100);
+    }
+
+    private static Auction auction() {
+        Auction auction = new Auction();
+        auction.setAuctionId(AUCTION_ID);
+        auction.setCurrStatus(Auction.currStatus.ONGOING);
+        auction.setPriceJump(100);
+        auction.setCurrPrice(1_000);
+        auction.setEndsAt(LocalDateTime.now().plusMinutes(10));
+        return auction;
+    }
+}
@@ -0,0 +1,92 @@
+package com.onepiece.bidding_service.engine;
+
+import com.onepiece.bidding_service.model.Auction;
+import com.onepiece.common.benchmark.Benchmark;
+import com.onepiece.common.benchmark.BenchmarkResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Proxy war of thousands of maximums on one book: resolving it in one step against the naive
+ * back-and-forth where every proxy outbids the leader one price jump at a time. Reports the
+ * time per resolution and the bids each approach writes. In-memory only.
+ */
+@Benchmark
+class ProxyBidResolutionBenchmark {
+
+    private static final int PROXIES = Integer.getInteger("benchmark.proxies", 5_000);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 50);
+    private static final int PRICE_JUMP = 10;
+
+    @Test
+    void resolveProxyWar() {
+        // Distinct maximums in whole jumps, so both approaches agree on the winner
+        LocalDateTime registeredAt = LocalDateTime.now();
+        List<ProxyMax> proxies = new ArrayList<>();
+        for (int i = 0; i < PROXIES; i++) {
+            proxies.add(new ProxyMax(10_000 + i, 2_000 + i * PRICE_JUMP, registeredAt));
+        }
+        Collections.shuffle(proxies, new Random(42));
+
+        long singlePass = 0;
+        long naive = 0;
+        long naiveBids = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            AuctionOrderBook single = book(proxies);
+            long began = System.nanoTime();
+            AcceptedBid settled = single.resolveProxies(LocalDateTime.now());
+            singlePass += System.nanoTime() - began;
+
+            AuctionOrderBook stepped = book(List.of());
+            began = System.nanoTime();
+            naiveBids += outbidOneJumpAtATime(stepped, proxies);
+            naive += System.nanoTime() - began;
+
+            assertEquals(settled.buyerId(), stepped.getHighBidderId());
+        }
+
+        BenchmarkResult.of("PROXY_RESOLUTION")
+                .with("proxies", PROXIES)
+                .with("rounds", ROUNDS)
+                .millis("singlePass", (double) singlePass / ROUNDS)
+                .with("singlePassBids", 1)
+                .millis("naive", (double) naive / ROUNDS)
+                .with("naiveBids", naiveBids / ROUNDS)
+                .log(getClass());
+    }
+
+    // Every proxy that can still outbid the leader does so by one jump, until none can
+    private static long outbidOneJumpAtATime(AuctionOrderBook book, List<ProxyMax> proxies) {
+        long bids = 0;
+        boolean outbid = true;
+        while (outbid) {
+            outbid = false;
+            for (ProxyMax proxy : proxies) {
+                Integer leader = book.getHighBidderId();
+                int next = book.getCurrPrice() + PRICE_JUMP;
+                if ((leader == null || leader != proxy.buyerId()) && proxy.maxAmount() >= next) {
+                    book.accept(proxy.buyerId(), next);
+                    bids++;
+                    outbid = true;
+                }
+            }
+        }
+        return bids;
+    }
+
+    private static AuctionOrderBook book(List<ProxyMax> proxies) {
+        Auction auction = new Auction();
+        auction.setAuctionId(1);
+        auction.setCurrStatus(Auction.currStatus.ONGOING);
+        auction.setPriceJump(PRICE_JUMP);
+        auction.setCurrPrice(1_000);
+        return new AuctionOrderBook(auction, List.of(), 20, new SoftClosePolicy(0), proxies);
+    }
+}
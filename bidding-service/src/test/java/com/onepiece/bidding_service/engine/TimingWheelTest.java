@@ -0,0 +1,68 @@
+package com.onepiece.bidding_service.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Timers fire on the first tick at or after their deadline, across level cascades, and
+ * cancelled ones never fire.
+ */
+class TimingWheelTest {
+
+    private static final long TICK_MS = 100;
+
+    @Test
+    void timersFireOnTheirTickAcrossLevels() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(TICK_MS, 4, 3, 0);
+        Random random = new Random(42);
+        long[] deadlines = new long[10_000];
+        for (int i = 0; i < deadlines.length; i++) {
+            // Up to ~2x the top level's span, so the overflow list is exercised too
+            deadlines[i] = 1 + random.nextInt(8_000) * TICK_MS + random.nextInt((int) TICK_MS);
+            wheel.schedule(deadlines[i], i);
+        }
+        assertEquals(deadlines.length, wheel.size());
+
+        List<Integer> fired = new ArrayList<>();
+        for (long now = 0; now <= 8_100 * TICK_MS; now += TICK_MS) {
+            long at = now;
+            wheel.advanceTo(now, timeout -> {
+                int id = timeout.payload();
+                assertTrue(deadlines[id] <= at, "timer " + id + " fired early");
+                assertTrue(deadlines[id] > at - TICK_MS, "timer " + id + " fired late");
+                fired.add(id);
+            });
+        }
+        assertEquals(deadlines.length, fired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cancelledTimerNeverFires() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK_MS, 4, 3, 0);
+        TimingWheel.Timeout<String> cancelled = wheel.schedule(5_000, "cancelled");
+        wheel.schedule(5_000, "kept");
+
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(10_000, timeout -> fired.add(timeout.payload()));
+        assertEquals(List.of("kept"), fired);
+    }
+
+    @Test
+    void pastDeadlineIsNotScheduled() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK_MS, 4, 3, 10_000);
+        assertNull(wheel.schedule(9_000, "late"));
+        assertEquals(0, wheel.size());
+    }
+}
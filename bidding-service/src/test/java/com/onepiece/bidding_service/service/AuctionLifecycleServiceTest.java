@@ -0,0 +1,76 @@
+package com.onepiece.bidding_service.service;
+
+import com.onepiece.bidding_service.engine.OrderBookEngine;
+import com.onepiece.bidding_service.event.AuctionUpdatedEvent;
+import com.onepiece.bidding_service.mapper.AuctionMapper;
+import com.onepiece.bidding_service.model.Auction;
+import com.onepiece.bidding_service.repo.AuctionRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A moved auction still gets its update event and its next timer when dropping its order book
+ * fails after the move committed.
+ */
+class AuctionLifecycleServiceTest {
+
+    private AuctionRepo auctionRepo;
+    private OrderBookEngine orderBookEngine;
+    private ApplicationEventPublisher eventPublisher;
+    private AuctionLifecycleService lifecycle;
+
+    @BeforeEach
+    void setUp() {
+        auctionRepo = mock(AuctionRepo.class);
+        orderBookEngine = mock(OrderBookEngine.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        lifecycle = new AuctionLifecycleService(auctionRepo, new AuctionMapper(), orderBookEngine,
+                mock(SellerAuctionStatsService.class), mock(AuctionCompletionService.class), eventPublisher,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(lifecycle, "tickMs", 100L);
+        ReflectionTestUtils.setField(lifecycle, "batchSize", 200);
+        ReflectionTestUtils.setField(lifecycle, "retryDelayMs", 5_000L);
+        lifecycle.start();
+        ReflectionTestUtils.setField(lifecycle, "enabled", true);
+    }
+
+    @Test
+    void failedEvictStillPublishesAndArmsTheCloseTimer() {
+        Auction auction = new Auction();
+        auction.setAuctionId(1);
+        auction.setCurrStatus(Auction.currStatus.SCHEDULED);
+        auction.setCurrPrice(1_000);
+        auction.setCreatedBy(3);
+        auction.setStartsAt(LocalDateTime.now().minusSeconds(1));
+        auction.setEndsAt(LocalDateTime.now().plusHours(1));
+        when(auctionRepo.findAllById(anyList())).thenReturn(List.of(auction));
+        when(auctionRepo.saveAll(anyList())).thenAnswer(call -> call.getArgument(0));
+        doThrow(new RejectedExecutionException("lane full")).when(orderBookEngine).evict(anyInt());
+
+        lifecycle.track(auction);
+
+        assertEquals(1, lifecycle.tick());
+        verify(eventPublisher).publishEvent(any(AuctionUpdatedEvent.class));
+        Map<?, ?> timers = (Map<?, ?>) ReflectionTestUtils.getField(lifecycle, "timers");
+        assertTrue(timers.containsKey(1));
+    }
+}
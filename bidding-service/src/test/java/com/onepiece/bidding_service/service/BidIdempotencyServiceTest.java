@@ -0,0 +1,125 @@
+package com.onepiece.bidding_service.service;
+
+import com.onepiece.bidding_service.dto.BiddingResponseDTO;
+import com.onepiece.bidding_service.dto.PlaceBidRequestDTO;
+import com.onepiece.bidding_service.engine.BidSink;
+import com.onepiece.bidding_service.mapper.BiddingMapper;
+import com.onepiece.bidding_service.model.Bidding;
+import com.onepiece.bidding_service.model.IdempotentBid;
+import com.onepiece.bidding_service.repo.BiddingRepo;
+import com.onepiece.bidding_service.repo.IdempotentBidRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A key whose bid was placed is never handed to a second request, even when recording the
+ * response failed or the claim went stale.
+ */
+class BidIdempotencyServiceTest {
+
+    private static final String KEY = "retry-1";
+
+    private IdempotentBidRepo idempotentBidRepo;
+    private BiddingRepo biddingRepo;
+    private BidSink bidSink;
+    private BidIdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        idempotentBidRepo = mock(IdempotentBidRepo.class);
+        biddingRepo = mock(BiddingRepo.class);
+        bidSink = mock(BidSink.class);
+        service = new BidIdempotencyService(idempotentBidRepo, biddingRepo, bidSink, new BiddingMapper());
+        ReflectionTestUtils.setField(service, "claimTimeoutMs", 30_000L);
+        when(idempotentBidRepo.claim(anyString(), anyInt(), anyInt(), anyInt(), any())).thenReturn(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void staleClaimWithPlacedBidIsCompletedNotReclaimed() {
+        IdempotentBid claim = openClaim(LocalDateTime.now().minusMinutes(5));
+        when(idempotentBidRepo.findById(KEY)).thenReturn(Optional.of(claim));
+        Bidding placed = bidding(claim.getCreatedAt().plusSeconds(1));
+        when(biddingRepo.findFirstByAuctionIdAndNewBidAmountAndBuyerIdAndBidTimeGreaterThanEqual(
+                1, 1_500, 7, claim.getCreatedAt())).thenReturn(Optional.of(placed));
+
+        Optional<BiddingResponseDTO> original = service.claim(KEY, request());
+
+        assertTrue(original.isPresent());
+        assertEquals(42, original.get().getBidId());
+        verify(idempotentBidRepo, never()).reclaimStale(anyString(), any(), any());
+        var order = inOrder(bidSink, biddingRepo, idempotentBidRepo);
+        order.verify(bidSink).flush();
+        order.verify(biddingRepo).findFirstByAuctionIdAndNewBidAmountAndBuyerIdAndBidTimeGreaterThanEqual(
+                anyInt(), anyInt(), anyInt(), any());
+        order.verify(idempotentBidRepo).complete(KEY, 42, placed.getBidTime());
+    }
+
+    @Test
+    void staleClaimWithoutBidIsTakenOver() {
+        when(idempotentBidRepo.findById(KEY)).thenReturn(Optional.of(openClaim(LocalDateTime.now().minusMinutes(5))));
+        when(idempotentBidRepo.reclaimStale(eq(KEY), any(), any())).thenReturn(1);
+
+        assertTrue(service.claim(KEY, request()).isEmpty());
+    }
+
+    @Test
+    void failedCompletionIsRetriedAndAnsweredMeanwhile() {
+        BiddingResponseDTO placed = new BiddingMapper().toResponseDTO(bidding(LocalDateTime.now()));
+        when(idempotentBidRepo.complete(KEY, 42, placed.getBidTime()))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"))
+                .thenReturn(1);
+
+        service.complete(KEY, placed);
+        when(idempotentBidRepo.findById(KEY)).thenReturn(Optional.of(openClaim(LocalDateTime.now())));
+        assertEquals(Optional.of(placed), service.claim(KEY, request()));
+
+        verify(idempotentBidRepo, timeout(2_000).times(2)).complete(KEY, 42, placed.getBidTime());
+        verify(idempotentBidRepo, never()).reclaimStale(anyString(), any(), any());
+    }
+
+    private static PlaceBidRequestDTO request() {
+        return new PlaceBidRequestDTO(1, 7, 1_500, 100);
+    }
+
+    private static IdempotentBid openClaim(LocalDateTime createdAt) {
+        return new IdempotentBid(KEY, 1, 7, 1_500, null, null, createdAt);
+    }
+
+    private static Bidding bidding(LocalDateTime bidTime) {
+        Bidding bidding = new Bidding();
+        bidding.setBidId(42);
+        bidding.setAuctionId(1);
+        bidding.setBuyerId(7);
+        bidding.setNewBidAmount(1_500);
+        bidding.setBidTime(bidTime);
+        bidding.setCreatedAt(bidTime);
+        bidding.setUpdatedAt(bidTime);
+        bidding.setCreatedBy(7);
+        bidding.setUpdatedBy(7);
+        return bidding;
+    }
+}
@@ -0,0 +1,126 @@
+package com.onepiece.bidding_service.service;
+
+import com.onepiece.bidding_service.model.PaymentOutbox;
+import com.onepiece.bidding_service.repo.PaymentOutboxRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The relay marks a delivered batch SENT in one update, backs off on transient failures and
+ * parks rows payment-service rejects.
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentOutboxRelayTest {
+
+    private static final String URL = "http://payment-service/api/v1/payment-service";
+
+    private PaymentOutboxRepo outboxRepo;
+    private RestTemplate restTemplate;
+    private PaymentOutboxRelay relay;
+
+    @Captor
+    private ArgumentCaptor<HttpEntity<?>> request;
+
+    @Captor
+    private ArgumentCaptor<Collection<Long>> sent;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepo = mock(PaymentOutboxRepo.class);
+        restTemplate = mock(RestTemplate.class);
+        relay = new PaymentOutboxRelay(outboxRepo, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                restTemplate);
+        ReflectionTestUtils.setField(relay, "paymentServiceUrl", URL);
+        ReflectionTestUtils.setField(relay, "batchSize", 50);
+        ReflectionTestUtils.setField(relay, "leaseMs", 60_000L);
+        ReflectionTestUtils.setField(relay, "maxAttempts", 12);
+        ReflectionTestUtils.setField(relay, "backoffInitialMs", 1_000L);
+        ReflectionTestUtils.setField(relay, "backoffMaxMs", 300_000L);
+    }
+
+    @Test
+    void deliveredBatchIsMarkedSentInOneUpdate() {
+        when(outboxRepo.lockDue(any(), anyInt())).thenReturn(rows(3));
+
+        assertEquals(3, relay.relayPending());
+
+        verify(restTemplate, times(3)).postForEntity(eq(URL), request.capture(), eq(Void.class));
+        assertEquals("auction-1-payment",
+                request.getAllValues().get(0).getHeaders().getFirst(PaymentOutboxRelay.IDEMPOTENCY_KEY_HEADER));
+        assertEquals("7", request.getAllValues().get(0).getHeaders().getFirst("X-Auth-User-Id"));
+
+        verify(outboxRepo, times(1)).markSent(sent.capture(), eq(PaymentOutbox.Status.SENT), any());
+        assertEquals(List.of(1L, 2L, 3L), List.copyOf(sent.getValue()));
+    }
+
+    @Test
+    void unreachablePaymentServiceStopsThePassAndBacksOff() {
+        when(outboxRepo.lockDue(any(), anyInt())).thenReturn(rows(3));
+        when(restTemplate.postForEntity(eq(URL), any(), eq(Void.class)))
+                .thenThrow(new ResourceAccessException("Read timed out"));
+
+        assertEquals(0, relay.relayPending());
+
+        verify(restTemplate, times(1)).postForEntity(eq(URL), any(), eq(Void.class));
+        verify(outboxRepo).markFailed(eq(1L), eq(PaymentOutbox.Status.PENDING), any(), eq("Read timed out"));
+        verify(outboxRepo, never()).markSent(anyCollection(), any(), any());
+    }
+
+    @Test
+    void rejectedPaymentIsParkedAsFailed() {
+        when(outboxRepo.lockDue(any(), anyInt())).thenReturn(rows(1));
+        when(restTemplate.postForEntity(eq(URL), any(), eq(Void.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null));
+
+        relay.relayPending();
+
+        verify(outboxRepo).markFailed(eq(1L), eq(PaymentOutbox.Status.FAILED), any(), anyString());
+        verify(outboxRepo, never()).markFailed(anyLong(), eq(PaymentOutbox.Status.PENDING), any(), anyString());
+    }
+
+    private static List<PaymentOutbox> rows(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(i -> {
+            PaymentOutbox row = new PaymentOutbox();
+            row.setId(i);
+            row.setIdempotencyKey(AuctionCompletionService.paymentKey(i));
+            row.setAuctionId(i);
+            row.setProductId(100 + i);
+            row.setBuyerId(7);
+            row.setSellerId(3);
+            row.setFinalAmount(5_000);
+            row.setAuthUserId("7");
+            row.setAuthUserName("@buyer");
+            row.setAuthUserRoles("ROLE_BUYER");
+            return row;
+        }).toList();
+    }
+}
@@ -0,0 +1,48 @@
+package com.onepiece.common.client;
+
+import com.onepiece.common.security.AuthHeaders;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+
+/**
+ * Copies the caller's X-Auth-* headers onto outgoing inter-service calls, so the downstream
+ * service sees the same identity the gateway verified. Headers the caller already set on the
+ * outgoing request win; outside a servlet request (schedulers, relays) nothing is added.
+ */
+public class AuthHeaderForwardingInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final String[] FORWARDED = {AuthHeaders.USER_ID, AuthHeaders.USER_NAME, AuthHeaders.USER_ROLES};
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        HttpServletRequest current = currentRequest();
+        if (current != null) {
+            HttpHeaders headers = request.getHeaders();
+            for (String name : FORWARDED) {
+                String value = current.getHeader(name);
+                if (value != null && !value.isEmpty() && !headers.containsKey(name)) {
+                    headers.set(name, value);
+                }
+            }
+        }
+        return execution.execute(request, body);
+    }
+
+    /**
+     * The servlet request bound to this thread, or null outside request handling.
+     */
+    public static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servlet ? servlet.getRequest() : null;
+    }
+}
@@ -0,0 +1,48 @@
+package com.onepiece.common.client;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+
+/**
+ * Configures every RestTemplate built from the application's RestTemplateBuilder for calls to
+ * other services: one shared JDK HttpClient (HTTP/1.1, keep-alive connection pool) with connect
+ * and read timeouts, plus X-Auth-* forwarding. Boot's own builder customizers still apply, so
+ * these calls are recorded under http.client.requests.
+ */
+@AutoConfiguration
+@ConditionalOnClass(RestTemplate.class)
+@EnableConfigurationProperties(InterServiceClientProperties.class)
+public class InterServiceClientAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AuthHeaderForwardingInterceptor authHeaderForwardingInterceptor() {
+        return new AuthHeaderForwardingInterceptor();
+    }
+
+    @Bean
+    public RestTemplateCustomizer interServiceRestTemplateCustomizer(InterServiceClientProperties properties,
+                                                                     AuthHeaderForwardingInterceptor forwarding) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getReadTimeout());
+
+        return restTemplate -> {
+            restTemplate.setRequestFactory(requestFactory);
+            if (properties.isForwardAuthHeaders()) {
+                restTemplate.getInterceptors().add(forwarding);
+            }
+        };
+    }
+}
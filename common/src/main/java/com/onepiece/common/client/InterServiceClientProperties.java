@@ -0,0 +1,28 @@
+package com.onepiece.common.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "onepiece.client")
+public class InterServiceClientProperties {
+
+    /**
+     * Time allowed to open a TCP connection to another service.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Time allowed for a response once the request is sent.
+     */
+    private Duration readTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Copy the current request's X-Auth-* headers onto outgoing calls.
+     */
+    private boolean forwardAuthHeaders = true;
+}
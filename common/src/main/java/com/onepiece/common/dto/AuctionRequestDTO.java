@@ -1,44 +1,47 @@
-package com.onepiece.bidding_service.dto;
+package com.onepiece.common.dto;
 
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
+/**
+ * Body of bidding-service POST /auctions/create-auction and PUT /auctions/{id}: sent by
+ * product-service when a product is approved, and by sellers updating an auction.
+ */
 @Data
+@Builder
 @NoArgsConstructor
+@AllArgsConstructor
 public class AuctionRequestDTO {
 
     @NotNull(message = "Product ID is required")
     @Positive(message = "Product ID must be positive")
-    private int productId;
+    private Integer productId;
 
     @NotNull(message = "Starting price is required")
     @Positive(message = "Starting price must be positive")
-    private int startingPrice;
+    private Integer startingPrice;
 
     @NotNull(message = "Price jump is required")
     @Positive(message = "Price jump must be positive")
-    private int priceJump;
+    private Integer priceJump;
 
     @NotNull(message = "Seller ID is required")
     @Positive(message = "Seller ID must be positive")
-    private int sellerId;
+    private Integer sellerId;
 
     private String currStatus;
 
-    private int currPrice;
-    private int bidCount = 0;
-
-    public AuctionRequestDTO(int productId, int startingPrice, int priceJump,
-                             int sellerId, String currStatus) {
-        this.productId = productId;
-        this.startingPrice = startingPrice;
-        this.priceJump = priceJump;
-        this.sellerId = sellerId;
-        this.currStatus = currStatus;
-        this.currPrice = startingPrice;
-        this.bidCount = 0;
-    }
-}
\ No newline at end of file
+    // Opening and closing time; bidding-service's lifecycle scheduler moves the auction at these
+    private LocalDateTime startsAt;
+
+    private LocalDateTime endsAt;
+
+    @Builder.Default
+    private Integer bidCount = 0;
+}
@@ -1,14 +1,19 @@
-package com.onepiece.paymentservice.dto;
+package com.onepiece.common.dto;
 
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+
+/**
+ * Body of POST /api/v1/payment-service: sent by bidding-service for the winning bid of a
+ * completed auction.
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class CreatePaymentFromBiddingDTO {
+public class CreatePaymentRequestDTO {
 
     @NotNull(message = "Buyer ID is required")
     @Positive(message = "Buyer ID must be positive")
@@ -29,4 +34,4 @@ public class CreatePaymentFromBiddingDTO {
     @NotNull(message = "Final amount is required")
     @Positive(message = "Final amount must be positive")
     private Integer finalAmount;
-}
\ No newline at end of file
+}
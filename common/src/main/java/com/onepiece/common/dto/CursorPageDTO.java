@@ -0,0 +1,28 @@
+package com.onepiece.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * One keyset page of a list endpoint. Pass nextCursor back as ?after= to get the following page;
+ * it is null once the last page has been returned. Every service returns this one type, so a
+ * service reading another's pages (bidding-service resyncing product-service's browse feed)
+ * deserialises the same class.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> items;
+    private Integer nextCursor;
+    private int size;
+
+    public static <T> CursorPageDTO<T> of(List<T> items, int size, ToIntFunction<T> idOf) {
+        Integer next = items.size() < size ? null : idOf.applyAsInt(items.get(items.size() - 1));
+        return new CursorPageDTO<>(items, next, size);
+    }
+}
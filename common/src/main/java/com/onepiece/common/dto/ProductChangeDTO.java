@@ -0,0 +1,34 @@
+package com.onepiece.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The product columns of bidding-service's auction browse read model. product-service pushes a
+ * list of these to POST /auctions/browse/products after each product write, and serves them as
+ * keyset pages at GET /products/browse-feed for a full resync.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductChangeDTO {
+
+    private Integer productId;
+
+    private String productModel;
+
+    private Integer modelYear;
+
+    private String category;
+
+    private Integer startPrice;
+
+    // Thumbnail rendition of the first image, served by product-service; null without images
+    private String thumbnailUrl;
+
+    // The product no longer exists; every other field is null
+    private boolean deleted;
+}
@@ -0,0 +1,29 @@
+package com.onepiece.common.id;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Seeds the pooled id sequences ({@link PooledIds}) of every service that uses JPA.
+ * Turn off with {@code onepiece.id.seed-sequences=false}.
+ */
+@AutoConfiguration(after = HibernateJpaAutoConfiguration.class)
+@ConditionalOnClass({EntityManagerFactory.class, SessionFactoryImplementor.class})
+@ConditionalOnBean(EntityManagerFactory.class)
+@ConditionalOnProperty(name = "onepiece.id.seed-sequences", havingValue = "true", matchIfMissing = true)
+public class PooledIdAutoConfiguration {
+
+    @Bean(initMethod = "seed")
+    public PooledIdSequenceSeeder pooledIdSequenceSeeder(EntityManagerFactory entityManagerFactory,
+                                                         DataSource dataSource) {
+        return new PooledIdSequenceSeeder(entityManagerFactory, dataSource);
+    }
+}
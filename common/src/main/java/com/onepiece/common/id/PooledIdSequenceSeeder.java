@@ -0,0 +1,63 @@
+package com.onepiece.common.id;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.PooledLoOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.TableStructure;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Moves every table-backed id sequence past the ids already in its entity's table.
+ *
+ * A table that was filled through AUTO_INCREMENT before its entity switched to a pooled sequence,
+ * or rows inserted with explicit ids, would otherwise collide with the next block handed out.
+ * Runs once at startup, after the schema update; services that write during startup (journal
+ * replay) depend on the {@code pooledIdSequenceSeeder} bean.
+ */
+@Slf4j
+public class PooledIdSequenceSeeder {
+
+    private static final String VALUE_COLUMN = "next_val";
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public PooledIdSequenceSeeder(EntityManagerFactory entityManagerFactory, DataSource dataSource) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public void seed() {
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(this::seed);
+    }
+
+    private void seed(EntityPersister persister) {
+        if (!(persister.getGenerator() instanceof SequenceStyleGenerator generator)
+                || !(generator.getDatabaseStructure() instanceof TableStructure sequence)
+                || !(persister.getIdentifierMapping() instanceof BasicEntityIdentifierMapping id)) {
+            return;
+        }
+        String sequenceTable = sequence.getPhysicalName().render();
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + id.getSelectionExpression() + "), 0) FROM "
+                + id.getContainingTableExpression(), Long.class);
+
+        // pooled-lo hands out [next_val, next_val + size); pooled hands out (next_val - size, next_val]
+        long floor = generator.getOptimizer() instanceof PooledLoOptimizer
+                ? maxId + 1
+                : maxId + generator.getOptimizer().getIncrementSize();
+        jdbcTemplate.update("INSERT INTO " + sequenceTable + " (" + VALUE_COLUMN + ") SELECT ? FROM DUAL " +
+                "WHERE NOT EXISTS (SELECT 1 FROM " + sequenceTable + ")", floor);
+        int moved = jdbcTemplate.update("UPDATE " + sequenceTable + " SET " + VALUE_COLUMN + " = ? WHERE "
+                + VALUE_COLUMN + " < ?", floor, floor);
+        if (moved > 0) {
+            log.info("Moved id sequence {} to {} past existing {} rows", sequenceTable, floor,
+                    id.getContainingTableExpression());
+        }
+    }
+}
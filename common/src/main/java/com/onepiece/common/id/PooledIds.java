@@ -0,0 +1,22 @@
+package com.onepiece.common.id;
+
+/**
+ * Shared id allocation for entities written in bulk.
+ *
+ * Such entities use a pooled sequence instead of IDENTITY:
+ * <pre>
+ * &#64;GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bidding_seq")
+ * &#64;SequenceGenerator(name = "bidding_seq", sequenceName = "bidding_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
+ * </pre>
+ * IDENTITY makes Hibernate run every INSERT on its own to read the key back, which turns JDBC
+ * batching off. With a pooled sequence one round trip reserves ALLOCATION_SIZE ids, and inserts
+ * are batched per {@code hibernate.jdbc.batch_size}. MySQL has no sequences, so Hibernate keeps
+ * each one in a one-row table; {@link PooledIdSequenceSeeder} moves it past existing rows.
+ */
+public final class PooledIds {
+
+    public static final int ALLOCATION_SIZE = 500;
+
+    private PooledIds() {
+    }
+}
@@ -0,0 +1,23 @@
+package com.onepiece.common.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "onepiece.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Idempotency-Key responses kept in memory; the oldest are dropped beyond this.
+     */
+    private int maxEntries = 100_000;
+
+    /**
+     * How long a response stays in memory. Older repeats fall back to the database.
+     */
+    private Duration ttl = Duration.ofMinutes(30);
+}
@@ -0,0 +1,116 @@
+package com.onepiece.common.idempotency;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the response of each Idempotency-Key so a retried request gets the original
+ * response back instead of doing the work twice.
+ *
+ * The first request with a key runs the work; repeats, including ones that arrive while it is
+ * still running, wait for and share its result. A failed attempt is forgotten so the client can
+ * retry it. Entries expire after the TTL and the oldest go first once maxEntries is reached, so
+ * this is a fast path only: each caller backs it with a unique key in the database for repeats
+ * that outlive the entry or land on another instance.
+ *
+ * Keys are shared by everything that uses one store, so callers prefix them with an operation.
+ */
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final int MAX_KEY_LENGTH = 100;
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    // Insertion order is expiry order, since every entry lives for the same TTL
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    public IdempotencyStore(int maxEntries, long ttlNanos) {
+        this(maxEntries, ttlNanos, System::nanoTime);
+    }
+
+    IdempotencyStore(int maxEntries, long ttlNanos, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlNanos;
+        this.clock = clock;
+    }
+
+    /**
+     * Throws IllegalArgumentException if the header value cannot be used as a key.
+     */
+    public static void checkKey(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " non-blank characters");
+        }
+    }
+
+    /**
+     * Run the work once per key and return its result to every request with that key.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> work) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing;
+        synchronized (this) {
+            long now = clock.getAsLong();
+            evictExpired(now);
+            Entry entry = entries.get(key);
+            existing = entry == null ? null : entry.response();
+            if (existing == null) {
+                entries.put(key, new Entry(mine, now + ttlNanos));
+                if (entries.size() > maxEntries) {
+                    Iterator<Entry> eldest = entries.values().iterator();
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+        }
+
+        if (existing != null) {
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            T result = work.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                Entry entry = entries.get(key);
+                if (entry != null && entry.response() == mine) {
+                    entries.remove(key);
+                }
+            }
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext() && it.next().getValue().expiresAt() - now <= 0) {
+            it.remove();
+        }
+    }
+
+    private record Entry(CompletableFuture<Object> response, long expiresAt) {
+    }
+}
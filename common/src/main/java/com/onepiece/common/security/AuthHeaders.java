@@ -0,0 +1,20 @@
+package com.onepiece.common.security;
+
+/**
+ * Headers the API gateway sets after verifying the caller's JWT; services trust them as the
+ * authenticated identity.
+ */
+public final class AuthHeaders {
+
+    public static final String USER_ID = "X-Auth-User-Id";
+    public static final String USER_NAME = "X-Auth-User-Name";
+    public static final String USER_ROLES = "X-Auth-User-Roles";
+
+    /**
+     * Send {@code X-Auth-Debug: true} to get the filter's diagnostic lines for that one request.
+     */
+    public static final String DEBUG = "X-Auth-Debug";
+
+    private AuthHeaders() {
+    }
+}
@@ -0,0 +1,40 @@
+package com.onepiece.common.security;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * Provides {@link HeaderAuthenticationFilter} to servlet services. Each service adds it to its own
+ * SecurityFilterChain; it is kept out of the plain servlet filter chain so it runs once, in the
+ * security chain.
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(SecurityFilterChain.class)
+@EnableConfigurationProperties(HeaderAuthenticationProperties.class)
+public class HeaderAuthenticationAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public HeaderAuthenticationFilter headerAuthenticationFilter(HeaderAuthenticationProperties properties) {
+        return new HeaderAuthenticationFilter(
+                new RoleAuthorityCache(properties.getRoleCacheSize()),
+                properties.getSkippedPaths(),
+                properties.isRejectUnauthenticated(),
+                properties.isDebugHeaderEnabled());
+    }
+
+    @Bean
+    public FilterRegistrationBean<HeaderAuthenticationFilter> headerAuthenticationFilterRegistration(
+            HeaderAuthenticationFilter filter) {
+        FilterRegistrationBean<HeaderAuthenticationFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
@@ -0,0 +1,113 @@
+package com.onepiece.common.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Turns the X-Auth-* headers set by the API gateway into the request's SecurityContext.
+ * Requests without them continue unauthenticated (the service's SecurityConfig decides), or get
+ * a 401 when onepiece.auth.reject-unauthenticated is set.
+ *
+ * Nothing is logged on the normal path. When onepiece.auth.debug-header-enabled is set (it is off
+ * by default), a request carrying {@code X-Auth-Debug: true} gets its headers and the resulting
+ * authentication logged at INFO, with credential headers masked.
+ */
+@Slf4j
+public class HeaderAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final Set<String> MASKED_HEADERS = Set.of("authorization", "cookie", "x-service-secret");
+
+    private final RoleAuthorityCache roleAuthorityCache;
+    private final List<String> skippedPaths;
+    private final boolean rejectUnauthenticated;
+    private final boolean debugHeaderEnabled;
+
+    public HeaderAuthenticationFilter(RoleAuthorityCache roleAuthorityCache, List<String> skippedPaths,
+                                      boolean rejectUnauthenticated, boolean debugHeaderEnabled) {
+        this.roleAuthorityCache = roleAuthorityCache;
+        this.skippedPaths = List.copyOf(skippedPaths);
+        this.rejectUnauthenticated = rejectUnauthenticated;
+        this.debugHeaderEnabled = debugHeaderEnabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (int i = 0; i < skippedPaths.size(); i++) {
+            if (path.startsWith(skippedPaths.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        boolean debug = debugHeaderEnabled && "true".equalsIgnoreCase(request.getHeader(AuthHeaders.DEBUG));
+        if (debug) {
+            logHeaders(request);
+        }
+
+        String userId = request.getHeader(AuthHeaders.USER_ID);
+        String userRoles = request.getHeader(AuthHeaders.USER_ROLES);
+
+        if (userId != null && !userId.isEmpty() && userRoles != null && !userRoles.isEmpty()) {
+            String userName = request.getHeader(AuthHeaders.USER_NAME);
+            String principal = (userName != null && !userName.isEmpty()) ? userName : userId;
+            List<GrantedAuthority> authorities = roleAuthorityCache.authorities(userRoles);
+
+            UsernamePasswordAuthenticationToken authToken =
+                    UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities);
+            authToken.setDetails(new WebAuthenticationDetails(request));
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(authToken);
+            SecurityContextHolder.setContext(context);
+
+            if (debug) {
+                log.info("[auth-debug] {} {} authenticated as {} (ID: {}) with {}",
+                        request.getMethod(), request.getRequestURI(), principal, userId, authorities);
+            }
+        } else {
+            if (debug) {
+                log.info("[auth-debug] {} {} has no gateway auth headers (userId present: {}, roles present: {})",
+                        request.getMethod(), request.getRequestURI(),
+                        userId != null && !userId.isEmpty(), userRoles != null && !userRoles.isEmpty());
+            }
+            if (rejectUnauthenticated) {
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                response.setContentType("application/json");
+                response.getWriter().write("{\"error\": \"Unauthorized - Missing JWT Headers\"}");
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void logHeaders(HttpServletRequest request) {
+        StringBuilder headers = new StringBuilder();
+        Enumeration<String> names = request.getHeaderNames();
+        while (names.hasMoreElements()) {
+            String name = names.nextElement();
+            String value = MASKED_HEADERS.contains(name.toLowerCase()) ? "****" : request.getHeader(name);
+            headers.append("\n  ").append(name).append(" = ").append(value);
+        }
+        log.info("[auth-debug] {} {} headers:{}", request.getMethod(), request.getRequestURI(), headers);
+    }
+}
@@ -0,0 +1,35 @@
+package com.onepiece.common.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "onepiece.auth")
+public class HeaderAuthenticationProperties {
+
+    /**
+     * Path prefixes the filter ignores.
+     */
+    private List<String> skippedPaths = new ArrayList<>(List.of("/actuator", "/v3/api-docs", "/swagger-ui"));
+
+    /**
+     * Answer 401 for requests without gateway headers instead of passing them on unauthenticated.
+     */
+    private boolean rejectUnauthenticated = false;
+
+    /**
+     * Honour the X-Auth-Debug request header. Off by default: any caller can send it, so turn it on
+     * only while troubleshooting.
+     */
+    private boolean debugHeaderEnabled = false;
+
+    /**
+     * Distinct X-Auth-User-Roles values kept parsed.
+     */
+    private int roleCacheSize = 256;
+}
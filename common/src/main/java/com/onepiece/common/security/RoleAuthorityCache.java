@@ -0,0 +1,56 @@
+package com.onepiece.common.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parses an X-Auth-User-Roles value ("ROLE_BUYER,ROLE_SELLER") into an immutable authority list,
+ * once per distinct string. There are only a handful of role combinations, so after warm-up a
+ * request costs one map lookup and no allocation. Roles without the ROLE_ prefix get it, so
+ * hasRole() checks work either way.
+ */
+public class RoleAuthorityCache {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, List<GrantedAuthority>> byHeader = new ConcurrentHashMap<>();
+
+    public RoleAuthorityCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public List<GrantedAuthority> authorities(String rolesHeader) {
+        List<GrantedAuthority> cached = byHeader.get(rolesHeader);
+        if (cached != null) {
+            return cached;
+        }
+        List<GrantedAuthority> parsed = parse(rolesHeader);
+        // Bounded: odd or hostile values beyond the limit are parsed per request instead of cached
+        if (byHeader.size() < maxEntries) {
+            byHeader.putIfAbsent(rolesHeader, parsed);
+        }
+        return parsed;
+    }
+
+    static List<GrantedAuthority> parse(String rolesHeader) {
+        List<GrantedAuthority> authorities = new ArrayList<>(2);
+        int start = 0;
+        int length = rolesHeader.length();
+        while (start <= length) {
+            int comma = rolesHeader.indexOf(',', start);
+            int end = comma < 0 ? length : comma;
+            String role = rolesHeader.substring(start, end).trim();
+            if (!role.isEmpty()) {
+                authorities.add(new SimpleGrantedAuthority(role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role));
+            }
+            start = end + 1;
+        }
+        return Collections.unmodifiableList(authorities);
+    }
+}
@@ -0,0 +1,24 @@
+package com.onepiece.common.benchmark;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an opt-in benchmark class. It is skipped in normal builds and runs only with
+ * -Dbenchmark=true:
+ *
+ *   mvn test -Dtest=SomeBenchmark -Dbenchmark=true
+ *
+ * Results are reported through {@link BenchmarkResult}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public @interface Benchmark {
+}
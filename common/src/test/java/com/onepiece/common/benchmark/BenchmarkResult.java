@@ -0,0 +1,50 @@
+package com.onepiece.common.benchmark;
+
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * One result line, {@code NAME key=value ...}, logged at INFO through the benchmark's own logger
+ * so it lands wherever the test run's logging goes.
+ */
+public final class BenchmarkResult {
+
+    private final String name;
+    private final StringBuilder fields = new StringBuilder();
+
+    private BenchmarkResult(String name) {
+        this.name = name;
+    }
+
+    public static BenchmarkResult of(String name) {
+        return new BenchmarkResult(name);
+    }
+
+    public BenchmarkResult with(String key, Object value) {
+        fields.append(' ').append(key).append('=').append(value);
+        return this;
+    }
+
+    public BenchmarkResult throughput(long operations, long elapsedNanos) {
+        return with("throughput", String.format(Locale.ROOT, "%.0f/s", operations / (elapsedNanos / 1e9)));
+    }
+
+    public BenchmarkResult millis(String key, double nanos) {
+        return with(key, String.format(Locale.ROOT, "%.3fms", nanos / 1e6));
+    }
+
+    /**
+     * p50 and p99 of the given per-operation samples; the array is left unchanged.
+     */
+    public BenchmarkResult latencies(long[] sampleNanos) {
+        long[] sorted = sampleNanos.clone();
+        Arrays.sort(sorted);
+        return millis("p50", sorted[sorted.length / 2]).millis("p99", sorted[(int) (sorted.length * 0.99)]);
+    }
+
+    public void log(Class<?> benchmark) {
+        LoggerFactory.getLogger(benchmark).info("{}{}", name, fields);
+    }
+}
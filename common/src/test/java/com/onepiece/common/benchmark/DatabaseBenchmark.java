@@ -0,0 +1,28 @@
+package com.onepiece.common.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.annotation.AliasFor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A {@link Benchmark} that starts the service's full application context against the MySQL in
+ * its application.properties. Benchmarks mark the rows they write and delete them afterwards.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Benchmark
+@SpringBootTest
+public @interface DatabaseBenchmark {
+
+    /**
+     * Property overrides for this benchmark's context, as {@link SpringBootTest#properties}.
+     */
+    @AliasFor(annotation = SpringBootTest.class, attribute = "properties")
+    String[] properties() default {};
+}
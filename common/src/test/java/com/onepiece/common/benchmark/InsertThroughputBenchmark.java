@@ -0,0 +1,106 @@
+package com.onepiece.common.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Insert throughput of one entity with an IDENTITY key vs its pooled id sequence (see common
+ * PooledIds). Both runs persist the same rows one at a time in a single transaction through JPA;
+ * only the id strategy differs. Under IDENTITY Hibernate sends each INSERT on its own to read the
+ * key back, under the pooled sequence it batches them per hibernate.jdbc.batch_size.
+ *
+ * The IDENTITY side is a test-only entity mapped to {@link #identityTable()}: a copy of the real
+ * table (CREATE TABLE ... LIKE) with an AUTO_INCREMENT key, created before the run and dropped
+ * after it. Subclasses are annotated {@link DatabaseBenchmark}.
+ */
+public abstract class InsertThroughputBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 10_000);
+    private static final int WARM_UP_ROWS = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Prefix of the result lines, e.g. BIDDING_INSERT.
+     */
+    protected abstract String name();
+
+    protected abstract String table();
+
+    protected abstract String idColumn();
+
+    protected abstract String identityTable();
+
+    /**
+     * Integer column every benchmark row sets to the run's marker, so its rows can be found.
+     */
+    protected abstract String markerColumn();
+
+    protected abstract Object pooledRow(int i, int marker);
+
+    protected abstract Object identityRow(int i, int marker);
+
+    @BeforeEach
+    void createIdentityTable() {
+        dropIdentityTable();
+        jdbcTemplate.execute("CREATE TABLE " + identityTable() + " LIKE " + table());
+        jdbcTemplate.execute("ALTER TABLE " + identityTable() + " MODIFY " + idColumn() + " INT NOT NULL AUTO_INCREMENT");
+    }
+
+    @AfterEach
+    void dropIdentityTable() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + identityTable());
+    }
+
+    @Test
+    void compareIdentityAndPooledSequence() {
+        int marker = -(int) (System.nanoTime() & 0x7fffffff);
+        insert(identityTable(), WARM_UP_ROWS, marker, i -> identityRow(i, marker));
+        insert(table(), WARM_UP_ROWS, marker, i -> pooledRow(i, marker));
+
+        report("IDENTITY", insert(identityTable(), ROWS, marker, i -> identityRow(i, marker)));
+        report("POOLED_SEQUENCE", insert(table(), ROWS, marker, i -> pooledRow(i, marker)));
+    }
+
+    // Returns the elapsed nanos; the rows are counted and deleted again
+    private long insert(String table, int count, int marker, IntFunction<Object> newRow) {
+        List<Object> rows = IntStream.range(0, count).mapToObj(newRow).toList();
+
+        long began = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> rows.forEach(entityManager::persist));
+        long elapsed = System.nanoTime() - began;
+
+        String where = " FROM " + table + " WHERE " + markerColumn() + " = ?";
+        Integer inserted = jdbcTemplate.queryForObject("SELECT COUNT(*)" + where, Integer.class, marker);
+        jdbcTemplate.update("DELETE" + where, marker);
+        assertEquals(count, inserted);
+        return elapsed;
+    }
+
+    private void report(String ids, long elapsedNanos) {
+        BenchmarkResult.of(name())
+                .with("ids", ids)
+                .with("rows", ROWS)
+                .throughput(ROWS, elapsedNanos)
+                .log(getClass());
+    }
+}
@@ -0,0 +1,82 @@
+package com.onepiece.common.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IdempotencyStoreTest {
+
+    private static final long TTL = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    void repeatGetsOriginalResponseWithoutRunningAgain() {
+        IdempotencyStore store = new IdempotencyStore(8, TTL);
+        AtomicInteger runs = new AtomicInteger();
+
+        assertEquals(1, (int) store.execute("bid:a", runs::incrementAndGet));
+        assertEquals(1, (int) store.execute("bid:a", runs::incrementAndGet));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void failedAttemptIsNotRemembered() {
+        IdempotencyStore store = new IdempotencyStore(8, TTL);
+
+        assertThrows(IllegalArgumentException.class, () -> store.execute("bid:a", () -> {
+            throw new IllegalArgumentException("outbid");
+        }));
+        assertEquals("placed", store.execute("bid:a", () -> "placed"));
+    }
+
+    @Test
+    void expiredAndOldestEntriesAreDropped() {
+        AtomicLong now = new AtomicLong();
+        IdempotencyStore store = new IdempotencyStore(2, TTL, now::get);
+        store.execute("a", () -> 1);
+        store.execute("b", () -> 2);
+        store.execute("c", () -> 3);
+        assertEquals(2, store.size());
+        assertEquals(10, (int) store.execute("a", () -> 10));
+
+        now.addAndGet(TTL);
+        assertEquals(20, (int) store.execute("b", () -> 20));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void concurrentRepeatsShareOneRun() throws Exception {
+        IdempotencyStore store = new IdempotencyStore(8, TTL);
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+
+        Future<?>[] results = new Future<?>[8];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = clients.submit(() -> store.execute("payment:a", () -> {
+                runs.incrementAndGet();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "created";
+            }));
+        }
+        Thread.sleep(100);
+        release.countDown();
+        for (Future<?> result : results) {
+            assertEquals("created", result.get(5, TimeUnit.SECONDS));
+        }
+        clients.shutdown();
+        assertEquals(1, runs.get());
+    }
+}
@@ -0,0 +1,25 @@
+package com.onepiece.common.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RoleAuthorityCacheTest {
+
+    @Test
+    void parsesTrimsAndPrefixesRoles() {
+        List<GrantedAuthority> authorities = RoleAuthorityCache.parse(" ROLE_BUYER, SELLER,,");
+        assertEquals(List.of("ROLE_BUYER", "ROLE_SELLER"),
+                authorities.stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    void reusesParsedListForRepeatedHeader() {
+        RoleAuthorityCache cache = new RoleAuthorityCache(8);
+        assertSame(cache.authorities("ROLE_BUYER,ROLE_ADMIN"), cache.authorities("ROLE_BUYER,ROLE_ADMIN"));
+    }
+}
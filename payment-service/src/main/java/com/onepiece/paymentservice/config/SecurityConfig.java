@@ -1,6 +1,6 @@
 package com.onepiece.paymentservice.config;
 
-import com.onepiece.paymentservice.filter.JwtAuthenticationFilter;
+import com.onepiece.common.security.HeaderAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,7 +18,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final HeaderAuthenticationFilter headerAuthenticationFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -34,8 +34,8 @@ public class SecurityConfig {
                         .permitAll()
 
                         // ========== ISC ENDPOINTS (Service-to-Service) ==========
-                        // ✅ ISC authenticated via X-Service-Secret in JwtAuthenticationFilter
-                        // No role-based checks - filter validates service secret
+                        // ✅ ISC calls forward the caller's X-Auth-* headers; HeaderAuthenticationFilter
+                        // answers 401 without them (onepiece.auth.reject-unauthenticated=true)
                         .requestMatchers(HttpMethod.POST, "/api/v1/payment-service")
                         .permitAll()  // ✅ CHANGED: Was .hasRole("BUYER"), now .permitAll()
 
@@ -75,7 +75,7 @@ public class SecurityConfig {
                         .anyRequest()
                         .authenticated()
                 )
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(headerAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
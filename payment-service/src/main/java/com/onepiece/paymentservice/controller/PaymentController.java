@@ -1,6 +1,8 @@
 package com.onepiece.paymentservice.controller;
 
-import com.onepiece.paymentservice.dto.CreatePaymentFromBiddingDTO;
+import com.onepiece.common.dto.CreatePaymentRequestDTO;
+import com.onepiece.common.dto.CursorPageDTO;
+import com.onepiece.common.idempotency.IdempotencyStore;
 import com.onepiece.paymentservice.dto.PaymentRequestDTO;
 import com.onepiece.paymentservice.dto.PaymentResponseDTO;
 import com.onepiece.paymentservice.service.PaymentService;
@@ -8,8 +10,10 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -22,8 +26,9 @@ public class PaymentController {
     private final PaymentService paymentService;
     @PostMapping
     public ResponseEntity<PaymentResponseDTO> createPaymentFromBidding(
-            @Valid @RequestBody CreatePaymentFromBiddingDTO request) {
-        PaymentResponseDTO responseDTO = paymentService.createPaymentFromBidding(request);
+            @Valid @RequestBody CreatePaymentRequestDTO request,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        PaymentResponseDTO responseDTO = paymentService.createPaymentFromBidding(request, idempotencyKey);
 
         log.info("✅ Payment Created Successfully");
         return new ResponseEntity<>(responseDTO, HttpStatus.CREATED);
@@ -35,6 +40,20 @@ public class PaymentController {
         return new ResponseEntity<>(paymentDTOs, HttpStatus.OK);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDTO<PaymentResponseDTO>> getPaymentsPage(
+            @RequestParam(defaultValue = "0") Integer after,
+            @RequestParam(required = false) Integer size) {
+        CursorPageDTO<PaymentResponseDTO> page = paymentService.getPaymentsPage(after, size);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPayments() {
+        StreamingResponseBody body = paymentService::exportPayments;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
 //    @PostMapping
 //    public ResponseEntity<PaymentResponseDTO> createPayment(@Valid @RequestBody PaymentRequestDTO paymentRequestDTO) {
 //        log.info("Received payment request for auction ID: {}", paymentRequestDTO.getAuctionId());
@@ -1,14 +1,18 @@
 package com.onepiece.paymentservice.model;
 
+import com.onepiece.common.id.PooledIds;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_payments_auction_id", columnList = "auction_id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_payments_idempotency_key", columnNames = "idempotency_key"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -53,7 +57,8 @@ public class Payments {
         }
     }
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_seq")
+    @SequenceGenerator(name = "payments_seq", sequenceName = "payments_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "payment_id")
     private Integer id;
 
@@ -81,6 +86,11 @@ public class Payments {
     @Column(name = "transaction_status")
     private String transactionStatus;
 
+    // Idempotency-Key of the create request, if it sent one
+    @Setter
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
     @Column(name = "payment_time")
     private LocalDateTime paymentTime;
 
@@ -1,11 +1,17 @@
 package com.onepiece.paymentservice.repository;
 
 import com.onepiece.paymentservice.model.Payments;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PaymentRepository extends JpaRepository<Payments, Integer> {
 
@@ -22,4 +28,18 @@ public interface PaymentRepository extends JpaRepository<Payments, Integer> {
 
     @Query("SELECT p FROM Payments p WHERE p.buyerId = :buyerId AND p.createdBy = p.buyerId AND p.transactionStatus = :status")
     List<Payments> findBuyerPaymentsByStatus(@Param("buyerId") Integer buyerId, @Param("status") String status);
+
+    //the payment created for an auction; bidding-service may deliver the same completion more than once
+    Optional<Payments> findFirstByAuctionIdOrderByIdAsc(Integer auctionId);
+
+    //the payment created by a request with this Idempotency-Key
+    Optional<Payments> findByIdempotencyKey(String idempotencyKey);
+
+    //keyset page: the next pageable.pageSize payments after the cursor
+    List<Payments> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
+
+    //export cursor, fetched from MySQL in chunks (useCursorFetch=true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT p FROM Payments p ORDER BY p.id")
+    Stream<Payments> streamAllOrderedById();
 }
@@ -1,10 +1,13 @@
 package com.onepiece.paymentservice.service;
 
-import com.onepiece.paymentservice.dto.CreatePaymentFromBiddingDTO;
+import com.onepiece.common.dto.CreatePaymentRequestDTO;
+import com.onepiece.common.dto.CursorPageDTO;
 import com.onepiece.paymentservice.dto.PaymentRequestDTO;
 import com.onepiece.paymentservice.dto.PaymentResponseDTO;
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface PaymentService {
@@ -20,7 +23,13 @@ public interface PaymentService {
 
     List<PaymentResponseDTO> getBuyerPaymentsByStatus(Integer id, String status);
 
-    PaymentResponseDTO createPaymentFromBidding(@Valid CreatePaymentFromBiddingDTO request);
+    PaymentResponseDTO createPaymentFromBidding(@Valid CreatePaymentRequestDTO request);
+
+    PaymentResponseDTO createPaymentFromBidding(@Valid CreatePaymentRequestDTO request, String idempotencyKey);
 
     List<PaymentResponseDTO> getAllPayments();
+
+    CursorPageDTO<PaymentResponseDTO> getPaymentsPage(Integer after, Integer size);
+
+    void exportPayments(OutputStream out) throws IOException;
 }
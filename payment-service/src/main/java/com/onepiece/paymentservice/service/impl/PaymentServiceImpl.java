@@ -1,18 +1,33 @@
 package com.onepiece.paymentservice.service.impl;
 
-import com.onepiece.paymentservice.dto.CreatePaymentFromBiddingDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.onepiece.common.dto.CreatePaymentRequestDTO;
+import com.onepiece.common.dto.CursorPageDTO;
+import com.onepiece.common.idempotency.IdempotencyStore;
 import com.onepiece.paymentservice.dto.PaymentRequestDTO;
 import com.onepiece.paymentservice.dto.PaymentResponseDTO;
 import com.onepiece.paymentservice.model.Payments;
 import com.onepiece.paymentservice.repository.PaymentRepository;
 import com.onepiece.paymentservice.service.PaymentService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -20,6 +35,18 @@ import java.util.stream.Collectors;
 public class PaymentServiceImpl implements PaymentService {
 
     public final PaymentRepository paymentRepository;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyStore idempotencyStore;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${pagination.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${pagination.max-page-size:500}")
+    private int maxPageSize;
+
 //    @Override
 //    public PaymentResponseDTO createPayment(PaymentRequestDTO paymentRequestDTO) {
 //        Payments paymentEntity = new Payments(
@@ -65,6 +92,49 @@ public class PaymentServiceImpl implements PaymentService {
         return paymentResponseDTOList;
     }
 
+    @Override
+    public CursorPageDTO<PaymentResponseDTO> getPaymentsPage(Integer after, Integer size) {
+        int limit = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        List<PaymentResponseDTO> page = paymentRepository
+                .findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, limit))
+                .stream()
+                .map(this::toResponseDTO)
+                .toList();
+        return CursorPageDTO.of(page, limit, PaymentResponseDTO::getId);
+    }
+
+    //writes every payment as NDJSON straight off a DB cursor, detaching rows as they are written
+    @Override
+    @Transactional(readOnly = true)
+    public void exportPayments(OutputStream out) throws IOException {
+        try (Stream<Payments> payments = paymentRepository.streamAllOrderedById();
+             SequenceWriter writer = objectMapper.writer()
+                     .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+            Iterator<Payments> it = payments.iterator();
+            int rows = 0;
+            while (it.hasNext()) {
+                Payments payment = it.next();
+                writer.write(toResponseDTO(payment));
+                entityManager.detach(payment);
+                rows++;
+            }
+            writer.flush();
+            if (rows > 0) {
+                out.write('\n');
+            }
+            log.info("Exported {} payments", rows);
+        }
+    }
+
+    private PaymentResponseDTO toResponseDTO(Payments e) {
+        return new PaymentResponseDTO(e.getId(), e.getBuyerId(),
+                e.getSellerId(), e.getTransactionId(), e.getProductId(),
+                e.getAuctionId(), e.getFinalAmount(), e.getPaymentMethod(),
+                e.getTransactionStatus(), e.getPaymentTime(), e.getCreatedAt(), e.getUpdatedAt(), e.getCreatedBy(), e.getUpdatedBy());
+    }
+
     @Override
     public PaymentResponseDTO updatePaymentStatus(Integer id, PaymentRequestDTO updatePaymentRequestDTO) {
         Optional<Payments> optionalPayments = paymentRepository.findById(id);
@@ -102,10 +172,37 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     @Override
-    public PaymentResponseDTO createPaymentFromBidding(CreatePaymentFromBiddingDTO request) {
+    public PaymentResponseDTO createPaymentFromBidding(CreatePaymentRequestDTO request) {
+        return createPaymentFromBidding(request, null);
+    }
+
+    // A repeated Idempotency-Key gets the payment it created back: from memory while the entry
+    // lasts, then from the unique idempotency_key column, even if another instance created it
+    @Override
+    public PaymentResponseDTO createPaymentFromBidding(CreatePaymentRequestDTO request, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createPayment(request, null);
+        }
+        IdempotencyStore.checkKey(idempotencyKey);
+        PaymentResponseDTO payment = idempotencyStore.execute("payment:" + idempotencyKey,
+                () -> createPayment(request, idempotencyKey));
+        if (!payment.getAuctionId().equals(request.getAuctionId())) {
+            throw new IllegalArgumentException(IdempotencyStore.HEADER + " was already used for another auction");
+        }
+        return payment;
+    }
+
+    private PaymentResponseDTO createPayment(CreatePaymentRequestDTO request, String idempotencyKey) {
 
         log.info("[ISC PAYMENT] Creating payment for auction: {}", request.getAuctionId());
 
+        Optional<Payments> existing = findExisting(request, idempotencyKey);
+        if (existing.isPresent()) {
+            log.info("[ISC PAYMENT] Payment for auction {} already exists: ID={}",
+                    request.getAuctionId(), existing.get().getId());
+            return toResponseDTO(existing.get());
+        }
+
         // Auto-generate transactionId
         String transactionId = "TXN-" + System.currentTimeMillis() + "-" + request.getAuctionId();
 
@@ -122,7 +219,15 @@ public class PaymentServiceImpl implements PaymentService {
                 request.getBuyerId()   // Updated by buyer
         );
 
-        Payments payObj = paymentRepository.save(paymentEntity);
+        paymentEntity.setIdempotencyKey(idempotencyKey);
+
+        Payments payObj;
+        try {
+            payObj = paymentRepository.saveAndFlush(paymentEntity);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request with the same key won the insert
+            return findExisting(request, idempotencyKey).map(this::toResponseDTO).orElseThrow(() -> e);
+        }
 
         log.info("✅ ISC Payment saved: ID={}, TransactionID={}, Status={}",
                 payObj.getId(), payObj.getTransactionId(), payObj.getTransactionStatus());
@@ -146,6 +251,17 @@ public class PaymentServiceImpl implements PaymentService {
         return responseDTO;
     }
 
+    // One payment per auction: a redelivered completion gets the existing payment back
+    private Optional<Payments> findExisting(CreatePaymentRequestDTO request, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            Optional<Payments> byKey = paymentRepository.findByIdempotencyKey(idempotencyKey);
+            if (byKey.isPresent()) {
+                return byKey;
+            }
+        }
+        return paymentRepository.findFirstByAuctionIdOrderByIdAsc(request.getAuctionId());
+    }
+
     @Override
     public List<PaymentResponseDTO> getBuyerPayments(Integer SellerId) {
         List<Payments> paymentsList = paymentRepository.findBuyerPayments(SellerId);
@@ -0,0 +1,114 @@
+package com.onepiece.paymentservice;
+
+import com.onepiece.common.benchmark.DatabaseBenchmark;
+import com.onepiece.common.benchmark.InsertThroughputBenchmark;
+import com.onepiece.paymentservice.model.Payments;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payments inserts: IDENTITY vs the pooled payments_seq.
+ */
+@DatabaseBenchmark
+class PaymentInsertThroughputBenchmark extends InsertThroughputBenchmark {
+
+    @Override
+    protected String name() {
+        return "PAYMENTS_INSERT";
+    }
+
+    @Override
+    protected String table() {
+        return "payments";
+    }
+
+    @Override
+    protected String idColumn() {
+        return "payment_id";
+    }
+
+    @Override
+    protected String identityTable() {
+        return "payments_identity_benchmark";
+    }
+
+    @Override
+    protected String markerColumn() {
+        return "auction_id";
+    }
+
+    @Override
+    protected Object pooledRow(int i, int marker) {
+        return new Payments(10_000 + i % 500, 1, "BENCH-" + marker + "-" + i, marker, marker,
+                1_000 + i, "CARD", "PENDING", 1, 1);
+    }
+
+    @Override
+    protected Object identityRow(int i, int marker) {
+        return new IdentityPayment(10_000 + i % 500, 1, "BENCH-" + marker + "-" + i, marker, marker, 1_000 + i);
+    }
+
+    // The columns Payments writes, keyed the way it was before pooled ids
+    @Entity
+    @Table(name = "payments_identity_benchmark")
+    @Getter
+    @NoArgsConstructor
+    static class IdentityPayment {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        @Column(name = "payment_id")
+        private Integer id;
+
+        @Column(name = "buyer_id", nullable = false)
+        private Integer buyerId;
+
+        @Column(name = "seller_id", nullable = false)
+        private Integer sellerId;
+
+        @Column(name = "transaction_id", nullable = false)
+        private String transactionId;
+
+        @Column(name = "product_id", nullable = false)
+        private Integer productId;
+
+        @Column(name = "auction_id", nullable = false)
+        private Integer auctionId;
+
+        @Column(name = "final_amount", nullable = false)
+        private Integer finalAmount;
+
+        @Column(name = "payment_method")
+        private String paymentMethod = "CARD";
+
+        @Column(name = "transaction_status")
+        private String transactionStatus = "PENDING";
+
+        @Version
+        @Column(name = "version")
+        private Long version = 1L;
+
+        @Column(name = "created_by", updatable = false)
+        private Integer createdBy = 1;
+
+        @Column(name = "updated_by")
+        private Integer updatedBy = 1;
+
+        IdentityPayment(Integer buyerId, Integer sellerId, String transactionId, Integer productId,
+                        Integer auctionId, Integer finalAmount) {
+            this.buyerId = buyerId;
+            this.sellerId = sellerId;
+            this.transactionId = transactionId;
+            this.productId = productId;
+            this.auctionId = auctionId;
+            this.finalAmount = finalAmount;
+        }
+    }
+}
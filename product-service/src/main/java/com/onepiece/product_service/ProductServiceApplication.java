@@ -2,6 +2,8 @@ package com.onepiece.product_service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.web.client.RestTemplate;
 
@@ -11,8 +13,13 @@ public class ProductServiceApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(ProductServiceApplication.class, args);
 	}
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
+
+	// Pooled JDK HttpClient, timeouts and X-Auth-* forwarding are applied by the builder
+	// (common InterServiceClientAutoConfiguration); URLs name the Eureka service id,
+	// e.g. http://payment-service/..., and are resolved by the load balancer
+	@Bean
+	@LoadBalanced
+	public RestTemplate restTemplate(RestTemplateBuilder builder) {
+		return builder.build();
+	}
 }
@@ -0,0 +1,107 @@
+package com.onepiece.product_service.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Sends product cache invalidations to every other product-service instance registered in Eureka.
+ * Delivery is best effort and off the request thread; an instance that misses one catches up
+ * when its entries expire. Replicas authenticate each other with product.cache.broadcast.token,
+ * which has no default: the instance refuses to start with broadcasting on and no token set.
+ */
+@Component
+@ConditionalOnProperty(name = "product.cache.broadcast.enabled", havingValue = "true")
+@Slf4j
+public class CacheInvalidationBroadcaster {
+
+    public static final String TOKEN_HEADER = "X-Cache-Token";
+    public static final String INVALIDATE_PATH = "/api/v1/product-service/internal/cache/invalidate";
+
+    @Autowired
+    private DiscoveryClient discoveryClient;
+
+    @Autowired
+    private Registration registration;
+
+    @Value("${spring.application.name}")
+    private String serviceId;
+
+    @Value("${product.cache.broadcast.token:}")
+    private String token;
+
+    // Instance URIs from the DiscoveryClient are already resolved, so this client must not go
+    // through the load balancer like the shared @LoadBalanced RestTemplate does
+    private final RestTemplate restTemplate;
+
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "product-cache-broadcast");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public CacheInvalidationBroadcaster(RestTemplateBuilder restTemplateBuilder) {
+        this.restTemplate = restTemplateBuilder.build();
+    }
+
+    @PostConstruct
+    void requireToken() {
+        // The invalidate endpoint is open to the network; the token is all that guards it
+        if (token == null || token.isBlank()) {
+            throw new IllegalStateException(
+                    "product.cache.broadcast.enabled=true needs product.cache.broadcast.token (PRODUCT_CACHE_TOKEN)");
+        }
+    }
+
+    public void broadcast(ProductCacheInvalidation invalidation) {
+        sender.execute(() -> {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.set(TOKEN_HEADER, token);
+            HttpEntity<ProductCacheInvalidation> request = new HttpEntity<>(invalidation, headers);
+            for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+                if (isSelf(instance)) {
+                    continue;
+                }
+                try {
+                    restTemplate.postForEntity(instance.getUri() + INVALIDATE_PATH, request, Void.class);
+                } catch (Exception e) {
+                    log.warn("Cache invalidation to {} failed: {}", instance.getUri(), e.getMessage());
+                }
+            }
+        });
+    }
+
+    public boolean acceptsToken(String presented) {
+        return presented != null
+                && MessageDigest.isEqual(presented.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @PreDestroy
+    void stop() {
+        sender.shutdown();
+    }
+
+    private boolean isSelf(ServiceInstance instance) {
+        return Objects.equals(instance.getInstanceId(), registration.getInstanceId())
+                || (Objects.equals(instance.getHost(), registration.getHost()) && instance.getPort() == registration.getPort());
+    }
+}
@@ -0,0 +1,42 @@
+package com.onepiece.product_service.cache;
+
+import com.onepiece.product_service.model.Product;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Cache entries touched by one product write: its DTO plus the category and seller id lists it
+ * was or is now a member of. Also the payload sent to other replicas.
+ */
+public record ProductCacheInvalidation(Set<Integer> productIds,
+                                       Set<Product.Category> categories,
+                                       Set<Integer> sellerIds) {
+
+    public ProductCacheInvalidation {
+        productIds = productIds != null ? Set.copyOf(productIds) : Set.of();
+        categories = categories != null ? Set.copyOf(categories) : Set.of();
+        sellerIds = sellerIds != null ? Set.copyOf(sellerIds) : Set.of();
+    }
+
+    public static ProductCacheInvalidation ofProduct(int productId) {
+        return new ProductCacheInvalidation(Set.of(productId), Set.of(), Set.of());
+    }
+
+    /**
+     * Product DTO plus every list the product belongs to in any of the given states (e.g. before and after an edit).
+     */
+    public static ProductCacheInvalidation ofMembership(Integer productId, Product... states) {
+        Set<Product.Category> categories = new LinkedHashSet<>();
+        Set<Integer> sellerIds = new LinkedHashSet<>();
+        for (Product state : states) {
+            if (state.getCategory() != null) {
+                categories.add(state.getCategory());
+            }
+            if (state.getSellerId() != null) {
+                sellerIds.add(state.getSellerId());
+            }
+        }
+        return new ProductCacheInvalidation(productId != null ? Set.of(productId) : Set.of(), categories, sellerIds);
+    }
+}
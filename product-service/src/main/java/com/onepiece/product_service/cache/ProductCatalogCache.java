@@ -0,0 +1,140 @@
+package com.onepiece.product_service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.onepiece.product_service.dto.ProductResponseDTO;
+import com.onepiece.product_service.model.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for catalog reads: product DTOs (reference image mode only) by id, and the
+ * product id lists behind the category and seller listings. Entries are size- and TTL-bounded and
+ * invalidated after the writing transaction commits; with broadcasting enabled the same
+ * invalidation is sent to the other product-service replicas. Hit/miss counts are exported as
+ * cache.* metrics under the names productDto and productIdLists.
+ *
+ * Each committed invalidation is also published in-process, so listeners such as
+ * {@link com.onepiece.product_service.service.BrowseFeedPublisher} learn which products changed.
+ */
+@Component
+@Slf4j
+public class ProductCatalogCache {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    private CacheInvalidationBroadcaster broadcaster;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${product.cache.max-products:10000}")
+    private long maxProducts;
+
+    @Value("${product.cache.product-ttl:10m}")
+    private Duration productTtl;
+
+    @Value("${product.cache.max-lists:1000}")
+    private long maxLists;
+
+    @Value("${product.cache.list-ttl:2m}")
+    private Duration listTtl;
+
+    private Cache<Integer, ProductResponseDTO> products;
+    private Cache<String, List<Integer>> idLists;
+
+    @PostConstruct
+    void init() {
+        products = Caffeine.newBuilder()
+                .maximumSize(maxProducts)
+                .expireAfterWrite(productTtl)
+                .recordStats()
+                .build();
+        idLists = Caffeine.newBuilder()
+                .maximumSize(maxLists)
+                .expireAfterWrite(listTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "productDto");
+        CaffeineCacheMetrics.monitor(meterRegistry, idLists, "productIdLists");
+    }
+
+    public ProductResponseDTO getProduct(int productId, Function<Integer, ProductResponseDTO> loader) {
+        return products.get(productId, loader);
+    }
+
+    /**
+     * Cached DTOs for the given ids; the misses are loaded together by one call to the loader.
+     */
+    public Map<Integer, ProductResponseDTO> getProducts(List<Integer> productIds,
+                                                        Function<Set<? extends Integer>, Map<Integer, ProductResponseDTO>> loader) {
+        return products.getAll(productIds, loader);
+    }
+
+    public List<Integer> getCategoryIds(Product.Category category, Supplier<List<Integer>> loader) {
+        return idLists.get(categoryKey(category), key -> List.copyOf(loader.get()));
+    }
+
+    public List<Integer> getSellerIds(int sellerId, Supplier<List<Integer>> loader) {
+        return idLists.get(sellerKey(sellerId), key -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * Drop the touched entries once the current transaction commits (immediately outside one),
+     * then tell the other replicas.
+     */
+    public void invalidate(ProductCacheInvalidation invalidation) {
+        Runnable action = () -> {
+            evictLocal(invalidation);
+            if (broadcaster != null) {
+                broadcaster.broadcast(invalidation);
+            }
+            eventPublisher.publishEvent(invalidation);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Apply an invalidation on this instance only, e.g. one received from another replica.
+     */
+    public void evictLocal(ProductCacheInvalidation invalidation) {
+        products.invalidateAll(invalidation.productIds());
+        invalidation.categories().forEach(category -> idLists.invalidate(categoryKey(category)));
+        invalidation.sellerIds().forEach(sellerId -> idLists.invalidate(sellerKey(sellerId)));
+        log.debug("Product cache invalidated: {}", invalidation);
+    }
+
+    private static String categoryKey(Product.Category category) {
+        return "category:" + category.name();
+    }
+
+    private static String sellerKey(int sellerId) {
+        return "seller:" + sellerId;
+    }
+}
@@ -0,0 +1,36 @@
+package com.onepiece.product_service.controller;
+
+import com.onepiece.product_service.cache.CacheInvalidationBroadcaster;
+import com.onepiece.product_service.cache.ProductCacheInvalidation;
+import com.onepiece.product_service.cache.ProductCatalogCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+// Receives cache invalidations from other product-service replicas
+@RestController
+@ConditionalOnProperty(name = "product.cache.broadcast.enabled", havingValue = "true")
+public class CacheInvalidationController {
+
+    @Autowired
+    private ProductCatalogCache productCatalogCache;
+
+    @Autowired
+    private CacheInvalidationBroadcaster broadcaster;
+
+    @PostMapping(CacheInvalidationBroadcaster.INVALIDATE_PATH)
+    public ResponseEntity<Void> invalidate(
+            @RequestHeader(value = CacheInvalidationBroadcaster.TOKEN_HEADER, required = false) String token,
+            @RequestBody ProductCacheInvalidation invalidation) {
+        if (!broadcaster.acceptsToken(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        productCatalogCache.evictLocal(invalidation);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,5 +1,7 @@
 package com.onepiece.product_service.controller;
 
+import com.onepiece.common.dto.CursorPageDTO;
+import com.onepiece.common.dto.ProductChangeDTO;
 import com.onepiece.product_service.dto.ProductRequestDTO;
 import com.onepiece.product_service.dto.ProductResponseDTO;
 import com.onepiece.product_service.model.Product;
@@ -7,9 +9,11 @@ import com.onepiece.product_service.service.ProductService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.util.List;
@@ -23,15 +27,45 @@ public class ProductController {
     private ProductService productService;
 
     @GetMapping
-    public ResponseEntity<?> getAllProducts() {
+    public ResponseEntity<?> getAllProducts(@RequestParam(required = false) String images) {
         try {
-            List<ProductResponseDTO> products = productService.getAllProducts();
+            List<ProductResponseDTO> products = productService.getAllProducts(images);
             return new ResponseEntity<>(products, HttpStatus.OK);
         } catch (Exception e) {
             return new ResponseEntity<>("Error fetching products: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<?> getProductsPage(@RequestParam(defaultValue = "0") int after,
+                                             @RequestParam(required = false) Integer size,
+                                             @RequestParam(required = false) String images) {
+        try {
+            CursorPageDTO<ProductResponseDTO> page = productService.getProductsPage(after, size, images);
+            return new ResponseEntity<>(page, HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>("Error fetching products: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // Product columns of bidding-service's auction browse read model, read page by page on resync
+    @GetMapping("/browse-feed")
+    public ResponseEntity<?> getBrowseFeedPage(@RequestParam(defaultValue = "0") int after,
+                                               @RequestParam(required = false) Integer size) {
+        try {
+            CursorPageDTO<ProductChangeDTO> page = productService.getBrowseFeedPage(after, size);
+            return new ResponseEntity<>(page, HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>("Error fetching products: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportProducts() {
+        StreamingResponseBody body = productService::exportProducts;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @PostMapping(value = "/add-product", consumes = "multipart/form-data")
     public ResponseEntity<?> addProduct(
             @Valid @RequestPart ProductRequestDTO productRequest,
@@ -50,9 +84,10 @@ public class ProductController {
     }
 
     @GetMapping("/{productId}")
-    public ResponseEntity<?> getProductById(@PathVariable int productId) {
+    public ResponseEntity<?> getProductById(@PathVariable int productId,
+                                            @RequestParam(required = false) String images) {
         try {
-            ProductResponseDTO product = productService.getProductById(productId);
+            ProductResponseDTO product = productService.getProductById(productId, images);
             return new ResponseEntity<>(product, HttpStatus.OK);
         } catch (RuntimeException e) {
             return new ResponseEntity<>("Product not found", HttpStatus.NOT_FOUND);
@@ -62,10 +97,11 @@ public class ProductController {
     }
 
     @GetMapping("/category/{category}")
-    public ResponseEntity<?> getProductsByCategory(@PathVariable String category) {
+    public ResponseEntity<?> getProductsByCategory(@PathVariable String category,
+                                                   @RequestParam(required = false) String images) {
         try {
             Product.Category categoryEnum = Product.Category.valueOf(category.toUpperCase());
-            List<ProductResponseDTO> products = productService.getProductsByCategory(categoryEnum);
+            List<ProductResponseDTO> products = productService.getProductsByCategory(categoryEnum, images);
             return new ResponseEntity<>(products, HttpStatus.OK);
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>("Invalid category: " + category, HttpStatus.BAD_REQUEST);
@@ -75,9 +111,10 @@ public class ProductController {
     }
 
     @GetMapping("/seller/{sellerId}")
-    public ResponseEntity<?> getProductsBySeller(@PathVariable int sellerId) {
+    public ResponseEntity<?> getProductsBySeller(@PathVariable int sellerId,
+                                                 @RequestParam(required = false) String images) {
         try {
-            List<ProductResponseDTO> products = productService.getProductsBySellerId(sellerId);
+            List<ProductResponseDTO> products = productService.getProductsBySellerId(sellerId, images);
             return new ResponseEntity<>(products, HttpStatus.OK);
         } catch (RuntimeException e) {
             return new ResponseEntity<>("Seller not found", HttpStatus.NOT_FOUND);
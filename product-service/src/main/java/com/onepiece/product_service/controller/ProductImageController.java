@@ -1,25 +1,56 @@
 package com.onepiece.product_service.controller;
 
+import com.onepiece.product_service.dto.ImageRefDTO;
+import com.onepiece.product_service.mapper.ProductMapper;
 import com.onepiece.product_service.model.ProductImage;
+import com.onepiece.product_service.model.ProductImageMetadata;
+import com.onepiece.product_service.service.ImageDerivativeService;
 import com.onepiece.product_service.service.ProductImageService;
+import com.onepiece.product_service.storage.ImageVariant;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/product-service/product-images")
 @CrossOrigin
 public class ProductImageController {
 
+    // Tomcat request attributes for zero-copy file responses
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
     @Autowired
     private ProductImageService productImageService;
 
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private ImageDerivativeService imageDerivativeService;
+
+    @Value("${product.images.cache-max-age-days:365}")
+    private long imageMaxAgeDays;
+
     @GetMapping("/product/{productId}")
     public ResponseEntity<?> getProductImages(@PathVariable int productId) {
         try {
@@ -30,6 +61,18 @@ public class ProductImageController {
         }
     }
 
+    @GetMapping("/product/{productId}/refs")
+    public ResponseEntity<?> getProductImageRefs(@PathVariable int productId) {
+        try {
+            List<ImageRefDTO> refs = productImageService.getImageMetadataByProductId(productId).stream()
+                    .map(productMapper::toImageRef)
+                    .toList();
+            return new ResponseEntity<>(refs, HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>("Error fetching images: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @GetMapping("/{imageId}")
     public ResponseEntity<?> getProductImageById(@PathVariable int imageId) {
         try {
@@ -110,19 +153,92 @@ public class ProductImageController {
         }
     }
 
-    @GetMapping(value = "/view/{imageId}", produces = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE})
-    public ResponseEntity<byte[]> getImageBytes(@PathVariable int imageId) {
+    /**
+     * Image bytes streamed from the blob store. The content hash is a strong ETag, so a matching
+     * If-None-Match gets a 304 and the response can be cached indefinitely. Range requests get a
+     * 206 slice of the file. Full responses are handed to Tomcat's sendfile when the connector
+     * supports it, so the bytes go from the page cache to the socket without passing through the JVM.
+     */
+    @GetMapping("/view/{imageId}")
+    public ResponseEntity<Resource> getImageBytes(@PathVariable int imageId,
+                                                  HttpServletRequest request,
+                                                  WebRequest webRequest) {
         try {
-            ProductImage image = productImageService.getImageById(imageId);
-            if (image != null && image.getImageData() != null) {
-                return ResponseEntity.ok()
-                        .contentType(MediaType.IMAGE_JPEG)
-                        .body(image.getImageData());
-            } else {
+            ProductImageMetadata image = productImageService.getImageMetadata(imageId);
+            if (image == null || image.contentHash() == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return serveOriginal(image, immutable(), request, webRequest);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Resized rendition (thumbnail, card or full) as JPEG from the derivative cache, rendered on a
+     * miss. If rendering fails or takes too long the original is returned uncached, so the next
+     * request picks up the rendition once it exists.
+     */
+    @GetMapping("/view/{imageId}/{variant}")
+    public ResponseEntity<Resource> getImageVariant(@PathVariable int imageId,
+                                                    @PathVariable String variant,
+                                                    HttpServletRequest request,
+                                                    WebRequest webRequest) {
+        try {
+            ImageVariant imageVariant = ImageVariant.fromUrlName(variant);
+            ProductImageMetadata image = productImageService.getImageMetadata(imageId);
+            if (image == null || image.contentHash() == null) {
                 return ResponseEntity.notFound().build();
             }
+            Optional<Path> rendition = imageDerivativeService.getVariant(image.contentHash(), imageVariant);
+            if (rendition.isEmpty()) {
+                return serveOriginal(image, CacheControl.noCache(), request, webRequest);
+            }
+            String etag = image.contentHash() + "-" + imageVariant.urlName();
+            if (webRequest.checkNotModified("\"" + etag + "\"")) {
+                return null;
+            }
+            return serveFile(ResponseEntity.ok().eTag(etag).cacheControl(immutable()).contentType(MediaType.IMAGE_JPEG),
+                    rendition.get(), new FileSystemResource(rendition.get()), request);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<Resource> serveOriginal(ProductImageMetadata image, CacheControl cacheControl,
+                                                   HttpServletRequest request, WebRequest webRequest) throws IOException {
+        Resource body = productImageService.openImage(image.contentHash());
+        if (!body.exists()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (webRequest.checkNotModified("\"" + image.contentHash() + "\"")) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(image.contentHash())
+                .cacheControl(cacheControl)
+                .contentType(MediaType.parseMediaType(image.contentType()));
+        return serveFile(response, productImageService.localFile(image.contentHash()).orElse(null), body, request);
+    }
+
+    private ResponseEntity<Resource> serveFile(ResponseEntity.BodyBuilder response, Path file, Resource body,
+                                               HttpServletRequest request) throws IOException {
+        response.header(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (file != null
+                && request.getHeader(HttpHeaders.RANGE) == null
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            long length = Files.size(file);
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+            return response.contentLength(length).build();
+        }
+        return response.body(body);
+    }
+
+    private CacheControl immutable() {
+        return CacheControl.maxAge(Duration.ofDays(imageMaxAgeDays)).cachePublic().immutable();
+    }
+}
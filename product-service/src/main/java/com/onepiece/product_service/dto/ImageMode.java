@@ -0,0 +1,22 @@
+package com.onepiece.product_service.dto;
+
+/**
+ * How product responses carry their images.
+ */
+public enum ImageMode {
+    /** Lightweight references (id, size, hash, URLs); bytes are fetched from the image endpoint */
+    REFS,
+    /** Legacy: every image base64-encoded into imageUrls */
+    INLINE;
+
+    public static ImageMode parse(String value, ImageMode fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return ImageMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid image mode: " + value + ". Allowed values: refs, inline");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.onepiece.product_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageRefDTO {
+    private Integer imageId;
+    private Long sizeBytes;
+    private String contentHash;
+    private String contentType;
+    private String url;
+    private String thumbnailUrl;
+    private String cardUrl;
+}
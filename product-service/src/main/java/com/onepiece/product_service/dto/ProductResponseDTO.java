@@ -1,5 +1,6 @@
 package com.onepiece.product_service.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -27,5 +28,8 @@ public class ProductResponseDTO {
     private LocalTime auctionDuration;
     private String category;
     private String productStatus;
-    private List<String> imageUrls;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> imageUrls;      // INLINE mode: base64 image bytes
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<ImageRefDTO> images;    // REFS mode: metadata and URLs only
 }
\ No newline at end of file
@@ -1,17 +1,32 @@
 package com.onepiece.product_service.mapper;
 
+import com.onepiece.common.dto.AuctionRequestDTO;
+import com.onepiece.common.dto.ProductChangeDTO;
+import com.onepiece.product_service.dto.ImageMode;
+import com.onepiece.product_service.dto.ImageRefDTO;
 import com.onepiece.product_service.dto.ProductRequestDTO;
 import com.onepiece.product_service.dto.ProductResponseDTO;
 import com.onepiece.product_service.model.Product;
-import com.onepiece.product_service.model.ProductImage;
+import com.onepiece.product_service.model.ProductImageMetadata;
+import com.onepiece.product_service.storage.BlobStore;
+import com.onepiece.product_service.storage.ImageVariant;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.List;
 
 @Component
 public class ProductMapper {
 
+    private static final String IMAGE_VIEW_PATH = "/api/v1/product-service/product-images/view/";
+
+    @Autowired
+    private BlobStore blobStore;
+
     public Product toEntity(ProductRequestDTO dto) {
         Product product = new Product();
         product.setSellerId(dto.getSellerId());
@@ -28,11 +43,24 @@ public class ProductMapper {
         return product;
     }
 
-    public ProductResponseDTO toResponseDTO(Product product, List<ProductImage> images) {
+    public ProductResponseDTO toResponseDTO(Product product, List<ProductImageMetadata> images) {
+        return toResponseDTO(product, images, ImageMode.REFS);
+    }
+
+    public ProductResponseDTO toResponseDTO(Product product, List<ProductImageMetadata> images, ImageMode mode) {
         List<String> imageUrls = null;
-        if (images != null && !images.isEmpty()) {
-            imageUrls = images.stream()
-                    .map(img -> Base64.getEncoder().encodeToString(img.getImageData()))
+        List<ImageRefDTO> imageRefs = null;
+        if (mode == ImageMode.INLINE) {
+            if (images != null && !images.isEmpty()) {
+                imageUrls = images.stream()
+                        .filter(img -> img.contentHash() != null)
+                        .map(img -> Base64.getEncoder().encodeToString(readImage(img)))
+                        .toList();
+            }
+        } else {
+            imageRefs = images == null ? List.of() : images.stream()
+                    .filter(img -> img.contentHash() != null)
+                    .map(this::toImageRef)
                     .toList();
         }
 
@@ -51,6 +79,69 @@ public class ProductMapper {
                 // ✅ Add productStatus
                 .productStatus(product.getProductStatus() != null ? product.getProductStatus().toString() : null)
                 .imageUrls(imageUrls)
+                .images(imageRefs)
+                .build();
+    }
+
+    public ImageRefDTO toImageRef(ProductImageMetadata image) {
+        String url = IMAGE_VIEW_PATH + image.imageId();
+        return ImageRefDTO.builder()
+                .imageId(image.imageId())
+                .sizeBytes(image.sizeBytes())
+                .contentHash(image.contentHash())
+                .contentType(image.contentType())
+                .url(url)
+                .thumbnailUrl(url + "/" + ImageVariant.THUMBNAIL.urlName())
+                .cardUrl(url + "/" + ImageVariant.CARD.urlName())
+                .build();
+    }
+
+    /**
+     * Product columns of bidding-service's auction browse read model; the first image is the thumbnail.
+     */
+    public ProductChangeDTO toChangeDTO(Product product, List<ProductImageMetadata> images) {
+        String thumbnailUrl = images == null ? null : images.stream()
+                .filter(img -> img.contentHash() != null)
+                .findFirst()
+                .map(img -> toImageRef(img).getThumbnailUrl())
+                .orElse(null);
+        return ProductChangeDTO.builder()
+                .productId(product.getProductId())
+                .productModel(product.getProductModel())
+                .modelYear(product.getModelYear())
+                .category(product.getCategory() != null ? product.getCategory().toString() : null)
+                .startPrice(product.getStartPrice())
+                .thumbnailUrl(thumbnailUrl)
+                .build();
+    }
+
+    public ProductChangeDTO toDeletedChange(int productId) {
+        return ProductChangeDTO.builder()
+                .productId(productId)
+                .deleted(true)
+                .build();
+    }
+
+    /**
+     * Request bidding-service needs to open the auction for an approved product.
+     */
+    public AuctionRequestDTO toAuctionRequest(Product product) {
+        // auctionDuration is stored as a time of day, e.g. 02:30 for two and a half hours
+        LocalDateTime startsAt = product.getAuctionDate() != null && product.getAuctionStartTime() != null
+                ? product.getAuctionDate().atTime(product.getAuctionStartTime())
+                : null;
+        LocalDateTime endsAt = startsAt != null && product.getAuctionDuration() != null
+                ? startsAt.plusSeconds(product.getAuctionDuration().toSecondOfDay())
+                : null;
+        return AuctionRequestDTO.builder()
+                .productId(product.getProductId())
+                .startingPrice(product.getStartPrice())
+                .priceJump(product.getPriceJump())
+                .sellerId(product.getSellerId())
+                .currStatus("SCHEDULED")
+                .startsAt(startsAt)
+                .endsAt(endsAt)
+                .bidCount(0)
                 .build();
     }
 
@@ -66,6 +157,14 @@ public class ProductMapper {
         if (dto.getCategory() != null) product.setCategory(getCategory(dto.getCategory()));
     }
 
+    private byte[] readImage(ProductImageMetadata image) {
+        try {
+            return blobStore.open(image.contentHash()).getContentAsByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read image " + image.imageId(), e);
+        }
+    }
+
     private Product.Category getCategory(String category) {
         if (category == null) throw new IllegalArgumentException("Category cannot be null");
 
@@ -1,5 +1,6 @@
 package com.onepiece.product_service.model;
 
+import com.onepiece.common.id.PooledIds;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -8,22 +9,32 @@ import java.time.Instant;
 
 @Data
 @Entity
-@Table(name = "product_images")
+@Table(name = "product_images", indexes = {
+        @Index(name = "idx_product_images_product", columnList = "product_id"),
+        @Index(name = "idx_product_images_hash", columnList = "content_hash")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProductImage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_images_seq")
+    @SequenceGenerator(name = "product_images_seq", sequenceName = "product_images_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "image_id")
     private Integer imageId;
 
     @Column(name = "product_id", nullable = false)
     private Integer productId;
 
-    @Column(name = "image_data", columnDefinition = "LONGBLOB")
-    @Lob
-    private byte[] imageData;
+    // SHA-256 of the bytes in the blob store; the bytes themselves are not kept in the database
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "size_bytes")
+    private Long sizeBytes;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
 
     @Column(name = "created_at", nullable = false, insertable = false, updatable = false)
     private Instant createdAt;
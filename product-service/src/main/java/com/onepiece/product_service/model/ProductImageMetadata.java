@@ -0,0 +1,11 @@
+package com.onepiece.product_service.model;
+
+/**
+ * Row shape for image listings: everything about a product image except its bytes.
+ */
+public record ProductImageMetadata(Integer imageId,
+                                   Integer productId,
+                                   String contentHash,
+                                   Long sizeBytes,
+                                   String contentType) {
+}
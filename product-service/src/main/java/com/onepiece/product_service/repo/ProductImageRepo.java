@@ -1,6 +1,7 @@
 package com.onepiece.product_service.repo;
 
 import com.onepiece.product_service.model.ProductImage;
+import com.onepiece.product_service.model.ProductImageMetadata;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,7 +9,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProductImageRepo extends JpaRepository<ProductImage, Integer> {
@@ -16,8 +19,28 @@ public interface ProductImageRepo extends JpaRepository<ProductImage, Integer> {
     @Query("SELECT pi FROM ProductImage pi WHERE pi.productId = :productId")
     List<ProductImage> findByProductId(@Param("productId") int productId);
     
+    // Metadata-only projections: no entity, no bytes
+    @Query("SELECT new com.onepiece.product_service.model.ProductImageMetadata(" +
+            "pi.imageId, pi.productId, pi.contentHash, pi.sizeBytes, pi.contentType) " +
+            "FROM ProductImage pi WHERE pi.productId = :productId ORDER BY pi.imageId")
+    List<ProductImageMetadata> findMetadataByProductId(@Param("productId") int productId);
+
+    // One round trip for a whole listing page; callers group the rows by productId
+    @Query("SELECT new com.onepiece.product_service.model.ProductImageMetadata(" +
+            "pi.imageId, pi.productId, pi.contentHash, pi.sizeBytes, pi.contentType) " +
+            "FROM ProductImage pi WHERE pi.productId IN :productIds ORDER BY pi.productId, pi.imageId")
+    List<ProductImageMetadata> findMetadataByProductIdIn(@Param("productIds") Collection<Integer> productIds);
+
+    @Query("SELECT new com.onepiece.product_service.model.ProductImageMetadata(" +
+            "pi.imageId, pi.productId, pi.contentHash, pi.sizeBytes, pi.contentType) " +
+            "FROM ProductImage pi WHERE pi.imageId = :imageId")
+    Optional<ProductImageMetadata> findMetadataById(@Param("imageId") int imageId);
+
     @Modifying
     @Transactional
     @Query("DELETE FROM ProductImage pi WHERE pi.productId = :productId")
     void deleteByProductId(@Param("productId") int productId);
+
+    // Blobs are shared by content; one is only removed once no row points at it
+    long countByContentHash(String contentHash);
 }
@@ -1,11 +1,16 @@
 package com.onepiece.product_service.repo;
 
 import com.onepiece.product_service.model.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProductRepo extends JpaRepository<Product, Integer> {
@@ -13,8 +18,23 @@ public interface ProductRepo extends JpaRepository<Product, Integer> {
     @Query("SELECT p FROM Product p WHERE p.category = :category")
     List<Product> getProductsByCategory(Product.Category category);
 
+    // Id-only listings; the product DTOs come from the catalog cache
+    @Query("SELECT p.productId FROM Product p WHERE p.category = :category ORDER BY p.productId")
+    List<Integer> findProductIdsByCategory(Product.Category category);
+
+    @Query("SELECT p.productId FROM Product p WHERE p.sellerId = :sellerId ORDER BY p.productId")
+    List<Integer> findProductIdsBySellerId(int sellerId);
+
     @Query("SELECT p FROM Product p WHERE p.sellerId = :sellerId")
     List<Product> getProductsBySellerId(int sellerId);
 
     boolean existsBySellerId(int sellerId);
+
+    // Keyset page: the next pageable.pageSize products after the cursor
+    List<Product> findByProductIdGreaterThanOrderByProductIdAsc(int productId, Pageable pageable);
+
+    // Export cursor, fetched from MySQL in chunks (useCursorFetch=true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT p FROM Product p ORDER BY p.productId")
+    Stream<Product> streamAllOrderedById();
 }
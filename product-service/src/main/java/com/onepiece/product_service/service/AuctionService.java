@@ -1,8 +1,10 @@
 package com.onepiece.product_service.service;
 
-import com.onepiece.product_service.dto.AuctionRequestDTO;
+import com.onepiece.common.client.AuthHeaderForwardingInterceptor;
+import com.onepiece.common.dto.AuctionRequestDTO;
+import com.onepiece.common.security.AuthHeaders;
+import com.onepiece.product_service.mapper.ProductMapper;
 import com.onepiece.product_service.model.Product;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,9 +13,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Service
 @Slf4j
@@ -23,9 +22,9 @@ public class AuctionService {
     private RestTemplate restTemplate;
 
     @Autowired
-    private ObjectMapper objectMapper;
+    private ProductMapper productMapper;
 
-    @Value("${payment.service.url}")
+    @Value("${bidding.service.url:http://bidding-service/api/v1/bidding-service}")
     private String biddingServiceUrl;
 
     public void createAuctionForApprovedProduct(Product product) {
@@ -47,7 +46,7 @@ public class AuctionService {
 
             // ========== STEP 2: Create Auction Request ==========
             log.info("\n[STEP 2️⃣] Creating Auction Request DTO...");
-            AuctionRequestDTO auctionDTO = buildAuctionRequestDTO(product);
+            AuctionRequestDTO auctionDTO = productMapper.toAuctionRequest(product);
 
             log.info("✓ Auction Request DTO Built:");
             log.info("  📦 Product ID: {}", auctionDTO.getProductId());
@@ -57,14 +56,6 @@ public class AuctionService {
             log.info("  🔔 Status: {}", auctionDTO.getCurrStatus());
             log.info("  👤 Seller ID: {}", auctionDTO.getSellerId());
 
-            // Log the JSON that will be sent
-            try {
-                String jsonPayload = objectMapper.writeValueAsString(auctionDTO);
-                log.info("  📤 JSON Payload: {}", jsonPayload);
-            } catch (Exception e) {
-                log.warn("Could not serialize DTO to JSON: {}", e.getMessage());
-            }
-
             // ========== STEP 3: Call Bidding Service ==========
             log.info("\n[STEP 3️⃣] Calling Bidding Service...");
             callBiddingService(auctionDTO);
@@ -79,21 +70,6 @@ public class AuctionService {
         }
     }
 
-    private AuctionRequestDTO buildAuctionRequestDTO(Product product) {
-        log.debug("Building AuctionRequestDTO from Product: {}", product.getProductId());
-
-        AuctionRequestDTO auctionDTO = new AuctionRequestDTO();
-        auctionDTO.setProductId(product.getProductId());
-        auctionDTO.setStartingPrice(product.getStartPrice());  // ✅ startingPrice (not currPrice)
-        auctionDTO.setPriceJump(product.getPriceJump());
-        auctionDTO.setBidCount(0);
-        auctionDTO.setCurrStatus("SCHEDULED");
-        auctionDTO.setSellerId(product.getSellerId());
-
-        log.debug("AuctionRequestDTO built successfully");
-        return auctionDTO;
-    }
-
     private void callBiddingService(AuctionRequestDTO auctionDTO) {
         try {
             log.info("\n[STEP 4️⃣] Preparing ISC Request...");
@@ -107,33 +83,13 @@ public class AuctionService {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
 
-            // Forward JWT headers from incoming request
-            HttpServletRequest httpRequest = getHttpServletRequest();
-            if (httpRequest != null) {
-                String userId = httpRequest.getHeader("X-Auth-User-Id");
-                String userName = httpRequest.getHeader("X-Auth-User-Name");
-                String userRoles = httpRequest.getHeader("X-Auth-User-Roles");
-
-                if (userId != null && !userId.isEmpty()) {
-                    headers.add("X-Auth-User-Id", userId);
-                    log.info("📡 Header: X-Auth-User-Id = {}", userId);
-                }
-                if (userName != null && !userName.isEmpty()) {
-                    headers.add("X-Auth-User-Name", userName);
-                    log.info("📡 Header: X-Auth-User-Name = {}", userName);
-                }
-                if (userRoles != null && !userRoles.isEmpty()) {
-                    headers.add("X-Auth-User-Roles", userRoles);
-                    log.info("📡 Header: X-Auth-User-Roles = {}", userRoles);
-                }
-            } else {
+            // The caller's X-Auth-* headers are forwarded by the shared RestTemplate; outside a
+            // request (no caller to forward) the call is made as the admin account
+            if (AuthHeaderForwardingInterceptor.currentRequest() == null) {
                 log.warn("⚠️ Could not get HTTP request context - using fallback");
-                headers.add("X-Auth-User-Id", "1");
-                headers.add("X-Auth-User-Name", "Allen119");
-                headers.add("X-Auth-User-Roles", "ROLE_ADMIN");
-                log.info("📡 Header: X-Auth-User-Id = 1 (fallback)");
-                log.info("📡 Header: X-Auth-User-Name = Allen119 (fallback)");
-                log.info("📡 Header: X-Auth-User-Roles = ROLE_ADMIN (fallback)");
+                headers.add(AuthHeaders.USER_ID, "1");
+                headers.add(AuthHeaders.USER_NAME, "Allen119");
+                headers.add(AuthHeaders.USER_ROLES, "ROLE_ADMIN");
             }
 
             log.info("📋 All Headers:");
@@ -184,18 +140,4 @@ public class AuctionService {
             throw new RuntimeException("Failed to create auction in bidding service: " + e.getMessage());
         }
     }
-
-    private HttpServletRequest getHttpServletRequest() {
-        try {
-            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attributes != null) {
-                log.debug("✓ HTTP Request Context Found");
-                return attributes.getRequest();
-            }
-            log.debug("⚠️ HTTP Request Context is NULL");
-        } catch (Exception e) {
-            log.debug("Could not get HTTP request context: {}", e.getMessage());
-        }
-        return null;
-    }
 }
\ No newline at end of file
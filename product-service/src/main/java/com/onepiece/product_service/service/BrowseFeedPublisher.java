@@ -0,0 +1,109 @@
+package com.onepiece.product_service.service;
+
+import com.onepiece.common.dto.ProductChangeDTO;
+import com.onepiece.common.security.AuthHeaders;
+import com.onepiece.product_service.cache.ProductCacheInvalidation;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes changed products to bidding-service's auction browse read model. Every committed
+ * catalog invalidation names the products a write touched; their ids are collected and sent as
+ * one batch of current product columns off the request thread, so a burst of writes to one
+ * product costs one push. Delivery is best effort: bidding-service resyncs from
+ * GET /products/browse-feed periodically and catches up on anything missed.
+ */
+@Component
+@ConditionalOnProperty(name = "product.browse-feed.enabled", havingValue = "true")
+@Slf4j
+public class BrowseFeedPublisher {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Value("${bidding.service.url:http://bidding-service/api/v1/bidding-service}")
+    private String biddingServiceUrl;
+
+    // Identity product-service pushes under; there is no caller to forward
+    @Value("${product.browse-feed.service-user-id:0}")
+    private String serviceUserId;
+
+    @Value("${product.browse-feed.service-user-name:product-service}")
+    private String serviceUserName;
+
+    @Value("${product.browse-feed.service-user-roles:ROLE_SERVICE}")
+    private String serviceUserRoles;
+
+    private final Set<Integer> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "product-browse-feed");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @EventListener
+    public void onInvalidation(ProductCacheInvalidation invalidation) {
+        if (invalidation.productIds().isEmpty()) {
+            return;
+        }
+        pending.addAll(invalidation.productIds());
+        if (scheduled.compareAndSet(false, true)) {
+            sender.execute(this::flush);
+        }
+    }
+
+    private void flush() {
+        // Clear first so ids added while we send schedule another flush
+        scheduled.set(false);
+        List<Integer> productIds = new ArrayList<>(pending);
+        pending.removeAll(productIds);
+        for (int from = 0; from < productIds.size(); from += BATCH_SIZE) {
+            List<Integer> chunk = productIds.subList(from, Math.min(from + BATCH_SIZE, productIds.size()));
+            try {
+                send(productService.getBrowseFeed(chunk));
+            } catch (Exception e) {
+                log.warn("Browse feed push of {} product(s) failed, left to bidding-service resync: {}",
+                        chunk.size(), e.getMessage());
+            }
+        }
+    }
+
+    private void send(List<ProductChangeDTO> changes) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.add(AuthHeaders.USER_ID, serviceUserId);
+        headers.add(AuthHeaders.USER_NAME, serviceUserName);
+        headers.add(AuthHeaders.USER_ROLES, serviceUserRoles);
+        restTemplate.postForEntity(biddingServiceUrl + "/auctions/browse/products",
+                new HttpEntity<>(changes, headers), Void.class);
+        log.debug("Pushed {} product change(s) to the browse read model", changes.size());
+    }
+
+    @PreDestroy
+    void stop() {
+        sender.shutdown();
+    }
+}
@@ -0,0 +1,243 @@
+package com.onepiece.product_service.service;
+
+import com.onepiece.product_service.storage.BlobStore;
+import com.onepiece.product_service.storage.DerivativeCache;
+import com.onepiece.product_service.storage.ImageVariant;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates thumbnail, card and full renditions of stored images. Decoding runs on a small
+ * bounded pool so a burst of uploads cannot exhaust heap or request threads; the results go
+ * to the disk cache keyed by content hash, so identical uploads share one set of renditions.
+ */
+@Service
+@Slf4j
+public class ImageDerivativeService {
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private DerivativeCache derivativeCache;
+
+    @Value("${product.images.derivatives.workers:2}")
+    private int workers;
+
+    @Value("${product.images.derivatives.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${product.images.derivatives.request-wait-ms:3000}")
+    private long requestWaitMs;
+
+    private ThreadPoolExecutor executor;
+
+    // One render per hash at a time; later callers join the pending one
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void start() {
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "image-derivatives-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue rendition generation for a freshly stored image. When the queue is full the work is
+     * dropped; the renditions are then produced on first request instead.
+     */
+    public void generateAsync(String contentHash) {
+        if (contentHash == null || isComplete(contentHash)) {
+            return;
+        }
+        try {
+            schedule(contentHash);
+        } catch (RejectedExecutionException e) {
+            log.warn("Derivative queue full, deferring renditions of {} to first request", contentHash);
+        }
+    }
+
+    /**
+     * Cached rendition for a hash, rendering it on a miss and waiting a bounded time for it.
+     * Empty when the image cannot be decoded or rendering does not finish in time.
+     */
+    public Optional<Path> getVariant(String contentHash, ImageVariant variant) {
+        Optional<Path> cached = derivativeCache.get(contentHash, variant);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        try {
+            schedule(contentHash).get(requestWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (ExecutionException | TimeoutException | RejectedExecutionException e) {
+            log.debug("Rendition {} of {} not available: {}", variant, contentHash, e.toString());
+            return Optional.empty();
+        }
+        return derivativeCache.get(contentHash, variant);
+    }
+
+    public void evict(String contentHash) {
+        if (contentHash != null) {
+            derivativeCache.evict(contentHash);
+        }
+    }
+
+    private CompletableFuture<Void> schedule(String contentHash) {
+        CompletableFuture<Void> created = new CompletableFuture<>();
+        CompletableFuture<Void> existing = inFlight.putIfAbsent(contentHash, created);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    render(contentHash);
+                    created.complete(null);
+                } catch (Throwable e) {
+                    log.warn("Could not render derivatives of image {}: {}", contentHash, e.getMessage());
+                    created.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(contentHash, created);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(contentHash, created);
+            throw e;
+        }
+        return created;
+    }
+
+    private boolean isComplete(String contentHash) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (!derivativeCache.contains(contentHash, variant)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Decodes once (subsampled for very large sources) and writes every missing rendition
+    private void render(String contentHash) throws IOException {
+        BufferedImage source = decode(contentHash);
+        if (source == null) {
+            throw new IOException("Unsupported image format");
+        }
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (derivativeCache.contains(contentHash, variant)) {
+                continue;
+            }
+            BufferedImage scaled = scale(source, variant.getMaxEdge());
+            Path tmp = derivativeCache.newTempFile();
+            try {
+                writeJpeg(scaled, tmp);
+                derivativeCache.put(contentHash, variant, tmp);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        }
+    }
+
+    private BufferedImage decode(String contentHash) throws IOException {
+        try (InputStream in = blobStore.open(contentHash).getInputStream();
+             ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                // Keep at least twice the largest rendition so the final downscale stays smooth
+                int step = Math.max(1, longest / (ImageVariant.FULL.getMaxEdge() * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int maxEdge) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double ratio = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // JPEG has no alpha; flatten transparent PNGs onto white
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, targetWidth, targetHeight);
+            g.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static void writeJpeg(BufferedImage image, Path file) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(file.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
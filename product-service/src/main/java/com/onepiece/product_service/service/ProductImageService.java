@@ -1,56 +1,138 @@
 package com.onepiece.product_service.service;
 
 
+import com.onepiece.product_service.cache.ProductCacheInvalidation;
+import com.onepiece.product_service.cache.ProductCatalogCache;
 import com.onepiece.product_service.model.ProductImage;
+import com.onepiece.product_service.model.ProductImageMetadata;
 import com.onepiece.product_service.repo.ProductImageRepo;
+import com.onepiece.product_service.storage.BlobStore;
+import com.onepiece.product_service.storage.StoredBlob;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @Service
+@Slf4j
 public class ProductImageService {
 
+    private static final long MAX_IMAGE_SIZE = 16 * 1024 * 1024;
+    private static final int IN_CHUNK_SIZE = 1000;
+
     @Autowired
     private ProductImageRepo productImageRepo;
 
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private ImageDerivativeService imageDerivativeService;
+
+    @Autowired
+    private ProductCatalogCache productCatalogCache;
+
     public ProductImage saveProductImage(int productId, MultipartFile imageFile) throws IOException {
         ProductImage productImage = new ProductImage();
         productImage.setProductId(productId);
-        productImage.setImageData(imageFile.getBytes());
-        return productImageRepo.save(productImage);
+        storeContent(productImage, imageFile);
+        ProductImage saved = productImageRepo.save(productImage);
+        renderAfterCommit(saved.getContentHash());
+        productCatalogCache.invalidate(ProductCacheInvalidation.ofProduct(productId));
+        return saved;
     }
 
     public List<ProductImage> getImagesByProductId(int productId) {
         return productImageRepo.findByProductId(productId);
     }
 
+    @Transactional
     public void deleteImagesByProductId(int productId) {
+        List<String> hashes = productImageRepo.findByProductId(productId).stream()
+                .map(ProductImage::getContentHash)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
         productImageRepo.deleteByProductId(productId);
+        hashes.forEach(this::releaseBlob);
+        productCatalogCache.invalidate(ProductCacheInvalidation.ofProduct(productId));
     }
 
     public ProductImage getImageById(int imageId) {
         return productImageRepo.findById(imageId).orElse(null);
     }
 
+    public List<ProductImageMetadata> getImageMetadataByProductId(int productId) {
+        return productImageRepo.findMetadataByProductId(productId);
+    }
+
+    /**
+     * Image metadata for many products at once, grouped by productId in image order. Ids are sent
+     * in chunks so the IN list stays bounded; a listing page costs one query per chunk, not one per product.
+     */
+    public Map<Integer, List<ProductImageMetadata>> getImageMetadataByProductIds(Collection<Integer> productIds) {
+        Map<Integer, List<ProductImageMetadata>> byProduct = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return byProduct;
+        }
+        List<Integer> ids = productIds.stream().distinct().toList();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()));
+            for (ProductImageMetadata image : productImageRepo.findMetadataByProductIdIn(chunk)) {
+                byProduct.computeIfAbsent(image.productId(), id -> new ArrayList<>()).add(image);
+            }
+        }
+        return byProduct;
+    }
+
+    public ProductImageMetadata getImageMetadata(int imageId) {
+        return productImageRepo.findMetadataById(imageId).orElse(null);
+    }
+
+    @Transactional
     public void deleteImageById(int imageId) {
-        productImageRepo.deleteById(imageId);
+        productImageRepo.findById(imageId).ifPresent(image -> {
+            productImageRepo.delete(image);
+            productImageRepo.flush();
+            releaseBlob(image.getContentHash());
+            productCatalogCache.invalidate(ProductCacheInvalidation.ofProduct(image.getProductId()));
+        });
     }
 
+    @Transactional
     public ProductImage updateProductImage(int imageId, MultipartFile imageFile) throws IOException {
         ProductImage existingImage = productImageRepo.findById(imageId).orElse(null);
         if (existingImage != null) {
-            existingImage.setImageData(imageFile.getBytes());
-            return productImageRepo.save(existingImage);
+            String previousHash = existingImage.getContentHash();
+            storeContent(existingImage, imageFile);
+            ProductImage saved = productImageRepo.saveAndFlush(existingImage);
+            if (!Objects.equals(previousHash, saved.getContentHash())) {
+                releaseBlob(previousHash);
+                renderAfterCommit(saved.getContentHash());
+            }
+            productCatalogCache.invalidate(ProductCacheInvalidation.ofProduct(saved.getProductId()));
+            return saved;
         }
         throw new RuntimeException("Image not found with ID: " + imageId);
     }
 
     public List<ProductImage> addMultipleImages(int productId, List<MultipartFile> imageFiles) throws IOException {
-        List<ProductImage> savedImages = new java.util.ArrayList<>();
-        final long MAX_IMAGE_SIZE = 16 * 1024 * 1024;
+        List<ProductImage> savedImages = new ArrayList<>();
 
         for (MultipartFile imageFile : imageFiles) {
             if (imageFile != null && !imageFile.isEmpty()) {
@@ -58,12 +140,67 @@ public class ProductImageService {
                     throw new IllegalArgumentException("Image size exceeds 16MB limit. Current size: " +
                         (imageFile.getSize() / (1024 * 1024)) + "MB");
                 }
-                ProductImage productImage = new ProductImage();
-                productImage.setProductId(productId);
-                productImage.setImageData(imageFile.getBytes());
-                savedImages.add(productImageRepo.save(productImage));
+                savedImages.add(saveProductImage(productId, imageFile));
             }
         }
         return savedImages;
     }
+
+    /**
+     * Bytes of a stored image as a streamable resource (never loaded into the heap here).
+     */
+    public Resource openImage(String contentHash) {
+        return blobStore.open(contentHash);
+    }
+
+    /**
+     * Local file behind a stored image, when the blob store keeps one.
+     */
+    public Optional<Path> localFile(String contentHash) {
+        return blobStore.localPath(contentHash);
+    }
+
+    // Streams the upload (already spooled to disk by the container) into the blob store
+    private void storeContent(ProductImage image, MultipartFile imageFile) throws IOException {
+        StoredBlob blob;
+        try (InputStream in = imageFile.getInputStream()) {
+            blob = blobStore.put(in);
+        }
+        image.setContentHash(blob.hash());
+        image.setSizeBytes(blob.size());
+        image.setContentType(imageFile.getContentType() != null ? imageFile.getContentType() : "image/jpeg");
+    }
+
+    // Queues thumbnail/card/full renditions once the row is visible
+    private void renderAfterCommit(String hash) {
+        afterCommit(() -> imageDerivativeService.generateAsync(hash));
+    }
+
+    // Drops the blob and its renditions once nothing references it, after the row delete has committed
+    private void releaseBlob(String hash) {
+        if (hash == null || productImageRepo.countByContentHash(hash) > 0) {
+            return;
+        }
+        afterCommit(() -> {
+            imageDerivativeService.evict(hash);
+            try {
+                blobStore.delete(hash);
+            } catch (IOException e) {
+                log.warn("Could not delete image blob {}: {}", hash, e.getMessage());
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
 }
@@ -1,22 +1,43 @@
 package com.onepiece.product_service.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.onepiece.common.dto.CursorPageDTO;
+import com.onepiece.common.dto.ProductChangeDTO;
+import com.onepiece.product_service.cache.ProductCacheInvalidation;
+import com.onepiece.product_service.cache.ProductCatalogCache;
+import com.onepiece.product_service.dto.ImageMode;
 import com.onepiece.product_service.dto.ProductRequestDTO;
 import com.onepiece.product_service.dto.ProductResponseDTO;
 import com.onepiece.product_service.dto.ProductStatusUpdateDTO;
 import com.onepiece.product_service.mapper.ProductMapper;
 import com.onepiece.product_service.model.Product;
-import com.onepiece.product_service.model.ProductImage;
+import com.onepiece.product_service.model.ProductImageMetadata;
 import com.onepiece.product_service.repo.ProductImageRepo;
 import com.onepiece.product_service.repo.ProductRepo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -28,23 +49,99 @@ public class ProductService {
     @Autowired
     private ProductImageRepo productImageRepo;
 
+    @Autowired
+    private ProductImageService productImageService;
+
     @Autowired
     private ProductMapper productMapper;
 
+    @Autowired
+    private ProductCatalogCache productCatalogCache;
+
     @Autowired
     private AuctionService auctionService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${pagination.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${pagination.max-page-size:500}")
+    private int maxPageSize;
+
+    @Value("${product.images.response-mode:REFS}")
+    private ImageMode defaultImageMode;
 
     private static final long MAX_IMAGE_SIZE = 16 * 1024 * 1024;
+    private static final int EXPORT_BATCH_SIZE = 500;
 
-    public List<ProductResponseDTO> getAllProducts() {
+    public List<ProductResponseDTO> getAllProducts(String imageMode) {
+        ImageMode mode = ImageMode.parse(imageMode, defaultImageMode);
         List<Product> products = productRepo.findAll();
-        return products.stream()
-                .map(product -> {
-                    List<ProductImage> images = productImageRepo.findByProductId(product.getProductId());
-                    return productMapper.toResponseDTO(product, images);
-                })
-                .toList();
+        return toResponseDTOs(products, mode);
+    }
+
+    // Keyset page of products ordered by id, starting after the given cursor
+    public CursorPageDTO<ProductResponseDTO> getProductsPage(int after, Integer size, String imageMode) {
+        ImageMode mode = ImageMode.parse(imageMode, defaultImageMode);
+        int limit = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        List<ProductResponseDTO> products = toResponseDTOs(
+                productRepo.findByProductIdGreaterThanOrderByProductIdAsc(after, PageRequest.of(0, limit)), mode);
+        return CursorPageDTO.of(products, limit, ProductResponseDTO::getProductId);
+    }
+
+    // Keyset page of the browse read model's product columns, for bidding-service's resync
+    public CursorPageDTO<ProductChangeDTO> getBrowseFeedPage(int after, Integer size) {
+        int limit = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        List<ProductChangeDTO> changes = toChangeDTOs(
+                productRepo.findByProductIdGreaterThanOrderByProductIdAsc(after, PageRequest.of(0, limit)));
+        return CursorPageDTO.of(changes, limit, ProductChangeDTO::getProductId);
+    }
+
+    // Current browse columns of the given products; ids that no longer exist come back as deletions
+    public List<ProductChangeDTO> getBrowseFeed(Collection<Integer> productIds) {
+        List<Product> products = productRepo.findAllById(productIds);
+        List<ProductChangeDTO> changes = new ArrayList<>(toChangeDTOs(products));
+        Set<Integer> found = products.stream().map(Product::getProductId).collect(Collectors.toSet());
+        productIds.stream()
+                .filter(productId -> !found.contains(productId))
+                .map(productMapper::toDeletedChange)
+                .forEach(changes::add);
+        return changes;
+    }
+
+    // Writes every product as NDJSON straight off a DB cursor; products are buffered in batches so
+    // their images load with one query per batch, and detached once written so the persistence
+    // context stays small
+    @Transactional(readOnly = true)
+    public void exportProducts(OutputStream out) throws IOException {
+        try (Stream<Product> products = productRepo.streamAllOrderedById();
+             SequenceWriter writer = objectMapper.writer()
+                     .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+            Iterator<Product> it = products.iterator();
+            List<Product> batch = new ArrayList<>(EXPORT_BATCH_SIZE);
+            int rows = 0;
+            while (it.hasNext()) {
+                batch.add(it.next());
+                if (batch.size() == EXPORT_BATCH_SIZE || !it.hasNext()) {
+                    writer.writeAll(toResponseDTOs(batch, ImageMode.REFS));
+                    batch.forEach(entityManager::detach);
+                    rows += batch.size();
+                    batch.clear();
+                }
+            }
+            writer.flush();
+            if (rows > 0) {
+                out.write('\n');
+            }
+            log.info("Exported {} products", rows);
+        }
     }
 
     public ProductResponseDTO addProduct(ProductRequestDTO productDTO, MultipartFile mainImage,
@@ -71,6 +168,7 @@ public class ProductService {
         Product product = productMapper.toEntity(productDTO);
         Product savedProduct = productRepo.save(product);
         log.info("Product saved with ID: {}", savedProduct.getProductId());
+        productCatalogCache.invalidate(ProductCacheInvalidation.ofMembership(null, savedProduct));
 
         // Save main image
         saveProductImage(savedProduct.getProductId(), mainImage);
@@ -84,41 +182,52 @@ public class ProductService {
             }
         }
 
-        List<ProductImage> allImages = productImageRepo.findByProductId(savedProduct.getProductId());
+        List<ProductImageMetadata> allImages = productImageRepo.findMetadataByProductId(savedProduct.getProductId());
         return productMapper.toResponseDTO(savedProduct, allImages);
     }
 
-    public ProductResponseDTO getProductById(int productId) {
+    public ProductResponseDTO getProductById(int productId, String imageMode) {
+        ImageMode mode = ImageMode.parse(imageMode, defaultImageMode);
+        if (mode == ImageMode.REFS) {
+            return productCatalogCache.getProduct(productId, id -> loadProduct(id, mode));
+        }
+        return loadProduct(productId, mode);
+    }
+
+    private ProductResponseDTO loadProduct(int productId, ImageMode mode) {
         Optional<Product> productOpt = productRepo.findById(productId);
         if (productOpt.isPresent()) {
             Product product = productOpt.get();
-            List<ProductImage> images = productImageRepo.findByProductId(productId);
-            return productMapper.toResponseDTO(product, images);
+            List<ProductImageMetadata> images = productImageRepo.findMetadataByProductId(productId);
+            return productMapper.toResponseDTO(product, images, mode);
         }
         throw new RuntimeException("Product not found with ID: " + productId);
     }
 
-    public List<ProductResponseDTO> getProductsByCategory(Product.Category category) {
-        List<Product> products = productRepo.getProductsByCategory(category);
-        return products.stream()
-                .map(product -> {
-                    List<ProductImage> images = productImageRepo.findByProductId(product.getProductId());
-                    return productMapper.toResponseDTO(product, images);
-                })
-                .toList();
+    public List<ProductResponseDTO> getProductsByCategory(Product.Category category, String imageMode) {
+        ImageMode mode = ImageMode.parse(imageMode, defaultImageMode);
+        if (mode != ImageMode.REFS) {
+            return toResponseDTOs(productRepo.getProductsByCategory(category), mode);
+        }
+        List<Integer> productIds = productCatalogCache.getCategoryIds(category,
+                () -> productRepo.findProductIdsByCategory(category));
+        return cachedProducts(productIds);
     }
 
-    public List<ProductResponseDTO> getProductsBySellerId(int sellerId) {
-        if (!productRepo.existsBySellerId(sellerId)) {
+    public List<ProductResponseDTO> getProductsBySellerId(int sellerId, String imageMode) {
+        ImageMode mode = ImageMode.parse(imageMode, defaultImageMode);
+        if (mode != ImageMode.REFS) {
+            if (!productRepo.existsBySellerId(sellerId)) {
+                throw new RuntimeException("Seller not found with ID: " + sellerId);
+            }
+            return toResponseDTOs(productRepo.getProductsBySellerId(sellerId), mode);
+        }
+        List<Integer> productIds = productCatalogCache.getSellerIds(sellerId,
+                () -> productRepo.findProductIdsBySellerId(sellerId));
+        if (productIds.isEmpty()) {
             throw new RuntimeException("Seller not found with ID: " + sellerId);
         }
-        List<Product> products = productRepo.getProductsBySellerId(sellerId);
-        return products.stream()
-                .map(product -> {
-                    List<ProductImage> images = productImageRepo.findByProductId(product.getProductId());
-                    return productMapper.toResponseDTO(product, images);
-                })
-                .toList();
+        return cachedProducts(productIds);
     }
 
     @Transactional
@@ -130,8 +239,12 @@ public class ProductService {
         }
 
         Product existingProduct = existingProductOpt.get();
+        Product before = new Product();
+        before.setCategory(existingProduct.getCategory());
+        before.setSellerId(existingProduct.getSellerId());
         productMapper.updateEntityFromDTO(productDTO, existingProduct);
         Product updatedProduct = productRepo.save(existingProduct);
+        productCatalogCache.invalidate(ProductCacheInvalidation.ofMembership(productId, before, updatedProduct));
 
         // Handle new images if provided
         if (mainImage != null && !mainImage.isEmpty()) {
@@ -148,7 +261,7 @@ public class ProductService {
             }
         }
 
-        List<ProductImage> allImages = productImageRepo.findByProductId(updatedProduct.getProductId());
+        List<ProductImageMetadata> allImages = productImageRepo.findMetadataByProductId(updatedProduct.getProductId());
         return productMapper.toResponseDTO(updatedProduct, allImages);
     }
 
@@ -157,12 +270,43 @@ public class ProductService {
         Optional<Product> productOpt = productRepo.findById(productId);
         if (productOpt.isPresent()) {
             productRepo.deleteById(productId);
+            productCatalogCache.invalidate(ProductCacheInvalidation.ofMembership(productId, productOpt.get()));
             return true;
         }
         return false;
     }
 
     // Helper methods
+
+    // DTOs for an id list in order, taking hits from the catalog cache and loading the misses in one batch
+    private List<ProductResponseDTO> cachedProducts(List<Integer> productIds) {
+        Map<Integer, ProductResponseDTO> byId = productCatalogCache.getProducts(productIds, missing ->
+                toResponseDTOs(productRepo.findAllById(List.copyOf(missing)), ImageMode.REFS).stream()
+                        .collect(Collectors.toMap(ProductResponseDTO::getProductId, dto -> dto)));
+        return productIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // Maps a list of products with all their image metadata fetched in one batched query
+    private List<ProductResponseDTO> toResponseDTOs(List<Product> products, ImageMode mode) {
+        Map<Integer, List<ProductImageMetadata>> images = productImageService.getImageMetadataByProductIds(
+                products.stream().map(Product::getProductId).toList());
+        return products.stream()
+                .map(product -> productMapper.toResponseDTO(
+                        product, images.getOrDefault(product.getProductId(), List.of()), mode))
+                .toList();
+    }
+
+    private List<ProductChangeDTO> toChangeDTOs(List<Product> products) {
+        Map<Integer, List<ProductImageMetadata>> images = productImageService.getImageMetadataByProductIds(
+                products.stream().map(Product::getProductId).toList());
+        return products.stream()
+                .map(product -> productMapper.toChangeDTO(product, images.get(product.getProductId())))
+                .toList();
+    }
+
     private void validateImageSize(MultipartFile image, String imageName) {
         if (image.getSize() > MAX_IMAGE_SIZE) {
             throw new IllegalArgumentException(imageName + " size exceeds 16MB limit. Current size: " +
@@ -171,10 +315,7 @@ public class ProductService {
     }
 
     private void saveProductImage(Integer productId, MultipartFile imageFile) throws IOException {
-        ProductImage productImage = new ProductImage();
-        productImage.setProductId(productId);
-        productImage.setImageData(imageFile.getBytes());
-        productImageRepo.save(productImage);
+        productImageService.saveProductImage(productId, imageFile);
     }
     @Transactional
     public ProductResponseDTO updateProductStatus(int productId, ProductStatusUpdateDTO statusUpdate) {
@@ -208,6 +349,7 @@ public class ProductService {
         // ✅ FLUSH to ensure immediate persistence
         productRepo.flush();
         log.info("✅ Flushed to database");
+        productCatalogCache.invalidate(ProductCacheInvalidation.ofProduct(productId));
 
         // ✅ RE-FETCH from database to verify
         Product verifyProduct = productRepo.findById(productId)
@@ -230,7 +372,7 @@ public class ProductService {
             }
         }
 
-        List<ProductImage> images = productImageRepo.findByProductId(productId);
+        List<ProductImageMetadata> images = productImageRepo.findMetadataByProductId(productId);
         return productMapper.toResponseDTO(verifyProduct, images);
     }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.onepiece.product_service.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Content-addressed storage for product image bytes. Blobs are keyed by the SHA-256 of their
+ * content, so identical uploads share one copy and a key never changes meaning.
+ */
+public interface BlobStore {
+
+    /**
+     * Stream the input into the store and return its content hash. The input is never held in memory.
+     */
+    StoredBlob put(InputStream in) throws IOException;
+
+    /**
+     * Readable handle for a stored blob, or a resource that does not exist if the hash is unknown.
+     */
+    Resource open(String hash);
+
+    /**
+     * Local file behind the blob when the store has one; lets callers hand the file to sendfile.
+     */
+    Optional<Path> localPath(String hash);
+
+    void delete(String hash) throws IOException;
+}
@@ -0,0 +1,150 @@
+package com.onepiece.product_service.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Disk cache for resized image renditions, bounded by total bytes with LRU eviction.
+ * Files live at {root}/{variant}/{hash}.jpg; the access order is rebuilt from file
+ * modification times on startup, so a restart keeps the warm set.
+ */
+@Component
+@Slf4j
+public class DerivativeCache {
+
+    private final Path root;
+    private final long maxBytes;
+
+    // key "variant/hash" -> size in bytes, least recently used first
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    public DerivativeCache(@Value("${product.images.derivatives.root:blobs/derivatives}") String root,
+                           @Value("${product.images.derivatives.cache-max-mb:512}") long maxMb) throws IOException {
+        this.root = Path.of(root).toAbsolutePath();
+        this.maxBytes = maxMb * 1024 * 1024;
+        for (ImageVariant variant : ImageVariant.values()) {
+            Files.createDirectories(this.root.resolve(variant.urlName()));
+        }
+        loadIndex();
+    }
+
+    public synchronized Optional<Path> get(String hash, ImageVariant variant) {
+        String key = key(hash, variant);
+        if (entries.get(key) == null) {
+            return Optional.empty();
+        }
+        Path file = pathFor(hash, variant);
+        if (!Files.isRegularFile(file)) {
+            totalBytes -= entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(file);
+    }
+
+    public synchronized boolean contains(String hash, ImageVariant variant) {
+        return entries.containsKey(key(hash, variant));
+    }
+
+    /**
+     * Move a freshly written rendition into the cache and evict least recently used entries past the limit.
+     */
+    public synchronized void put(String hash, ImageVariant variant, Path written) throws IOException {
+        Path target = pathFor(hash, variant);
+        Files.move(written, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        long size = Files.size(target);
+        Long previous = entries.put(key(hash, variant), size);
+        totalBytes += size - (previous != null ? previous : 0);
+        evictOverLimit();
+    }
+
+    public synchronized void evict(String hash) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            Long size = entries.remove(key(hash, variant));
+            if (size != null) {
+                totalBytes -= size;
+                deleteQuietly(pathFor(hash, variant));
+            }
+        }
+    }
+
+    /**
+     * Scratch file in the cache directory, so the final move is on the same filesystem.
+     */
+    public Path newTempFile() throws IOException {
+        return Files.createTempFile(root, "render-", ".part");
+    }
+
+    private void evictOverLimit() {
+        Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, Long> eldest = it.next();
+            it.remove();
+            totalBytes -= eldest.getValue();
+            deleteQuietly(root.resolve(eldest.getKey() + ".jpg"));
+        }
+    }
+
+    private void loadIndex() throws IOException {
+        for (ImageVariant variant : ImageVariant.values()) {
+            try (Stream<Path> files = Files.list(root.resolve(variant.urlName()))) {
+                files.filter(f -> f.getFileName().toString().endsWith(".jpg"))
+                        .sorted(Comparator.comparing(DerivativeCache::lastModified))
+                        .forEach(f -> {
+                            String name = f.getFileName().toString();
+                            String hash = name.substring(0, name.length() - 4);
+                            long size = sizeOf(f);
+                            entries.put(key(hash, variant), size);
+                            totalBytes += size;
+                        });
+            }
+        }
+        evictOverLimit();
+        log.info("Image derivative cache: {} files, {} KB under {}", entries.size(), totalBytes / 1024, root);
+    }
+
+    private Path pathFor(String hash, ImageVariant variant) {
+        return root.resolve(variant.urlName()).resolve(hash + ".jpg");
+    }
+
+    private static String key(String hash, ImageVariant variant) {
+        return variant.urlName() + "/" + hash;
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete cached rendition {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.onepiece.product_service.storage;
+
+/**
+ * Resized renditions generated for every stored image. Each is bounded by its longest edge
+ * and never upscaled.
+ */
+public enum ImageVariant {
+    THUMBNAIL(200),
+    CARD(600),
+    FULL(1600);
+
+    private final int maxEdge;
+
+    ImageVariant(int maxEdge) {
+        this.maxEdge = maxEdge;
+    }
+
+    public int getMaxEdge() {
+        return maxEdge;
+    }
+
+    public String urlName() {
+        return name().toLowerCase();
+    }
+
+    public static ImageVariant fromUrlName(String name) {
+        for (ImageVariant variant : values()) {
+            if (variant.urlName().equalsIgnoreCase(name)) {
+                return variant;
+            }
+        }
+        throw new IllegalArgumentException("Unknown image variant: " + name + ". Allowed values: thumbnail, card, full");
+    }
+}
@@ -0,0 +1,69 @@
+package com.onepiece.product_service.storage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Moves images still held in the old product_images.image_data LONGBLOB column into the blob
+ * store, one row at a time, then clears the column. Runs once per start and is a no-op when the
+ * column is gone or already drained.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LegacyImageMigrator {
+
+    private static final int BATCH = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlobStore blobStore;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        Integer hasColumn = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE() " +
+                        "AND table_name = 'product_images' AND column_name = 'image_data'", Integer.class);
+        if (hasColumn == null || hasColumn == 0) {
+            return;
+        }
+
+        int moved = 0;
+        List<Integer> ids;
+        do {
+            ids = jdbcTemplate.queryForList(
+                    "SELECT image_id FROM product_images WHERE image_data IS NOT NULL LIMIT " + BATCH, Integer.class);
+            for (Integer id : ids) {
+                StoredBlob blob = jdbcTemplate.query(
+                        "SELECT image_data FROM product_images WHERE image_id = ?",
+                        rs -> {
+                            if (!rs.next()) {
+                                return null;
+                            }
+                            try (InputStream in = rs.getBinaryStream(1)) {
+                                return blobStore.put(in);
+                            } catch (IOException e) {
+                                throw new IllegalStateException("Could not store legacy image " + id, e);
+                            }
+                        }, id);
+                if (blob != null) {
+                    jdbcTemplate.update("UPDATE product_images SET content_hash = ?, size_bytes = ?, " +
+                                    "content_type = COALESCE(content_type, 'image/jpeg'), image_data = NULL WHERE image_id = ?",
+                            blob.hash(), blob.size(), id);
+                    moved++;
+                }
+            }
+        } while (ids.size() == BATCH);
+
+        if (moved > 0) {
+            log.info("Moved {} legacy product images into the blob store", moved);
+        }
+    }
+}
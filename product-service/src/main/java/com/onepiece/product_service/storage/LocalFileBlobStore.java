@@ -0,0 +1,99 @@
+package com.onepiece.product_service.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Blob store on the local filesystem. A blob lives at {root}/ab/cd/abcd... where the path is
+ * its SHA-256; uploads are hashed while they stream into {root}/tmp and then moved into place.
+ */
+@Component
+@ConditionalOnProperty(name = "product.images.store", havingValue = "local", matchIfMissing = true)
+@Slf4j
+public class LocalFileBlobStore implements BlobStore {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+    private final Path tmp;
+
+    public LocalFileBlobStore(@Value("${product.images.local.root:blobs}") String root) throws IOException {
+        this.root = Path.of(root).toAbsolutePath();
+        this.tmp = this.root.resolve("tmp");
+        Files.createDirectories(tmp);
+        log.info("Product images stored under {}", this.root);
+    }
+
+    @Override
+    public StoredBlob put(InputStream in) throws IOException {
+        Path upload = Files.createTempFile(tmp, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (DigestInputStream hashing = new DigestInputStream(in, digest)) {
+                size = Files.copy(hashing, upload, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path target = pathFor(hash);
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(upload, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Same content landed concurrently; the existing copy is identical
+                }
+            }
+            return new StoredBlob(hash, size);
+        } finally {
+            Files.deleteIfExists(upload);
+        }
+    }
+
+    @Override
+    public Resource open(String hash) {
+        return new FileSystemResource(pathFor(hash));
+    }
+
+    @Override
+    public Optional<Path> localPath(String hash) {
+        Path path = pathFor(hash);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    @Override
+    public void delete(String hash) throws IOException {
+        Files.deleteIfExists(pathFor(hash));
+    }
+
+    private Path pathFor(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Invalid blob hash: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.onepiece.product_service.storage;
+
+/**
+ * Result of writing one blob: its SHA-256 (hex) and length in bytes.
+ */
+public record StoredBlob(String hash, long size) {
+}
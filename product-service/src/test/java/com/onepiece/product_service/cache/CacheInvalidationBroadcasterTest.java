@@ -0,0 +1,40 @@
+package com.onepiece.product_service.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Broadcasting refuses to start without a shared token, and the invalidate endpoint only accepts
+ * that token.
+ */
+class CacheInvalidationBroadcasterTest {
+
+    @Test
+    void blankTokenFailsStartup() {
+        CacheInvalidationBroadcaster broadcaster = broadcaster("  ");
+
+        assertThrows(IllegalStateException.class, broadcaster::requireToken);
+    }
+
+    @Test
+    void onlyTheConfiguredTokenIsAccepted() {
+        CacheInvalidationBroadcaster broadcaster = broadcaster("s3cret");
+
+        assertDoesNotThrow(broadcaster::requireToken);
+        assertTrue(broadcaster.acceptsToken("s3cret"));
+        assertFalse(broadcaster.acceptsToken("change-me"));
+        assertFalse(broadcaster.acceptsToken(null));
+    }
+
+    private static CacheInvalidationBroadcaster broadcaster(String token) {
+        CacheInvalidationBroadcaster broadcaster = new CacheInvalidationBroadcaster(new RestTemplateBuilder());
+        ReflectionTestUtils.setField(broadcaster, "token", token);
+        return broadcaster;
+    }
+}
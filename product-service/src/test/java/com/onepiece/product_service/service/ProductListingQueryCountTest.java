@@ -0,0 +1,202 @@
+package com.onepiece.product_service.service;
+
+import com.onepiece.common.dto.ProductChangeDTO;
+import com.onepiece.product_service.cache.ProductCacheInvalidation;
+import com.onepiece.product_service.cache.ProductCatalogCache;
+import com.onepiece.product_service.dto.ImageMode;
+import com.onepiece.product_service.dto.ProductResponseDTO;
+import com.onepiece.product_service.mapper.ProductMapper;
+import com.onepiece.product_service.model.Product;
+import com.onepiece.product_service.model.ProductImageMetadata;
+import com.onepiece.product_service.repo.ProductImageRepo;
+import com.onepiece.product_service.repo.ProductRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Listing endpoints must load images with one batched query per page, however many products it holds,
+ * and cached listings must not go back to the database.
+ */
+class ProductListingQueryCountTest {
+
+    private static final int PAGE = 500;
+
+    private ProductRepo productRepo;
+    private ProductImageRepo productImageRepo;
+    private ProductMapper productMapper;
+    private ProductService productService;
+    private ProductCatalogCache productCatalogCache;
+
+    @BeforeEach
+    void setUp() {
+        productRepo = mock(ProductRepo.class);
+        productImageRepo = mock(ProductImageRepo.class);
+        productMapper = mock(ProductMapper.class);
+
+        ProductImageService productImageService = new ProductImageService();
+        ReflectionTestUtils.setField(productImageService, "productImageRepo", productImageRepo);
+
+        productService = new ProductService();
+        ReflectionTestUtils.setField(productService, "productRepo", productRepo);
+        ReflectionTestUtils.setField(productService, "productImageRepo", productImageRepo);
+        ReflectionTestUtils.setField(productService, "productImageService", productImageService);
+        ReflectionTestUtils.setField(productService, "productMapper", productMapper);
+        ReflectionTestUtils.setField(productService, "defaultPageSize", 50);
+        ReflectionTestUtils.setField(productService, "maxPageSize", PAGE);
+        ReflectionTestUtils.setField(productService, "defaultImageMode", ImageMode.REFS);
+
+        productCatalogCache = new ProductCatalogCache();
+        ReflectionTestUtils.setField(productCatalogCache, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(productCatalogCache, "maxProducts", 10_000L);
+        ReflectionTestUtils.setField(productCatalogCache, "productTtl", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(productCatalogCache, "maxLists", 100L);
+        ReflectionTestUtils.setField(productCatalogCache, "listTtl", Duration.ofMinutes(2));
+        ReflectionTestUtils.setField(productCatalogCache, "eventPublisher", (ApplicationEventPublisher) event -> { });
+        ReflectionTestUtils.invokeMethod(productCatalogCache, "init");
+        ReflectionTestUtils.setField(productService, "productCatalogCache", productCatalogCache);
+
+        when(productMapper.toResponseDTO(any(Product.class), any(), any(ImageMode.class))).thenAnswer(invocation ->
+                ProductResponseDTO.builder().productId(invocation.<Product>getArgument(0).getProductId()).build());
+        when(productImageRepo.findMetadataByProductIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Integer> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .flatMap(id -> IntStream.range(0, 2).mapToObj(n ->
+                            new ProductImageMetadata(id * 10 + n, id, "hash" + id + n, 100L, "image/jpeg")))
+                    .toList();
+        });
+    }
+
+    @Test
+    void getAllProductsUsesOneImageQuery() {
+        when(productRepo.findAll()).thenReturn(products(PAGE));
+
+        assertEquals(PAGE, productService.getAllProducts(null).size());
+
+        assertImagesLoadedInOneQuery();
+    }
+
+    @Test
+    void getProductsPageUsesOneImageQuery() {
+        when(productRepo.findByProductIdGreaterThanOrderByProductIdAsc(eq(0), any(Pageable.class)))
+                .thenReturn(products(PAGE));
+
+        assertEquals(PAGE, productService.getProductsPage(0, PAGE, null).getItems().size());
+
+        assertImagesLoadedInOneQuery();
+    }
+
+    @Test
+    void getBrowseFeedPageUsesOneImageQuery() {
+        when(productRepo.findByProductIdGreaterThanOrderByProductIdAsc(eq(0), any(Pageable.class)))
+                .thenReturn(products(PAGE));
+        when(productMapper.toChangeDTO(any(Product.class), any())).thenAnswer(invocation ->
+                ProductChangeDTO.builder().productId(invocation.<Product>getArgument(0).getProductId()).build());
+
+        assertEquals(PAGE, productService.getBrowseFeedPage(0, PAGE).getItems().size());
+
+        assertImagesLoadedInOneQuery();
+    }
+
+    @Test
+    void getProductsByCategoryUsesOneImageQuery() {
+        List<Product> products = products(PAGE);
+        when(productRepo.findProductIdsByCategory(Product.Category.Antique)).thenReturn(ids(products));
+        when(productRepo.findAllById(anyIterable())).thenReturn(products);
+
+        assertEquals(PAGE, productService.getProductsByCategory(Product.Category.Antique, null).size());
+
+        assertImagesLoadedInOneQuery();
+    }
+
+    @Test
+    void cachedCategoryListingSkipsTheDatabase() {
+        List<Product> products = products(PAGE);
+        when(productRepo.findProductIdsByCategory(Product.Category.Antique)).thenReturn(ids(products));
+        when(productRepo.findAllById(anyIterable())).thenReturn(products);
+
+        productService.getProductsByCategory(Product.Category.Antique, null);
+        assertEquals(PAGE, productService.getProductsByCategory(Product.Category.Antique, null).size());
+
+        verify(productRepo, times(1)).findProductIdsByCategory(Product.Category.Antique);
+        verify(productRepo, times(1)).findAllById(anyIterable());
+        assertImagesLoadedInOneQuery();
+    }
+
+    @Test
+    void invalidationReloadsOnlyTheTouchedProduct() {
+        List<Product> products = products(PAGE);
+        when(productRepo.findProductIdsBySellerId(7)).thenReturn(ids(products));
+        when(productRepo.findAllById(anyIterable())).thenReturn(products);
+        productService.getProductsBySellerId(7, null);
+
+        productCatalogCache.invalidate(ProductCacheInvalidation.ofProduct(42));
+        when(productRepo.findAllById(anyIterable())).thenReturn(List.of(products.get(41)));
+        assertEquals(PAGE, productService.getProductsBySellerId(7, null).size());
+
+        verify(productRepo, times(1)).findProductIdsBySellerId(7);
+        verify(productRepo).findAllById(List.of(42));
+    }
+
+    @Test
+    void getProductsBySellerIdUsesOneImageQuery() {
+        List<Product> products = products(PAGE);
+        when(productRepo.findProductIdsBySellerId(7)).thenReturn(ids(products));
+        when(productRepo.findAllById(anyIterable())).thenReturn(products);
+
+        assertEquals(PAGE, productService.getProductsBySellerId(7, null).size());
+
+        assertImagesLoadedInOneQuery();
+    }
+
+    @Test
+    void imagesAreGroupedByProduct() {
+        when(productRepo.findAll()).thenReturn(products(3));
+
+        productService.getAllProducts(null);
+
+        for (int id = 1; id <= 3; id++) {
+            verify(productMapper).toResponseDTO(any(Product.class), eq(List.of(
+                    new ProductImageMetadata(id * 10, id, "hash" + id + 0, 100L, "image/jpeg"),
+                    new ProductImageMetadata(id * 10 + 1, id, "hash" + id + 1, 100L, "image/jpeg"))), eq(ImageMode.REFS));
+        }
+    }
+
+    private void assertImagesLoadedInOneQuery() {
+        verify(productImageRepo, times(1)).findMetadataByProductIdIn(anyCollection());
+        verify(productImageRepo, never()).findMetadataByProductId(anyInt());
+        verify(productImageRepo, never()).findByProductId(anyInt());
+    }
+
+    private static List<Integer> ids(List<Product> products) {
+        return products.stream().map(Product::getProductId).toList();
+    }
+
+    private static List<Product> products(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(id -> {
+            Product product = new Product();
+            product.setProductId(id);
+            return product;
+        }).toList();
+    }
+}
@@ -1,5 +1,6 @@
 package com.onepiece.reviewservice.controller;
 
+import com.onepiece.common.dto.CursorPageDTO;
 import com.onepiece.reviewservice.dto.ReviewRequestDTO;
 import com.onepiece.reviewservice.dto.ReviewResponseDTO;
 import com.onepiece.reviewservice.service.ReviewService;
@@ -7,8 +8,10 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -29,6 +32,19 @@ public class ReviewController {
     public ResponseEntity<List<ReviewResponseDTO>> getAllReviews(){
         return new ResponseEntity<>(reviewService.findAll(), HttpStatus.OK);
     }
+
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDTO<ReviewResponseDTO>> getReviewsPage(@RequestParam(defaultValue = "0") Integer after,
+                                                                          @RequestParam(required = false) Integer size){
+        return new ResponseEntity<>(reviewService.findPage(after, size), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportReviews(){
+        StreamingResponseBody body = reviewService::exportAll;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/{id}")
     public  ResponseEntity<?> getReview(@PathVariable Integer id){
         ReviewResponseDTO respDTO = reviewService.getReviewById(id);
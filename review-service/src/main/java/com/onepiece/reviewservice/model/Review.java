@@ -1,6 +1,7 @@
 package com.onepiece.reviewservice.model;
 
 
+import com.onepiece.common.id.PooledIds;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -37,7 +38,8 @@ public class Review {
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reviews_seq")
+    @SequenceGenerator(name = "reviews_seq", sequenceName = "reviews_seq", allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "review_id")
     private Integer id;
 
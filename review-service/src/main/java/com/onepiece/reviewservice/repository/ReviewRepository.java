@@ -1,11 +1,16 @@
 package com.onepiece.reviewservice.repository;
 
 import com.onepiece.reviewservice.model.Review;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ReviewRepository extends JpaRepository<Review,Integer> {
     @Query("SELECT r FROM Review r WHERE r.sellerId = :sellerId AND r.createdBy = r.buyerId")
@@ -13,4 +18,11 @@ public interface ReviewRepository extends JpaRepository<Review,Integer> {
 
     @Query("SELECT r FROM Review r WHERE r.buyerId=:buyerId AND r.createdBy = r.sellerId")
     List<Review> findSellerReviewsForBuyer(@Param("buyerId") Integer buyerId);
+
+    List<Review> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
+
+    // export cursor, fetched from MySQL in chunks (useCursorFetch=true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT r FROM Review r ORDER BY r.id")
+    Stream<Review> streamAllOrderedById();
 }
@@ -1,8 +1,11 @@
 package com.onepiece.reviewservice.service;
 
+import com.onepiece.common.dto.CursorPageDTO;
 import com.onepiece.reviewservice.dto.ReviewRequestDTO;
 import com.onepiece.reviewservice.dto.ReviewResponseDTO;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface ReviewService {
@@ -17,6 +20,10 @@ public interface ReviewService {
 
     List<ReviewResponseDTO> findAll();
 
+    CursorPageDTO<ReviewResponseDTO> findPage(Integer after, Integer size);
+
+    void exportAll(OutputStream out) throws IOException;
+
     List<ReviewResponseDTO> getMySellerReviews(Integer id);
 
     ReviewResponseDTO getReviewById(Integer id);
@@ -1,23 +1,46 @@
 package com.onepiece.reviewservice.service.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.onepiece.common.dto.CursorPageDTO;
 import com.onepiece.reviewservice.dto.ReviewRequestDTO;
 import com.onepiece.reviewservice.dto.ReviewResponseDTO;
 import com.onepiece.reviewservice.model.Review;
 import com.onepiece.reviewservice.repository.ReviewRepository;
 import com.onepiece.reviewservice.service.ReviewService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class ReviewServiceImpl implements ReviewService{
     public final ReviewRepository reviewRepository;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${pagination.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${pagination.max-page-size:500}")
+    private int maxPageSize;
 
     @Override
     public ReviewResponseDTO createReview(ReviewRequestDTO reviewRequestDTO) {
@@ -153,4 +176,47 @@ public class ReviewServiceImpl implements ReviewService{
                                     .collect(Collectors.toList());
         return reviewDTO;
     }
+
+    @Override
+    public CursorPageDTO<ReviewResponseDTO> findPage(Integer after, Integer size) {
+        int limit = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        List<ReviewResponseDTO> page = reviewRepository
+                .findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, limit))
+                .stream()
+                .map(this::toResponseDTO)
+                .toList();
+        return CursorPageDTO.of(page, limit, ReviewResponseDTO::getId);
+    }
+
+    // writes every review as NDJSON straight off a DB cursor, detaching rows as they are written
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(OutputStream out) throws IOException {
+        try (Stream<Review> reviews = reviewRepository.streamAllOrderedById();
+             SequenceWriter writer = objectMapper.writer()
+                     .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+            Iterator<Review> it = reviews.iterator();
+            int rows = 0;
+            while (it.hasNext()) {
+                Review review = it.next();
+                writer.write(toResponseDTO(review));
+                entityManager.detach(review);
+                rows++;
+            }
+            writer.flush();
+            if (rows > 0) {
+                out.write('\n');
+            }
+            log.info("Exported {} reviews", rows);
+        }
+    }
+
+    private ReviewResponseDTO toResponseDTO(Review e) {
+        return new ReviewResponseDTO(e.getId(),
+                e.getBuyerId(), e.getSellerId(),
+                e.getAuctionId(), e.getReview(), e.getRating(),
+                e.getCreatedAt(), e.getUpdatedAt(), e.getCreatedBy(), e.getUpdatedBy());
+    }
 }
@@ -0,0 +1,102 @@
+package com.onepiece.reviewservice;
+
+import com.onepiece.common.benchmark.DatabaseBenchmark;
+import com.onepiece.common.benchmark.InsertThroughputBenchmark;
+import com.onepiece.reviewservice.model.Review;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Review inserts: IDENTITY vs the pooled reviews_seq.
+ */
+@DatabaseBenchmark
+class ReviewInsertThroughputBenchmark extends InsertThroughputBenchmark {
+
+    @Override
+    protected String name() {
+        return "REVIEWS_INSERT";
+    }
+
+    @Override
+    protected String table() {
+        return "reviews";
+    }
+
+    @Override
+    protected String idColumn() {
+        return "review_id";
+    }
+
+    @Override
+    protected String identityTable() {
+        return "reviews_identity_benchmark";
+    }
+
+    @Override
+    protected String markerColumn() {
+        return "auction_id";
+    }
+
+    @Override
+    protected Object pooledRow(int i, int marker) {
+        return new Review(10_000 + i % 500, 1, marker, "Benchmark review " + i, 4.5f, 1, 1);
+    }
+
+    @Override
+    protected Object identityRow(int i, int marker) {
+        return new IdentityReview(10_000 + i % 500, 1, marker, "Benchmark review " + i, 4.5f);
+    }
+
+    // The columns Review writes, keyed the way it was before pooled ids
+    @Entity
+    @Table(name = "reviews_identity_benchmark")
+    @Getter
+    @NoArgsConstructor
+    static class IdentityReview {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        @Column(name = "review_id")
+        private Integer id;
+
+        @Column(name = "buyer_id", nullable = false)
+        private Integer buyerId;
+
+        @Column(name = "seller_id", nullable = false)
+        private Integer sellerId;
+
+        @Column(name = "auction_id", nullable = false)
+        private Integer auctionId;
+
+        @Column(nullable = false, length = 1000)
+        private String review;
+
+        @Column(nullable = false)
+        private Float rating;
+
+        @Version
+        @Column(name = "version")
+        private Long version = 1L;
+
+        @Column(name = "created_by", updatable = false)
+        private Integer createdBy = 1;
+
+        @Column(name = "updated_by")
+        private Integer updatedBy = 1;
+
+        IdentityReview(Integer buyerId, Integer sellerId, Integer auctionId, String review, Float rating) {
+            this.buyerId = buyerId;
+            this.sellerId = sellerId;
+            this.auctionId = auctionId;
+            this.review = review;
+            this.rating = rating;
+        }
+    }
+}